@@ -0,0 +1,229 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.util.LatencyHistogram;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint timeouts and hedging delays derived from observed latency
+ * 
+ * Each endpoint keeps a sliding latency histogram. Its timeout is the timeout
+ * percentile (p99 by default) times TIMEOUT_MULTIPLIER, clamped between the
+ * floor and the ceiling; until MIN_SAMPLES latencies are known the ceiling is
+ * used. Idempotent reads that take longer than the hedge percentile (p95 by
+ * default) get a second, hedged request, limited to HEDGE_BUDGET of all reads.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class AdaptiveTimeouts {
+
+    /** Default timeout percentile */
+    public static final double DEFAULT_TIMEOUT_PERCENTILE = 0.99;
+    
+    /** Default hedge percentile */
+    public static final double DEFAULT_HEDGE_PERCENTILE = 0.95;
+    
+    /** Default lower bound for timeouts in milliseconds */
+    public static final long DEFAULT_FLOOR_MILLIS = 250L;
+    
+    /** Headroom applied to the timeout percentile */
+    public static final double TIMEOUT_MULTIPLIER = 2.0;
+    
+    /** Samples needed before an endpoint's percentiles are trusted */
+    public static final int MIN_SAMPLES = 50;
+    
+    /** Maximum share of reads that may be hedged */
+    public static final double HEDGE_BUDGET = 0.05;
+    
+    /** Latency window per endpoint */
+    private static final long WINDOW_SECONDS = 60L;
+    
+    /** How long computed values are reused before the histogram is read again */
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    /** Lower bound for timeouts */
+    private final long floorMillis;
+    
+    /** Upper bound for timeouts */
+    private final long ceilingMillis;
+    
+    /** Percentile used for timeouts */
+    private final double timeoutPercentile;
+    
+    /** Percentile used for hedging, or 0 to disable hedging */
+    private final double hedgePercentile;
+    
+    /** Statistics by endpoint */
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    
+    /** Reads eligible for hedging */
+    private final LongAdder reads = new LongAdder();
+    
+    /** Hedged requests sent */
+    private final LongAdder hedges = new LongAdder();
+
+    /**
+     * Create adaptive timeouts with default percentiles and floor
+     * 
+     * @param ceilingMillis Upper bound for any timeout, used until enough latencies are known
+     */
+    public AdaptiveTimeouts(long ceilingMillis) {
+        this(DEFAULT_FLOOR_MILLIS, ceilingMillis, DEFAULT_TIMEOUT_PERCENTILE, DEFAULT_HEDGE_PERCENTILE);
+    }
+
+    /**
+     * Create adaptive timeouts
+     * 
+     * @param floorMillis Lower bound for any timeout
+     * @param ceilingMillis Upper bound for any timeout, used until enough latencies are known
+     * @param timeoutPercentile Percentile the timeout is derived from, e.g. 0.99
+     * @param hedgePercentile Percentile after which reads are hedged, e.g. 0.95, or 0 to disable hedging
+     */
+    public AdaptiveTimeouts(long floorMillis, long ceilingMillis, double timeoutPercentile, double hedgePercentile) {
+        if (floorMillis <= 0 || ceilingMillis < floorMillis) {
+            throw new IllegalArgumentException("Floor must be positive and not above the ceiling");
+        }
+        if (timeoutPercentile <= 0 || timeoutPercentile > 1) {
+            throw new IllegalArgumentException("Timeout percentile must be in (0, 1]");
+        }
+        if (hedgePercentile < 0 || hedgePercentile > 1) {
+            throw new IllegalArgumentException("Hedge percentile must be in [0, 1]");
+        }
+        this.floorMillis = floorMillis;
+        this.ceilingMillis = ceilingMillis;
+        this.timeoutPercentile = timeoutPercentile;
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    /**
+     * Get the timeout for the next request to an endpoint
+     * 
+     * @param endpoint API endpoint
+     * @return timeout in milliseconds
+     */
+    public long timeoutMillis(String endpoint) {
+        return stats(endpoint).refresh().timeoutMillis;
+    }
+
+    /**
+     * Get how long a read waits before it is hedged
+     * 
+     * @param endpoint API endpoint
+     * @return delay in milliseconds, or -1 if the read should not be hedged
+     */
+    public long hedgeDelayMillis(String endpoint) {
+        if (hedgePercentile == 0) {
+            return -1L;
+        }
+        return stats(endpoint).refresh().hedgeDelayMillis;
+    }
+
+    /**
+     * Record the latency of a completed request
+     * 
+     * @param endpoint API endpoint
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(String endpoint, long nanos) {
+        stats(endpoint).histogram.record(nanos);
+    }
+
+    /**
+     * Get an observed latency percentile
+     * 
+     * @param endpoint API endpoint
+     * @param percentile Percentile between 0 and 1
+     * @return latency in milliseconds, or -1 if nothing was recorded
+     */
+    public double percentileMillis(String endpoint, double percentile) {
+        long micros = stats(endpoint).histogram.percentileMicros(percentile);
+        return micros < 0 ? -1.0 : micros / 1000.0;
+    }
+
+    /**
+     * Get the number of hedged requests sent
+     * 
+     * @return hedge count
+     */
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * Count a read that may be hedged
+     */
+    void countRead() {
+        reads.increment();
+    }
+
+    /**
+     * Take a hedge from the budget
+     * 
+     * @return true if a hedged request may be sent
+     */
+    boolean tryHedge() {
+        if (hedges.sum() + 1 > Math.max(1.0, reads.sum() * HEDGE_BUDGET)) {
+            return false;
+        }
+        hedges.increment();
+        return true;
+    }
+
+    /**
+     * Get or create an endpoint's statistics
+     * 
+     * @param endpoint API endpoint
+     * @return EndpointStats instance
+     */
+    private EndpointStats stats(String endpoint) {
+        EndpointStats stats = endpoints.get(endpoint);
+        return stats != null ? stats : endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    /**
+     * Latency histogram and cached limits for one endpoint
+     */
+    private final class EndpointStats {
+
+        /** Observed latencies */
+        private final LatencyHistogram histogram = new LatencyHistogram(WINDOW_SECONDS, TimeUnit.SECONDS);
+        
+        /** Cached timeout */
+        private volatile long timeoutMillis = ceilingMillis;
+        
+        /** Cached hedge delay, -1 while unknown */
+        private volatile long hedgeDelayMillis = -1L;
+        
+        /** When the cached values were computed */
+        private volatile long refreshedAtNanos = System.nanoTime() - REFRESH_NANOS;
+        
+        /**
+         * Recompute the cached values if they are stale
+         * 
+         * @return this instance
+         */
+        EndpointStats refresh() {
+            long now = System.nanoTime();
+            if (now - refreshedAtNanos < REFRESH_NANOS) {
+                return this;
+            }
+            refreshedAtNanos = now;
+            
+            if (histogram.count() < MIN_SAMPLES) {
+                timeoutMillis = ceilingMillis;
+                hedgeDelayMillis = -1L;
+                return this;
+            }
+            long timeout = (long) Math.ceil(histogram.percentileMicros(timeoutPercentile) * TIMEOUT_MULTIPLIER / 1000.0);
+            timeoutMillis = Math.max(floorMillis, Math.min(ceilingMillis, timeout));
+            if (hedgePercentile > 0) {
+                long hedgeDelay = (long) Math.ceil(histogram.percentileMicros(hedgePercentile) / 1000.0);
+                hedgeDelayMillis = Math.max(1L, Math.min(timeoutMillis, hedgeDelay));
+            }
+            return this;
+        }
+    }
+}
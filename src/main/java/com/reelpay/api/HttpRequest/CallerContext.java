@@ -0,0 +1,100 @@
+package com.reelpay.api.HttpRequest;
+
+/**
+ * Deadline and RequestPriority of a calling thread, to be carried over to worker threads
+ * 
+ * Bulk and streaming operations capture the context on the thread that starts them
+ * and enter it on every worker thread that makes a call on their behalf.
+ * 
+ * <pre>
+ * CallerContext context = CallerContext.capture(RequestPriority.BACKGROUND);
+ * executor.execute(() -> {
+ *     try (CallerContext.Scope scope = context.enter()) {
+ *         transactions.queryOrderInfo(tradeNo);
+ *     }
+ * });
+ * </pre>
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class CallerContext {
+
+    /** Deadline of the calling thread, or null if none was set */
+    private final Deadline deadline;
+    
+    /** Priority of the calling thread, or the default */
+    private final RequestPriority priority;
+
+    private CallerContext(Deadline deadline, RequestPriority priority) {
+        this.deadline = deadline;
+        this.priority = priority;
+    }
+
+    /**
+     * Capture the deadline and priority in effect on the current thread
+     * 
+     * @param defaultPriority Priority to use if the thread has none
+     * @return CallerContext instance
+     */
+    public static CallerContext capture(RequestPriority defaultPriority) {
+        if (defaultPriority == null) {
+            throw new IllegalArgumentException("Default priority cannot be null");
+        }
+        RequestPriority priority = RequestPriority.current();
+        return new CallerContext(Deadline.current(), priority != null ? priority : defaultPriority);
+    }
+
+    /**
+     * Get the captured deadline
+     * 
+     * @return Deadline, or null if none was set
+     */
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Get the captured priority
+     * 
+     * @return priority class
+     */
+    public RequestPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Make the captured deadline and priority current on the calling thread until the scope is closed
+     * 
+     * @return Scope restoring the previous deadline and priority on close
+     */
+    public Scope enter() {
+        Deadline.Scope deadlineScope = deadline != null ? deadline.enter() : null;
+        return new Scope(deadlineScope, priority.enter());
+    }
+
+    /**
+     * Open caller context scope
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /** Deadline scope to close, or null */
+        private final Deadline.Scope deadlineScope;
+        
+        /** Priority scope to close */
+        private final RequestPriority.Scope priorityScope;
+        
+        private Scope(Deadline.Scope deadlineScope, RequestPriority.Scope priorityScope) {
+            this.deadlineScope = deadlineScope;
+            this.priorityScope = priorityScope;
+        }
+        
+        @Override
+        public void close() {
+            priorityScope.close();
+            if (deadlineScope != null) {
+                deadlineScope.close();
+            }
+        }
+    }
+}
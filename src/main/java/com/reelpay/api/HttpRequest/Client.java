@@ -4,15 +4,34 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import com.reelpay.api.constants.ReelPayConstants;
-import okhttp3.*;
+import com.reelpay.api.util.HmacSigner;
+import com.reelpay.api.util.RateLimiter;
+import com.reelpay.api.util.SdkEvents;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Base HTTP client for ReelPay API requests
@@ -25,14 +44,6 @@ import java.util.concurrent.TimeUnit;
  */
 public class Client {
     
-    /** HTTP client instance with optimized configuration */
-    private static final OkHttpClient HTTP_CLIENT = new OkHttpClient.Builder()
-            .connectTimeout(30, TimeUnit.SECONDS)
-            .readTimeout(60, TimeUnit.SECONDS)
-            .writeTimeout(30, TimeUnit.SECONDS)
-            .retryOnConnectionFailure(true)
-            .build();
-    
     /** Logger instance for this class */
     private static final Logger logger = LogManager.getLogger(Client.class);
     
@@ -44,6 +55,27 @@ public class Client {
     
     /** Base URL for API endpoints */
     protected String baseUrl;
+    
+    /** Minimum request body size in bytes to gzip, or COMPRESSION_DISABLED */
+    protected int compressionThreshold = ReelPayConstants.COMPRESSION_DISABLED;
+    
+    /** HTTP transport, or null to use the shared OkHttp transport */
+    protected Transport transport;
+    
+    /** Client-side rate limiter, or null for no limit */
+    protected RateLimiter rateLimiter;
+    
+    /** Latency-driven timeouts and hedging, or null for the transport's fixed timeouts */
+    protected AdaptiveTimeouts adaptiveTimeouts;
+    
+    /** Equivalent base URLs to balance across, or null to use baseUrl only */
+    protected EndpointPool endpointPool;
+    
+    /** Priority-aware admission control, or null to send requests immediately */
+    protected RequestScheduler scheduler;
+    
+    /** Signing keys for the application, created on first use */
+    private volatile KeyRing keyRing;
 
     /**
      * Make an authenticated HTTP request to the ReelPay API
@@ -54,36 +86,654 @@ public class Client {
      * @throws RuntimeException if request fails or response is invalid
      */
     protected JsonObject request(String endpoint, JsonObject requestBody) {
+        return request(endpoint, requestBody, false);
+    }
+
+    /**
+     * Make an authenticated HTTP request, optionally failing over between endpoints
+     * 
+     * @param endpoint API endpoint path
+     * @param requestBody JSON request body
+     * @param retrySafe Whether the request may be resent after it might have reached the server
+     * @return JsonObject API response
+     * @throws RuntimeException if request fails or response is invalid
+     */
+    private JsonObject request(String endpoint, JsonObject requestBody, boolean retrySafe) {
         validateRequestParameters(endpoint, requestBody);
+        return send(endpoint, () -> prepareRequest(endpoint, requestBody), retrySafe);
+    }
+
+    /**
+     * Make an authenticated HTTP request with a body that is already encoded
+     * 
+     * The bytes are signed and sent as they are, so callers that assemble request
+     * bodies from pre-encoded fragments skip building and serializing a JsonObject.
+     * 
+     * @param endpoint API endpoint path (e.g., "/v1/transactions/entrust")
+     * @param encodedBody UTF-8 encoded JSON request body, not modified afterwards
+     * @return JsonObject API response
+     * @throws RuntimeException if request fails or response is invalid
+     */
+    protected JsonObject requestEncoded(String endpoint, byte[] encodedBody) {
+        validateRequestParameters(endpoint, encodedBody);
+        return send(endpoint, () -> prepareEncodedRequest(endpoint, encodedBody), false);
+    }
+
+    /**
+     * Admit, prepare and execute a request
+     * 
+     * @param endpoint API endpoint path
+     * @param preparer Signs the body and builds the transport request
+     * @param retrySafe Whether the request may be resent after it might have reached the server
+     * @return JsonObject API response
+     * @throws RuntimeException if request fails or response is invalid
+     */
+    private JsonObject send(String endpoint, RequestPreparer preparer, boolean retrySafe) {
+        try {
+            acquirePermit();
+            RequestScheduler.Permit permit = admit(endpoint);
+            try {
+                // Sign only once admitted, so queueing does not age the timestamp
+                TransportRequest httpRequest = preparer.prepare();
+                
+                // Execute request and handle response
+                return executeRequest(endpoint, httpRequest, retrySafe);
+            } finally {
+                permit.release();
+            }
+            
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Request failed for endpoint {}: {}", endpoint, e.getMessage(), e);
+            throw new RuntimeException("API request failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Make an authenticated HTTP request to the ReelPay API without blocking
+     * 
+     * Rate limiting and signing happen on the calling thread; the response is parsed
+     * on the transport's callback thread. Cancelling the returned future cancels the call.
+     * 
+     * @param endpoint API endpoint path (e.g., "/v1/transactions/pay")
+     * @param requestBody JSON request body
+     * @return future completed with the API response, or exceptionally with a RuntimeException
+     */
+    protected CompletableFuture<JsonObject> requestAsync(String endpoint, JsonObject requestBody) {
+        validateRequestParameters(endpoint, requestBody);
+        CompletableFuture<JsonObject> result = new CompletableFuture<>();
         
+        TransportRequest httpRequest;
+        RequestScheduler.Permit permit = RequestScheduler.Permit.NONE;
         try {
-            // Generate HMAC signature
-            Cover cover = new Cover(this.appKey, requestBody.toString());
-            cover.hmacSHA256Sign();
+            acquirePermit();
+            permit = admit(endpoint);
+            httpRequest = prepareRequest(endpoint, requestBody);
+        } catch (Exception e) {
+            permit.release();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            failAsync(result, endpoint, e);
+            return result;
+        }
+        
+        RequestScheduler.Permit admitted = permit;
+        CompletableFuture<TransportResponse> call = sendAsync(endpoint, httpRequest, selectEndpoint(null));
+        call.whenComplete((response, error) -> {
+            admitted.release();
+            if (error != null) {
+                failAsync(result, endpoint, error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+            try (TransportResponse completed = response) {
+                result.complete(readResponse(httpRequest, completed));
+            } catch (Exception e) {
+                failAsync(result, endpoint, e);
+            }
+        });
+        
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
 
-            // Build request headers
-            Map<String, String> headers = buildRequestHeaders(cover);
+    /**
+     * Make an idempotent read, hedging it when it is slower than usual
+     * 
+     * With adaptive timeouts configured, a second identical request is sent once the
+     * first has taken longer than the endpoint's hedge percentile, to another base URL
+     * when an endpoint pool is configured. The first successful response wins and the
+     * other call is cancelled; a failure or 5xx answer from one call falls back to the
+     * other. A read that fails or answers 5xx before it is hedged fails over to another
+     * base URL, as unhedged requests do. Only use this for requests that are safe to
+     * send twice.
+     * 
+     * @param endpoint API endpoint path
+     * @param requestBody JSON request body
+     * @return JsonObject API response
+     * @throws RuntimeException if request fails or response is invalid
+     */
+    protected JsonObject requestIdempotent(String endpoint, JsonObject requestBody) {
+        AdaptiveTimeouts timeouts = adaptiveTimeouts;
+        if (timeouts == null) {
+            return request(endpoint, requestBody, true);
+        }
+        timeouts.countRead();
+        long hedgeDelay = timeouts.hedgeDelayMillis(endpoint);
+        if (hedgeDelay < 0) {
+            return request(endpoint, requestBody, true);
+        }
+        validateRequestParameters(endpoint, requestBody);
+        
+        CompletableFuture<TransportResponse> primary = null;
+        CompletableFuture<TransportResponse> hedge = null;
+        RequestScheduler.Permit permit = RequestScheduler.Permit.NONE;
+        try {
+            acquirePermit();
+            permit = admit(endpoint);
+            TransportRequest httpRequest = prepareRequest(endpoint, requestBody);
+            EndpointPool.Endpoint primaryTarget = selectEndpoint(null);
+            primary = sendAsync(endpoint, httpRequest, primaryTarget);
             
-            // Create HTTP request
-            Request httpRequest = buildHttpRequest(endpoint, headers, cover.getBody());
+            CompletableFuture<TransportResponse> call = primary;
+            try {
+                primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (timeouts.tryHedge()) {
+                    logger.debug("Hedging request to {} after {} ms", endpoint, hedgeDelay);
+                    hedge = sendAsync(endpoint, httpRequest, selectEndpoint(primaryTarget));
+                    call = firstSuccessful(primary, hedge);
+                }
+            } catch (ExecutionException e) {
+                // The primary failed early; handled with its outcome below
+            }
             
-            // Execute request and handle response
-            return executeRequest(httpRequest);
+            TransportResponse response;
+            try {
+                response = await(call);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (hedge != null || !canFailOverRead(primaryTarget)) {
+                    throw e;
+                }
+                logger.warn("Request to {} failed, failing over: {}", endpoint, e.getMessage());
+                response = null;
+            }
+            if (response != null && response.getStatusCode() >= 500 && hedge == null && canFailOverRead(primaryTarget)) {
+                logger.warn("Request to {} answered {}, failing over", endpoint, response.getStatusCode());
+                closeQuietly(response);
+                response = null;
+            }
+            if (response == null) {
+                hedge = sendAsync(endpoint, httpRequest, selectEndpoint(primaryTarget));
+                response = await(hedge);
+            }
+            
+            try (TransportResponse completed = response) {
+                return readResponse(httpRequest, completed);
+            }
             
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             logger.error("Request failed for endpoint {}: {}", endpoint, e.getMessage(), e);
             throw new RuntimeException("API request failed: " + e.getMessage(), e);
+        } finally {
+            // Cancels the losing call; a no-op for the one that completed
+            if (primary != null) {
+                primary.cancel(true);
+            }
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+            permit.release();
         }
     }
 
     /**
-     * Validate request parameters
+     * Wait for the scheduler to admit a request, if one is configured
+     * 
+     * @param endpoint API endpoint, which decides the priority unless a scope is open
+     * @return Permit to release when the request completes
+     * @throws InterruptedException if interrupted while queued
+     * @throws InterruptedIOException if the caller's deadline passes while queued
+     */
+    private RequestScheduler.Permit admit(String endpoint) throws InterruptedException, InterruptedIOException {
+        RequestScheduler current = scheduler;
+        if (current == null) {
+            return RequestScheduler.Permit.NONE;
+        }
+        RequestPriority priority = RequestPriority.current();
+        return current.acquire(priority != null ? priority : RequestPriority.forEndpoint(endpoint));
+    }
+
+    /**
+     * Send a request asynchronously, tracking its latency and endpoint health
+     * 
+     * @param endpoint API endpoint path
+     * @param request Prepared request
+     * @param target Endpoint to send to, or null to use the request's URL
+     * @return transport call
+     */
+    private CompletableFuture<TransportResponse> sendAsync(String endpoint, TransportRequest request,
+                                                           EndpointPool.Endpoint target) {
+        TransportRequest attempt = target != null ? request.withUrl(target.getUrl() + endpoint) : request;
+        logger.debug("Making async request to: {}", attempt.getUrl());
+        
+        long start = System.nanoTime();
+        Object event = SdkEvents.beginHttpExchange();
+        if (target != null) {
+            target.begin();
+        }
+        CompletableFuture<TransportResponse> call = transport().executeAsync(attempt);
+        call.whenComplete((response, error) -> {
+            recordLatency(endpoint, start);
+            if (error != null) {
+                SdkEvents.endHttpExchange(event, endpoint, attempt.getUrl(), 0, bodyLength(attempt), 0);
+            }
+            if (target == null) {
+                return;
+            }
+            if (error instanceof CancellationException) {
+                // Cancelled hedges and callers say nothing about the endpoint
+                target.abandon();
+            } else {
+                target.complete(System.nanoTime() - start, error == null && response.getStatusCode() < 500);
+            }
+        });
+        return event != null ? countedCall(call, event, endpoint, attempt) : call;
+    }
+
+    /**
+     * Hand out a call's response with its body counted for the HttpExchange event
+     * 
+     * @param call Transport call
+     * @param event Token from {@link SdkEvents#beginHttpExchange()}
+     * @param endpoint API endpoint path
+     * @param attempt Request sent
+     * @return future of the counted response; cancelling it cancels the call
+     */
+    private static CompletableFuture<TransportResponse> countedCall(CompletableFuture<TransportResponse> call, Object event,
+                                                                    String endpoint, TransportRequest attempt) {
+        CompletableFuture<TransportResponse> counted = new CompletableFuture<>();
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                counted.completeExceptionally(error);
+                return;
+            }
+            TransportResponse wrapped = countedResponse(response, event, endpoint, attempt);
+            if (!counted.complete(wrapped)) {
+                closeQuietly(wrapped);
+            }
+        });
+        counted.whenComplete((response, error) -> {
+            if (counted.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return counted;
+    }
+
+    /**
+     * Count a response's body and record the HttpExchange event when it is closed
+     * 
+     * @param response Response to wrap
+     * @param event Token from {@link SdkEvents#beginHttpExchange()}
+     * @param endpoint API endpoint path
+     * @param attempt Request that produced the response
+     * @return response reading through a byte counter
+     */
+    private static TransportResponse countedResponse(TransportResponse response, Object event, String endpoint,
+                                                     TransportRequest attempt) {
+        CountingInputStream body = new CountingInputStream(response.getBody());
+        AtomicBoolean recorded = new AtomicBoolean();
+        return new TransportResponse(response.getStatusCode(), body, () -> {
+            try {
+                response.close();
+            } finally {
+                if (recorded.compareAndSet(false, true)) {
+                    SdkEvents.endHttpExchange(event, endpoint, attempt.getUrl(), response.getStatusCode(),
+                            bodyLength(attempt), body.getCount());
+                }
+            }
+        });
+    }
+
+    /**
+     * Choose a base URL from the endpoint pool
+     * 
+     * @param exclude Endpoint to avoid, or null
+     * @return selected endpoint, or null without a pool
+     */
+    private EndpointPool.Endpoint selectEndpoint(EndpointPool.Endpoint exclude) {
+        EndpointPool pool = endpointPool;
+        if (pool == null) {
+            return null;
+        }
+        return pool.select(transport(), exclude != null ? Collections.singleton(exclude) : null);
+    }
+
+    /**
+     * Check whether a read that failed on its first endpoint may be sent to another
+     * 
+     * @param target Endpoint that failed, or null without a pool
+     * @return true to fail over
+     */
+    private boolean canFailOverRead(EndpointPool.Endpoint target) {
+        EndpointPool pool = endpointPool;
+        return target != null && pool != null && canFailOver(pool, Collections.singletonList(target), true);
+    }
+
+    /**
+     * Complete with the first successful response, or the last failure if both fail
+     * 
+     * A 5xx response counts as a failure, so a fast error from one call does not beat
+     * a slower healthy answer from the other.
+     * 
+     * @param first First call
+     * @param second Second call
+     * @return future of the winning response, or of the later 5xx response if both fail;
+     *         discarded responses are closed
+     */
+    private static CompletableFuture<TransportResponse> firstSuccessful(CompletableFuture<TransportResponse> first,
+                                                                        CompletableFuture<TransportResponse> second) {
+        CompletableFuture<TransportResponse> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        BiConsumer<TransportResponse, Throwable> race = (response, error) -> {
+            if (error == null && response.getStatusCode() < 500) {
+                if (!winner.complete(response)) {
+                    closeQuietly(response);
+                }
+            } else if (failures.incrementAndGet() < 2) {
+                if (error == null) {
+                    closeQuietly(response);
+                }
+            } else if (error != null) {
+                winner.completeExceptionally(error);
+            } else if (!winner.complete(response)) {
+                closeQuietly(response);
+            }
+        };
+        first.whenComplete(race);
+        second.whenComplete(race);
+        return winner;
+    }
+
+    /**
+     * Close a response that lost the race
+     * 
+     * @param response Response to discard
+     */
+    private static void closeQuietly(TransportResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close discarded response: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Wait for a transport call
+     * 
+     * @param call Transport call
+     * @return response
+     * @throws Exception the call's failure cause, or InterruptedException
+     */
+    private static TransportResponse await(CompletableFuture<TransportResponse> call) throws Exception {
+        try {
+            return call.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Get the cause of a failed call
+     * 
+     * @param e Wrapped failure
+     * @return underlying exception
+     */
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof Exception ? (Exception) cause : e;
+    }
+
+    /**
+     * Record a request's latency for adaptive timeouts
+     * 
+     * @param endpoint API endpoint
+     * @param startNanos Start of the request on the System.nanoTime() clock
+     */
+    private void recordLatency(String endpoint, long startNanos) {
+        AdaptiveTimeouts timeouts = adaptiveTimeouts;
+        if (timeouts != null) {
+            timeouts.record(endpoint, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Get the timeout for a request, bounded by the caller's deadline
+     * 
+     * @param endpoint API endpoint
+     * @return timeout in milliseconds, or 0 for the transport's default
+     * @throws InterruptedIOException if the caller's deadline has already passed
+     */
+    private long requestTimeoutMillis(String endpoint) throws InterruptedIOException {
+        AdaptiveTimeouts timeouts = adaptiveTimeouts;
+        long timeout = timeouts != null ? timeouts.timeoutMillis(endpoint) : 0L;
+        
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            long remaining = deadline.remainingMillis();
+            if (remaining <= 0) {
+                throw new InterruptedIOException("Deadline exceeded before request to " + endpoint);
+            }
+            timeout = timeout > 0 ? Math.min(timeout, remaining) : remaining;
+        }
+        return timeout;
+    }
+
+    /**
+     * Wait for the rate limiter, if one is configured
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void acquirePermit() throws InterruptedException {
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null) {
+            limiter.acquire();
+        }
+    }
+
+    /**
+     * Sign the request body and build the transport request
      * 
      * @param endpoint API endpoint
      * @param requestBody JSON request body
+     * @return TransportRequest ready to execute
+     * @throws IOException if body compression fails or the caller's deadline has passed
+     */
+    private TransportRequest prepareRequest(String endpoint, JsonObject requestBody) throws IOException {
+        long timeoutMillis = requestTimeoutMillis(endpoint);
+        
+        // Generate HMAC signature
+        Cover cover = new Cover(signer(), requestBody.toString());
+        cover.hmacSHA256Sign();
+
+        // Build request headers
+        Map<String, String> headers = buildRequestHeaders(cover.getTimestamp(), cover.getSign());
+        
+        // Create HTTP request
+        return buildHttpRequest(endpoint, headers, cover.getBody().getBytes(StandardCharsets.UTF_8), timeoutMillis);
+    }
+
+    /**
+     * Sign an encoded request body and build the transport request
+     * 
+     * @param endpoint API endpoint
+     * @param encodedBody UTF-8 encoded JSON request body
+     * @return TransportRequest ready to execute
+     * @throws IOException if body compression fails or the caller's deadline has passed
+     */
+    private TransportRequest prepareEncodedRequest(String endpoint, byte[] encodedBody) throws IOException {
+        long timeoutMillis = requestTimeoutMillis(endpoint);
+        long timestamp = System.currentTimeMillis() / 1000L;
+        String signature = Cover.signEncoded(signer(), encodedBody, timestamp);
+        return buildHttpRequest(endpoint, buildRequestHeaders(timestamp, signature), encodedBody, timeoutMillis);
+    }
+
+    /**
+     * Complete an async request exceptionally, mirroring the synchronous error handling
+     * 
+     * @param result Future to complete
+     * @param endpoint API endpoint
+     * @param error Failure cause
+     */
+    private static void failAsync(CompletableFuture<JsonObject> result, String endpoint, Throwable error) {
+        logger.error("Request failed for endpoint {}: {}", endpoint, error.getMessage(), error);
+        result.completeExceptionally(new RuntimeException("API request failed: " + error.getMessage(), error));
+    }
+
+    /**
+     * Get the transport used for requests
+     * 
+     * @return configured transport, or the shared OkHttp transport by default
+     */
+    protected Transport transport() {
+        Transport current = transport;
+        return current != null ? current : OkHttpTransport.getDefault();
+    }
+
+    /**
+     * Get the signer for outbound requests
+     * 
+     * @return HmacSigner bound to the primary application key
+     */
+    protected HmacSigner signer() {
+        return keyRing().getPrimarySigner();
+    }
+
+    /**
+     * Get the application's key ring, initializing it from appKey on first use
+     * 
+     * @return KeyRing for signing and verification
+     */
+    protected KeyRing keyRing() {
+        KeyRing current = keyRing;
+        if (current == null) {
+            synchronized (this) {
+                current = keyRing;
+                if (current == null) {
+                    current = new KeyRing(this.appKey);
+                    keyRing = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Warm up the request path before the first real call
+     * 
+     * Initializes the signer, opens a pooled connection to the base URL and runs a
+     * short synthetic loop through signing, request building and response parsing
+     * so that class loading and JIT compilation happen off the critical path.
+     * Connection failures are logged and reported, not thrown.
+     * 
+     * @param iterations Number of synthetic signing and parsing iterations
+     * @return WarmUpReport with the timing of each phase
+     */
+    protected WarmUpReport warmUp(int iterations) {
+        validateRequestParameters(ReelPayConstants.ENDPOINT_QUERY_ORDER, new JsonObject());
+        if (iterations < 0) {
+            throw new IllegalArgumentException("Iterations cannot be negative");
+        }
+        
+        long start = System.nanoTime();
+        HmacSigner warmSigner = signer();
+        long signerNanos = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        boolean connected = preconnect();
+        long connectNanos = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        JsonObject sampleRequest = new JsonObject();
+        sampleRequest.addProperty("trade_no", "WARMUP0000000000");
+        String sampleResponse = "{\"code\":200,\"message\":\"success\",\"data\":"
+                + "{\"trade_no\":\"WARMUP0000000000\",\"status\":\"PAID\",\"fiat_amount\":\"1.00\"}}";
+        try {
+            for (int i = 0; i < iterations; i++) {
+                Cover cover = new Cover(warmSigner, sampleRequest.toString());
+                cover.hmacSHA256Sign();
+                buildHttpRequest(ReelPayConstants.ENDPOINT_QUERY_ORDER, buildRequestHeaders(cover.getTimestamp(), cover.getSign()),
+                        cover.getBody().getBytes(StandardCharsets.UTF_8), 0L);
+                JsonParser.parseString(sampleResponse).getAsJsonObject();
+            }
+        } catch (IOException e) {
+            logger.warn("Warm-up priming loop stopped early: {}", e.getMessage());
+        }
+        long primingNanos = System.nanoTime() - start;
+        
+        return new WarmUpReport(signerNanos, connectNanos, primingNanos, iterations, connected);
+    }
+
+    /**
+     * Open a connection to each base URL so it is pooled for the first request
+     * 
+     * @return true if any server answered, regardless of status code
+     */
+    private boolean preconnect() {
+        EndpointPool pool = endpointPool;
+        if (pool == null) {
+            return preconnect(this.baseUrl);
+        }
+        boolean connected = false;
+        for (EndpointPool.Endpoint endpoint : pool.getEndpoints()) {
+            connected |= preconnect(endpoint.getUrl());
+        }
+        return connected;
+    }
+
+    /**
+     * Open a connection to one base URL
+     * 
+     * @param url Base URL
+     * @return true if the server answered, regardless of status code
+     */
+    private boolean preconnect(String url) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(ReelPayConstants.HEADER_USER_AGENT, ReelPayConstants.USER_AGENT);
+        TransportRequest request = new TransportRequest(TransportRequest.METHOD_HEAD, url, headers, null);
+        
+        try (TransportResponse response = transport().execute(request)) {
+            logger.debug("Pre-connect to {} answered with status {}", url, response.getStatusCode());
+            return true;
+        } catch (IOException e) {
+            logger.warn("Pre-connect to {} failed: {}", url, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Validate request parameters
+     * 
+     * @param endpoint API endpoint
+     * @param requestBody JSON request body or its encoded bytes
      * @throws IllegalArgumentException if parameters are invalid
      */
-    private void validateRequestParameters(String endpoint, JsonObject requestBody) {
+    private void validateRequestParameters(String endpoint, Object requestBody) {
         if (endpoint == null || endpoint.trim().isEmpty()) {
             throw new IllegalArgumentException("Endpoint cannot be null or empty");
         }
@@ -104,15 +754,16 @@ public class Client {
     /**
      * Build request headers for API authentication
      * 
-     * @param cover Cover instance with signature information
+     * @param timestamp Signature timestamp in seconds
+     * @param signature Request signature
      * @return Map of request headers
      */
-    private Map<String, String> buildRequestHeaders(Cover cover) {
+    private Map<String, String> buildRequestHeaders(long timestamp, String signature) {
         Map<String, String> headers = new HashMap<>();
         headers.put(ReelPayConstants.HEADER_CONTENT_TYPE, ReelPayConstants.CONTENT_TYPE_JSON);
-        headers.put(ReelPayConstants.HEADER_TIMESTAMP, String.valueOf(cover.getTimestamp()));
+        headers.put(ReelPayConstants.HEADER_TIMESTAMP, String.valueOf(timestamp));
         headers.put(ReelPayConstants.HEADER_APP_ID, this.appId);
-        headers.put(ReelPayConstants.HEADER_SIGNATURE, cover.getSign());
+        headers.put(ReelPayConstants.HEADER_SIGNATURE, signature);
         headers.put(ReelPayConstants.HEADER_USER_AGENT, ReelPayConstants.USER_AGENT);
         return headers;
     }
@@ -122,55 +773,214 @@ public class Client {
      * 
      * @param endpoint API endpoint
      * @param headers Request headers
-     * @param body Request body
-     * @return OkHttp Request object
+     * @param body UTF-8 encoded request body
+     * @param timeoutMillis Whole-call timeout in milliseconds, or 0 for the transport's default
+     * @return TransportRequest object
+     * @throws IOException if body compression fails
      */
-    private Request buildHttpRequest(String endpoint, Map<String, String> headers, String body) {
-        Headers okHttpHeaders = Headers.of(headers);
-        RequestBody requestBody = RequestBody.create(body.getBytes(StandardCharsets.UTF_8));
+    private TransportRequest buildHttpRequest(String endpoint, Map<String, String> headers, byte[] body,
+                                              long timeoutMillis) throws IOException {
+        byte[] wireBody = body;
+        
+        // The signature covers the uncompressed JSON; only the wire bytes are gzipped
+        if (compressionThreshold >= 0 && body.length >= compressionThreshold) {
+            wireBody = gzip(body);
+            headers.put(ReelPayConstants.HEADER_CONTENT_ENCODING, ReelPayConstants.ENCODING_GZIP);
+        }
         
-        return new Request.Builder()
-                .url(this.baseUrl + endpoint)
-                .headers(okHttpHeaders)
-                .post(requestBody)
-                .build();
+        return new TransportRequest(TransportRequest.METHOD_POST, this.baseUrl + endpoint, headers, wireBody, timeoutMillis);
+    }
+
+    /**
+     * Gzip a request body
+     * 
+     * @param bytes Uncompressed body bytes
+     * @return Gzip-compressed body bytes
+     * @throws IOException if compression fails
+     */
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        }
+        return buffer.toByteArray();
     }
 
     /**
      * Execute HTTP request and handle response
      * 
+     * With an endpoint pool, failed attempts move on to another base URL: always when
+     * the connection could not be made, and for retry-safe requests also after
+     * timeouts, transport errors and 5xx responses.
+     * 
+     * @param endpoint API endpoint path
      * @param request HTTP request to execute
+     * @param retrySafe Whether the request may be resent after it might have reached the server
      * @return JsonObject API response
      * @throws IOException if request execution fails
      * @throws JsonSyntaxException if response parsing fails
      */
-    private JsonObject executeRequest(Request request) throws IOException, JsonSyntaxException {
-        logger.debug("Making request to: {}", request.url());
+    private JsonObject executeRequest(String endpoint, TransportRequest request, boolean retrySafe) throws IOException, JsonSyntaxException {
+        EndpointPool pool = endpointPool;
+        List<EndpointPool.Endpoint> tried = null;
         
-        try (Response response = HTTP_CLIENT.newCall(request).execute()) {
-            int statusCode = response.code();
-            logger.debug("Response status code: {}", statusCode);
+        while (true) {
+            EndpointPool.Endpoint target = pool != null ? pool.select(transport(), tried) : null;
+            TransportRequest attempt = target != null ? request.withUrl(target.getUrl() + endpoint) : request;
+            logger.debug("Making request to: {}", attempt.getUrl());
             
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "No error body";
-                logger.error("HTTP request failed with status {}: {}", statusCode, errorBody);
-                throw new IOException("HTTP request failed with status " + statusCode + ": " + errorBody);
+            long start = System.nanoTime();
+            Object event = SdkEvents.beginHttpExchange();
+            TransportResponse response;
+            if (target != null) {
+                target.begin();
+            }
+            try {
+                response = transport().execute(attempt);
+            } catch (IOException e) {
+                SdkEvents.endHttpExchange(event, endpoint, attempt.getUrl(), 0, bodyLength(attempt), 0);
+                // Timeouts count too, so a slowing endpoint raises its own timeout
+                if (e instanceof InterruptedIOException) {
+                    recordLatency(endpoint, start);
+                }
+                if (target == null) {
+                    throw e;
+                }
+                target.complete(System.nanoTime() - start, false);
+                tried = addTried(tried, target);
+                boolean notSent = e instanceof ConnectException || e instanceof UnknownHostException;
+                if (!canFailOver(pool, tried, retrySafe || notSent)) {
+                    throw e;
+                }
+                logger.warn("Request to {} failed, failing over: {}", attempt.getUrl(), e.getMessage());
+                continue;
             }
             
-            if (response.body() == null) {
-                logger.warn("Response body is null");
-                return new JsonObject();
+            if (event != null) {
+                response = countedResponse(response, event, endpoint, attempt);
             }
             
-            String responseBody = response.body().string();
+            try (TransportResponse completed = response) {
+                if (target != null) {
+                    boolean serverError = completed.getStatusCode() >= 500;
+                    target.complete(System.nanoTime() - start, !serverError);
+                    if (serverError) {
+                        tried = addTried(tried, target);
+                        if (canFailOver(pool, tried, retrySafe)) {
+                            logger.warn("Request to {} answered {}, failing over", attempt.getUrl(), completed.getStatusCode());
+                            continue;
+                        }
+                    }
+                }
+                JsonObject result = readResponse(attempt, completed);
+                recordLatency(endpoint, start);
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Remember an endpoint that failed for the current call
+     * 
+     * @param tried Endpoints tried so far, or null
+     * @param target Endpoint that failed
+     * @return list of tried endpoints
+     */
+    private static List<EndpointPool.Endpoint> addTried(List<EndpointPool.Endpoint> tried, EndpointPool.Endpoint target) {
+        List<EndpointPool.Endpoint> list = tried != null ? tried : new ArrayList<>(2);
+        list.add(target);
+        return list;
+    }
+
+    /**
+     * Check whether a failed attempt may be repeated on another endpoint
+     * 
+     * @param pool Endpoint pool
+     * @param tried Endpoints tried so far
+     * @param safe Whether resending is safe for this failure
+     * @return true to fail over
+     */
+    private static boolean canFailOver(EndpointPool pool, List<EndpointPool.Endpoint> tried, boolean safe) {
+        if (!safe || tried.size() >= pool.size() || Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        Deadline deadline = Deadline.current();
+        return deadline == null || !deadline.isExpired();
+    }
+
+    /**
+     * Check the status code and parse the response body
+     * 
+     * @param request HTTP request that produced the response
+     * @param response HTTP response to read
+     * @return JsonObject API response
+     * @throws IOException if the status code indicates failure or the body cannot be read
+     * @throws JsonSyntaxException if response parsing fails
+     */
+    private JsonObject readResponse(TransportRequest request, TransportResponse response) throws IOException, JsonSyntaxException {
+        int statusCode = response.getStatusCode();
+        logger.debug("Response status code: {}", statusCode);
+        
+        if (!response.isSuccessful()) {
+            String errorBody = response.bodyString();
+            if (errorBody.isEmpty()) {
+                errorBody = "No error body";
+            }
+            logger.error("HTTP request failed with status {}: {}", statusCode, errorBody);
+            throw new IOException("HTTP request failed with status " + statusCode + ": " + errorBody);
+        }
+        
+        // Buffer the body only when it is going to be logged; otherwise decode while streaming.
+        // Transports negotiate content coding themselves and hand back the decoded stream.
+        if (logger.isDebugEnabled()) {
+            String responseBody = response.bodyString();
             logger.debug("Response body: {}", responseBody);
             
+            Object event = SdkEvents.beginJsonDecode();
             try {
                 return JsonParser.parseString(responseBody).getAsJsonObject();
             } catch (JsonSyntaxException e) {
                 logger.error("Failed to parse JSON response: {}", responseBody, e);
                 throw new JsonSyntaxException("Invalid JSON response: " + responseBody, e);
+            } finally {
+                SdkEvents.endJsonDecode(event, request.getUrl(), responseBody.length());
             }
         }
+        
+        Object event = SdkEvents.beginJsonDecode();
+        CountingReader counted = event != null ? new CountingReader(response.bodyReader()) : null;
+        try (Reader reader = counted != null ? counted : response.bodyReader()) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (JsonSyntaxException e) {
+            logger.error("Failed to parse JSON response from {}", request.getUrl(), e);
+            throw new JsonSyntaxException("Invalid JSON response from " + request.getUrl(), e);
+        } finally {
+            SdkEvents.endJsonDecode(event, request.getUrl(), counted != null ? counted.getCount() : 0);
+        }
+    }
+
+    /**
+     * Get the size of a request body on the wire
+     * 
+     * @param request HTTP request
+     * @return body length in bytes, 0 without a body
+     */
+    private static long bodyLength(TransportRequest request) {
+        byte[] body = request.getBody();
+        return body != null ? body.length : 0;
+    }
+
+    /**
+     * Signs a request body and builds the transport request
+     */
+    private interface RequestPreparer {
+
+        /**
+         * Build the signed transport request
+         * 
+         * @return TransportRequest ready to execute
+         * @throws IOException if body compression fails or the caller's deadline has passed
+         */
+        TransportRequest prepare() throws IOException;
     }
 }
@@ -0,0 +1,63 @@
+package com.reelpay.api.HttpRequest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that counts the bytes read through it
+ * 
+ * Used to report response sizes in flight recorder events; responses are only
+ * wrapped while the event is enabled.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class CountingInputStream extends FilterInputStream {
+
+    /** Bytes read or skipped so far */
+    private long count;
+
+    CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b >= 0) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = in.read(b, off, len);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Get the number of bytes read so far
+     * 
+     * @return byte count
+     */
+    long getCount() {
+        return count;
+    }
+}
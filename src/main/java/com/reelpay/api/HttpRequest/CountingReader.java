@@ -0,0 +1,63 @@
+package com.reelpay.api.HttpRequest;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader that counts the characters read through it
+ * 
+ * Used to report the length of JSON decoded from a stream in flight recorder
+ * events; readers are only wrapped while the event is enabled.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class CountingReader extends FilterReader {
+
+    /** Characters read or skipped so far */
+    private long count;
+
+    CountingReader(Reader in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = in.read();
+        if (c >= 0) {
+            count++;
+        }
+        return c;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int read = in.read(cbuf, off, len);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Get the number of characters read so far
+     * 
+     * @return character count
+     */
+    long getCount() {
+        return count;
+    }
+}
@@ -1,6 +1,11 @@
 package com.reelpay.api.HttpRequest;
 
+import com.reelpay.api.util.HmacSigner;
 import com.reelpay.api.util.HmacUtil;
+import com.reelpay.api.util.SdkEvents;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Cover class for handling HMAC signature generation and validation
@@ -13,8 +18,8 @@ import com.reelpay.api.util.HmacUtil;
  */
 public class Cover {
 
-    /** Application key used for HMAC signature generation */
-    private final String appKey;
+    /** Signer bound to the application key */
+    private final HmacSigner signer;
     
     /** Timestamp for signature generation */
     private final Long timestamp;
@@ -32,9 +37,7 @@ public class Cover {
      * @param body Request body content
      */
     public Cover(String appKey, String body) {
-        this.appKey = validateAppKey(appKey);
-        this.timestamp = System.currentTimeMillis() / 1000L;
-        this.body = validateBody(body);
+        this(HmacSigner.sha256(validateAppKey(appKey)), body);
     }
 
     /**
@@ -45,7 +48,30 @@ public class Cover {
      * @param timestamp Custom timestamp for signature generation
      */
     public Cover(String appKey, String body, Long timestamp) {
-        this.appKey = validateAppKey(appKey);
+        this(HmacSigner.sha256(validateAppKey(appKey)), body, timestamp);
+    }
+
+    /**
+     * Constructor with a pre-initialized signer and current timestamp
+     * 
+     * @param signer HMAC-SHA256 signer bound to the application key
+     * @param body Request body content
+     */
+    public Cover(HmacSigner signer, String body) {
+        this.signer = validateSigner(signer);
+        this.timestamp = System.currentTimeMillis() / 1000L;
+        this.body = validateBody(body);
+    }
+
+    /**
+     * Constructor with a pre-initialized signer and custom timestamp
+     * 
+     * @param signer HMAC-SHA256 signer bound to the application key
+     * @param body Request body content
+     * @param timestamp Custom timestamp for signature generation
+     */
+    public Cover(HmacSigner signer, String body, Long timestamp) {
+        this.signer = validateSigner(signer);
         this.timestamp = validateTimestamp(timestamp);
         this.body = validateBody(body);
     }
@@ -97,16 +123,52 @@ public class Cover {
             return false;
         }
         
-        this.hmacSHA256Sign();
-        return signatureToValidate.equals(this.signature);
+        Object event = SdkEvents.beginSignature();
+        sign();
+        boolean valid = signatureToValidate.equals(this.signature);
+        SdkEvents.endSignature(event, SdkEvents.OPERATION_VERIFY, this.body.length());
+        return valid;
     }
 
     /**
      * Generate HMAC-SHA256 signature for the current body and timestamp
      */
     public void hmacSHA256Sign() {
+        Object event = SdkEvents.beginSignature();
+        sign();
+        SdkEvents.endSignature(event, SdkEvents.OPERATION_SIGN, this.body.length());
+    }
+
+    /**
+     * Sign an already encoded body followed by the timestamp
+     * 
+     * Produces the same signature as a Cover over the decoded body, without decoding
+     * it or copying it into a combined string first.
+     * 
+     * @param signer HMAC-SHA256 signer bound to the application key
+     * @param body UTF-8 encoded request body
+     * @param timestamp Timestamp in seconds
+     * @return hex signature
+     */
+    public static String signEncoded(HmacSigner signer, byte[] body, long timestamp) {
+        validateSigner(signer);
+        if (body == null) {
+            throw new IllegalArgumentException("Body cannot be null");
+        }
+        Object event = SdkEvents.beginSignature();
+        Mac mac = signer.mac();
+        mac.update(body);
+        String signature = HmacUtil.bytesToHexString(mac.doFinal(Long.toString(timestamp).getBytes(StandardCharsets.US_ASCII)));
+        SdkEvents.endSignature(event, SdkEvents.OPERATION_SIGN, body.length);
+        return signature;
+    }
+
+    /**
+     * Compute the signature over the body followed by the timestamp
+     */
+    private void sign() {
         String hash = this.body + this.timestamp;
-        this.signature = HmacUtil.encrypt(hash, this.appKey, HmacUtil.HMAC_SHA256);
+        this.signature = signer.sign(hash);
     }
 
     /**
@@ -116,13 +178,27 @@ public class Cover {
      * @return validated application key
      * @throws IllegalArgumentException if appKey is null or empty
      */
-    private String validateAppKey(String appKey) {
+    private static String validateAppKey(String appKey) {
         if (appKey == null || appKey.trim().isEmpty()) {
             throw new IllegalArgumentException("Application key cannot be null or empty");
         }
         return appKey;
     }
 
+    /**
+     * Validate signer parameter
+     * 
+     * @param signer signer to validate
+     * @return validated signer
+     * @throws IllegalArgumentException if signer is null
+     */
+    private static HmacSigner validateSigner(HmacSigner signer) {
+        if (signer == null) {
+            throw new IllegalArgumentException("Signer cannot be null");
+        }
+        return signer;
+    }
+
     /**
      * Validate timestamp parameter
      * 
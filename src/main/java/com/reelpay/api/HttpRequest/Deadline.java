@@ -0,0 +1,114 @@
+package com.reelpay.api.HttpRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-supplied deadline for API calls made on the current thread
+ * 
+ * While a scope is open every request made on the thread is given at most the
+ * remaining time, and requests made after the deadline fail without being sent.
+ * Nested scopes can shorten the deadline but never extend it. Bulk operations
+ * carry the caller's deadline over to their worker threads.
+ * 
+ * <pre>
+ * try (Deadline.Scope scope = Deadline.after(800, TimeUnit.MILLISECONDS).enter()) {
+ *     transactions.queryOrderInfo(tradeNo);
+ * }
+ * </pre>
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class Deadline {
+
+    /** Deadline in effect on each thread */
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    
+    /** Expiry on the System.nanoTime() clock */
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Create a deadline relative to now
+     * 
+     * @param timeout Time allowed
+     * @param unit Unit of timeout
+     * @return Deadline instance
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null");
+        }
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Get the deadline in effect on the current thread
+     * 
+     * @return Deadline, or null if none is set
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make this deadline current on the calling thread until the scope is closed
+     * 
+     * If an earlier deadline is already in effect it stays in effect.
+     * 
+     * @return Scope restoring the previous deadline on close
+     */
+    public Scope enter() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.expiresAtNanos - expiresAtNanos < 0 ? previous : this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Get the time left
+     * 
+     * @return remaining milliseconds, zero or negative once expired
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+
+    /**
+     * Check whether the deadline has passed
+     * 
+     * @return true if expired
+     */
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remainingMillis=" + remainingMillis() + "}";
+    }
+
+    /**
+     * Open deadline scope
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /** Deadline to restore */
+        private final Deadline previous;
+        
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+        
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.constants.ReelPayConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of equivalent API base URLs with health tracking
+ * 
+ * Every endpoint keeps an exponentially weighted moving average (EWMA) of its
+ * latency and error rate. Requests go to the cheaper of two randomly chosen
+ * healthy endpoints (power of two choices), weighing latency, requests in flight
+ * and errors. An endpoint that fails EJECT_MIN_FAILURES times in a row with an
+ * error rate of EJECT_ERROR_RATE or more is ejected; while ejected it is probed
+ * with HEAD requests on an exponential backoff and put back after the first
+ * answer. If every endpoint is ejected the least recently ejected ones are still
+ * used rather than failing outright.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class EndpointPool {
+
+    /** Weight of a new sample in the moving averages */
+    public static final double EWMA_WEIGHT = 0.2;
+    
+    /** Error rate at or above which an endpoint may be ejected */
+    public static final double EJECT_ERROR_RATE = 0.5;
+    
+    /** Consecutive failures before an endpoint may be ejected */
+    public static final int EJECT_MIN_FAILURES = 3;
+    
+    /** First probe delay after ejection */
+    private static final long MIN_PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    /** Longest probe delay */
+    private static final long MAX_PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    
+    /** Timeout for probe requests */
+    private static final long PROBE_TIMEOUT_MILLIS = 2000L;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(EndpointPool.class);
+    
+    /** Endpoints in configuration order */
+    private final Endpoint[] endpoints;
+
+    /**
+     * Constructor
+     * 
+     * @param baseUrls Equivalent API base URLs, e.g. regional endpoints
+     */
+    public EndpointPool(List<String> baseUrls) {
+        if (baseUrls == null || baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("Base URLs cannot be null or empty");
+        }
+        this.endpoints = new Endpoint[baseUrls.size()];
+        for (int i = 0; i < endpoints.length; i++) {
+            String url = baseUrls.get(i);
+            if (url == null || url.trim().isEmpty()) {
+                throw new IllegalArgumentException("Base URL cannot be null or empty");
+            }
+            endpoints[i] = new Endpoint(url);
+        }
+    }
+
+    /**
+     * Get the number of endpoints
+     * 
+     * @return endpoint count
+     */
+    public int size() {
+        return endpoints.length;
+    }
+
+    /**
+     * Get the endpoints with their current statistics
+     * 
+     * @return unmodifiable endpoint list
+     */
+    public List<Endpoint> getEndpoints() {
+        return Collections.unmodifiableList(Arrays.asList(endpoints));
+    }
+
+    /**
+     * Choose an endpoint for the next request
+     * 
+     * Also starts a probe for any ejected endpoint that is due for one.
+     * 
+     * @param transport Transport used for probes
+     * @param exclude Endpoints already tried for this call, or null
+     * @return selected endpoint
+     */
+    Endpoint select(Transport transport, Collection<Endpoint> exclude) {
+        long now = System.nanoTime();
+        // Snapshot the candidates in one pass; endpoints may be ejected concurrently
+        Endpoint[] candidates = new Endpoint[endpoints.length];
+        int count = 0;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.ejected) {
+                endpoint.maybeProbe(transport, now);
+            } else if (exclude == null || !exclude.contains(endpoint)) {
+                candidates[count++] = endpoint;
+            }
+        }
+        if (count == 0) {
+            return fallback(exclude);
+        }
+        if (count == 1) {
+            return candidates[0];
+        }
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = candidates[first];
+        Endpoint b = candidates[second];
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    /**
+     * Choose an endpoint when no healthy one is left
+     * 
+     * @param exclude Endpoints already tried, or null
+     * @return the endpoint ejected longest ago that was not tried, or any endpoint
+     */
+    private Endpoint fallback(Collection<Endpoint> exclude) {
+        Endpoint best = null;
+        for (Endpoint endpoint : endpoints) {
+            if ((exclude == null || !exclude.contains(endpoint))
+                    && (best == null || endpoint.ejectedAtNanos - best.ejectedAtNanos < 0)) {
+                best = endpoint;
+            }
+        }
+        return best != null ? best : endpoints[0];
+    }
+
+    /**
+     * One base URL with its health statistics
+     */
+    public static final class Endpoint {
+
+        /** Base URL */
+        private final String url;
+        
+        /** Requests in flight */
+        private final AtomicInteger inFlight = new AtomicInteger();
+        
+        /** Whether a probe is running */
+        private final AtomicBoolean probing = new AtomicBoolean();
+        
+        /** Latency EWMA in milliseconds, 0 until the first success */
+        private volatile double latencyMillis;
+        
+        /** Error rate EWMA between 0 and 1 */
+        private volatile double errorRate;
+        
+        /** Failures since the last success */
+        private int consecutiveFailures;
+        
+        /** Whether the endpoint is ejected */
+        private volatile boolean ejected;
+        
+        /** When the endpoint was last ejected */
+        private volatile long ejectedAtNanos;
+        
+        /** When the next probe is due */
+        private volatile long nextProbeNanos;
+        
+        /** Current probe backoff */
+        private long probeIntervalNanos;
+        
+        Endpoint(String url) {
+            this.url = url;
+        }
+        
+        /**
+         * Get the base URL
+         * 
+         * @return base URL
+         */
+        public String getUrl() {
+            return url;
+        }
+        
+        /**
+         * Get the latency moving average
+         * 
+         * @return latency in milliseconds, 0 before the first success
+         */
+        public double getLatencyMillis() {
+            return latencyMillis;
+        }
+        
+        /**
+         * Get the error rate moving average
+         * 
+         * @return error rate between 0 and 1
+         */
+        public double getErrorRate() {
+            return errorRate;
+        }
+        
+        /**
+         * Get the number of requests in flight
+         * 
+         * @return in-flight count
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+        
+        /**
+         * Check whether the endpoint is ejected
+         * 
+         * @return true while ejected
+         */
+        public boolean isEjected() {
+            return ejected;
+        }
+        
+        @Override
+        public String toString() {
+            return "Endpoint{url=" + url + ", latencyMillis=" + String.format("%.1f", latencyMillis)
+                    + ", errorRate=" + String.format("%.2f", errorRate) + ", ejected=" + ejected + "}";
+        }
+        
+        /**
+         * Mark a request as started
+         */
+        void begin() {
+            inFlight.incrementAndGet();
+        }
+        
+        /**
+         * Mark a request as finished and update the statistics
+         * 
+         * @param nanos Request latency
+         * @param success false for transport errors and 5xx responses
+         */
+        void complete(long nanos, boolean success) {
+            inFlight.decrementAndGet();
+            synchronized (this) {
+                if (success) {
+                    double millis = nanos / 1_000_000.0;
+                    latencyMillis = latencyMillis == 0 ? millis : latencyMillis + EWMA_WEIGHT * (millis - latencyMillis);
+                    consecutiveFailures = 0;
+                } else {
+                    consecutiveFailures++;
+                }
+                errorRate += EWMA_WEIGHT * ((success ? 0.0 : 1.0) - errorRate);
+                
+                if (!ejected && consecutiveFailures >= EJECT_MIN_FAILURES && errorRate >= EJECT_ERROR_RATE) {
+                    long now = System.nanoTime();
+                    ejected = true;
+                    ejectedAtNanos = now;
+                    probeIntervalNanos = MIN_PROBE_INTERVAL_NANOS;
+                    nextProbeNanos = now + probeIntervalNanos;
+                    logger.warn("Ejected endpoint {} after {} consecutive failures", url, consecutiveFailures);
+                }
+            }
+        }
+        
+        /**
+         * Mark a request as finished without judging the endpoint, e.g. when cancelled
+         */
+        void abandon() {
+            inFlight.decrementAndGet();
+        }
+        
+        /**
+         * Selection cost: latency scaled by load and errors
+         * 
+         * @return cost, lower is better
+         */
+        double cost() {
+            return (latencyMillis + 1.0) * (inFlight.get() + 1) * (1.0 + 10.0 * errorRate);
+        }
+        
+        /**
+         * Send a probe if one is due
+         * 
+         * @param transport Transport used for the probe
+         * @param now Current System.nanoTime()
+         */
+        void maybeProbe(Transport transport, long now) {
+            if (now - nextProbeNanos < 0 || !probing.compareAndSet(false, true)) {
+                return;
+            }
+            Map<String, String> headers = new HashMap<>();
+            headers.put(ReelPayConstants.HEADER_USER_AGENT, ReelPayConstants.USER_AGENT);
+            TransportRequest probe = new TransportRequest(TransportRequest.METHOD_HEAD, url, headers, null, PROBE_TIMEOUT_MILLIS);
+            
+            try {
+                transport.executeAsync(probe).whenComplete((response, error) -> {
+                    boolean alive = error == null && response.getStatusCode() < 500;
+                    if (response != null) {
+                        try {
+                            response.close();
+                        } catch (IOException e) {
+                            logger.debug("Failed to close probe response: {}", e.getMessage());
+                        }
+                    }
+                    probed(alive);
+                });
+            } catch (RuntimeException e) {
+                probed(false);
+            }
+        }
+        
+        /**
+         * Apply a probe result
+         * 
+         * @param alive Whether the endpoint answered
+         */
+        private void probed(boolean alive) {
+            synchronized (this) {
+                if (alive) {
+                    ejected = false;
+                    errorRate = 0.0;
+                    consecutiveFailures = 0;
+                    logger.info("Endpoint {} answered its probe and is back in rotation", url);
+                } else {
+                    probeIntervalNanos = Math.min(MAX_PROBE_INTERVAL_NANOS, probeIntervalNanos * 2);
+                    nextProbeNanos = System.nanoTime() + probeIntervalNanos;
+                }
+            }
+            probing.set(false);
+        }
+    }
+}
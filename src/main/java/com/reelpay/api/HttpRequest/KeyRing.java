@@ -0,0 +1,194 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.util.HmacSigner;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Primary and secondary application keys with pre-initialized signers
+ * 
+ * Outbound requests are signed with the primary key. Inbound signatures are
+ * checked against the primary key first and then the secondary key, so callbacks
+ * signed with the previous key keep verifying while a rotation propagates. Both
+ * keys live in one immutable snapshot that is swapped atomically; verification
+ * only reads the current snapshot and never locks.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class KeyRing {
+
+    /** Which key a signature matched */
+    public enum Match {
+        /** Signed with the primary key */
+        PRIMARY,
+        /** Signed with the secondary key */
+        SECONDARY,
+        /** Signed with neither key */
+        NONE
+    }
+
+    /** Current keys */
+    private final AtomicReference<Keys> keys;
+    
+    /** Signatures that matched only the secondary key */
+    private final LongAdder secondaryHits = new LongAdder();
+
+    /**
+     * Create a key ring with a single key
+     * 
+     * @param primaryKey Application key
+     */
+    public KeyRing(String primaryKey) {
+        this(primaryKey, null);
+    }
+
+    /**
+     * Create a key ring
+     * 
+     * @param primaryKey Key used for signing and checked first
+     * @param secondaryKey Key still accepted for verification, or null
+     */
+    public KeyRing(String primaryKey, String secondaryKey) {
+        this.keys = new AtomicReference<>(new Keys(primaryKey, secondaryKey));
+    }
+
+    /**
+     * Make a new key primary and keep the current primary as secondary
+     * 
+     * @param newPrimaryKey New application key
+     */
+    public void rotate(String newPrimaryKey) {
+        HmacSigner newSigner = HmacSigner.sha256(newPrimaryKey);
+        Keys current;
+        Keys next;
+        do {
+            current = keys.get();
+            next = new Keys(newPrimaryKey, newSigner, current.primaryKey, current.primarySigner);
+        } while (!keys.compareAndSet(current, next));
+    }
+
+    /**
+     * Stop accepting the secondary key
+     */
+    public void retireSecondary() {
+        Keys current;
+        Keys next;
+        do {
+            current = keys.get();
+            next = new Keys(current.primaryKey, current.primarySigner, null, null);
+        } while (!keys.compareAndSet(current, next));
+    }
+
+    /**
+     * Replace both keys
+     * 
+     * @param primaryKey Key used for signing and checked first
+     * @param secondaryKey Key still accepted for verification, or null
+     */
+    public void setKeys(String primaryKey, String secondaryKey) {
+        keys.set(new Keys(primaryKey, secondaryKey));
+    }
+
+    /**
+     * Get the primary key
+     * 
+     * @return primary application key
+     */
+    public String getPrimaryKey() {
+        return keys.get().primaryKey;
+    }
+
+    /**
+     * Get the secondary key
+     * 
+     * @return secondary application key, or null
+     */
+    public String getSecondaryKey() {
+        return keys.get().secondaryKey;
+    }
+
+    /**
+     * Get the signer for outbound requests
+     * 
+     * @return signer bound to the primary key
+     */
+    public HmacSigner getPrimarySigner() {
+        return keys.get().primarySigner;
+    }
+
+    /**
+     * Check a signature over a body and timestamp against both keys
+     * 
+     * @param body Signed body
+     * @param timestamp Signed timestamp in seconds
+     * @param signature Signature to check
+     * @return key that matched
+     */
+    public Match match(String body, Long timestamp, String signature) {
+        Keys current = keys.get();
+        if (new Cover(current.primarySigner, body, timestamp).validateSign(signature)) {
+            return Match.PRIMARY;
+        }
+        if (current.secondarySigner != null
+                && new Cover(current.secondarySigner, body, timestamp).validateSign(signature)) {
+            secondaryHits.increment();
+            return Match.SECONDARY;
+        }
+        return Match.NONE;
+    }
+
+    /**
+     * Check a signature over a body and timestamp against both keys
+     * 
+     * @param body Signed body
+     * @param timestamp Signed timestamp in seconds
+     * @param signature Signature to check
+     * @return true if either key matched
+     */
+    public boolean verify(String body, Long timestamp, String signature) {
+        return match(body, timestamp, signature) != Match.NONE;
+    }
+
+    /**
+     * Get the number of signatures that matched only the secondary key
+     * 
+     * A count that stays at zero after a rotation means the secondary can be retired.
+     * 
+     * @return secondary key hits
+     */
+    public long getSecondaryHits() {
+        return secondaryHits.sum();
+    }
+
+    /**
+     * Immutable key snapshot
+     */
+    private static final class Keys {
+
+        /** Primary key */
+        private final String primaryKey;
+        
+        /** Signer for the primary key */
+        private final HmacSigner primarySigner;
+        
+        /** Secondary key, or null */
+        private final String secondaryKey;
+        
+        /** Signer for the secondary key, or null */
+        private final HmacSigner secondarySigner;
+        
+        Keys(String primaryKey, String secondaryKey) {
+            this(primaryKey, HmacSigner.sha256(primaryKey),
+                    secondaryKey, secondaryKey != null ? HmacSigner.sha256(secondaryKey) : null);
+        }
+        
+        Keys(String primaryKey, HmacSigner primarySigner, String secondaryKey, HmacSigner secondarySigner) {
+            this.primaryKey = primaryKey;
+            this.primarySigner = primarySigner;
+            this.secondaryKey = secondaryKey;
+            this.secondarySigner = secondarySigner;
+        }
+    }
+}
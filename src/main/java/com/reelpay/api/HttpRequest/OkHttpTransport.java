@@ -0,0 +1,142 @@
+package com.reelpay.api.HttpRequest;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp based Transport, the SDK default
+ * 
+ * OkHttp negotiates gzip on its own and hands back decompressed response bodies.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class OkHttpTransport implements Transport {
+
+    /** Underlying OkHttp client */
+    private final OkHttpClient httpClient;
+
+    /**
+     * Constructor sharing an existing OkHttp client, its dispatcher and connection pool
+     * 
+     * @param httpClient OkHttp client to use
+     */
+    public OkHttpTransport(OkHttpClient httpClient) {
+        if (httpClient == null) {
+            throw new IllegalArgumentException("HTTP client cannot be null");
+        }
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Get the shared default transport
+     * 
+     * @return OkHttpTransport instance shared by all clients
+     */
+    public static OkHttpTransport getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Get the underlying OkHttp client
+     * 
+     * @return OkHttp client
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        Response response = newCall(request).execute();
+        ResponseBody body = response.body();
+        return new TransportResponse(response.code(), body != null ? body.byteStream() : null, response);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        Call call = newCall(request);
+        
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                ResponseBody body = response.body();
+                if (!future.complete(new TransportResponse(response.code(), body != null ? body.byteStream() : null, response))) {
+                    response.close();
+                }
+            }
+        });
+        
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Create a call, applying the request's timeout if it has one
+     * 
+     * @param request Transport request
+     * @return OkHttp Call ready to execute
+     */
+    private Call newCall(TransportRequest request) {
+        Call call = httpClient.newCall(toOkHttpRequest(request));
+        if (request.getTimeoutMillis() > 0) {
+            call.timeout().timeout(request.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        return call;
+    }
+
+    /**
+     * Convert a transport request to an OkHttp request
+     * 
+     * @param request Transport request
+     * @return OkHttp Request object
+     */
+    private static Request toOkHttpRequest(TransportRequest request) {
+        Request.Builder builder = new Request.Builder()
+                .url(request.getUrl())
+                .headers(Headers.of(request.getHeaders()));
+        
+        byte[] body = request.getBody();
+        if (body != null) {
+            builder.method(request.getMethod(), RequestBody.create(body, (MediaType) null));
+        } else {
+            builder.method(request.getMethod(), null);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Lazy holder so that OkHttp is only initialized when the default transport is used
+     */
+    private static final class DefaultHolder {
+
+        /** Default transport with the SDK's standard timeouts */
+        private static final OkHttpTransport INSTANCE = new OkHttpTransport(new OkHttpClient.Builder()
+                .connectTimeout(30, TimeUnit.SECONDS)
+                .readTimeout(60, TimeUnit.SECONDS)
+                .writeTimeout(30, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                .build());
+    }
+}
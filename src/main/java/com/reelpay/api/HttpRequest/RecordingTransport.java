@@ -0,0 +1,176 @@
+package com.reelpay.api.HttpRequest;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transport that records every exchange of another transport to a file
+ * 
+ * Each completed exchange is written as one JSON line: method, URL path, normalized
+ * request body, status, latency and response body. Headers are not recorded, so
+ * signatures, timestamps and the app ID never reach the file, and the values of
+ * redacted body fields are replaced. Replay the file with {@link ReplayTransport}.
+ * Requests that fail without a response are not recorded.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class RecordingTransport implements Transport, Closeable {
+
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(RecordingTransport.class);
+    
+    /** Transport that makes the real calls */
+    private final Transport delegate;
+    
+    /** Request body fields whose values are redacted */
+    private final Set<String> redactedFields;
+    
+    /** Recording file writer */
+    private final BufferedWriter writer;
+    
+    /** Number of exchanges recorded */
+    private final AtomicLong recorded = new AtomicLong();
+
+    /**
+     * Constructor redacting the payout authenticator code
+     * 
+     * @param delegate Transport that makes the real calls
+     * @param file Recording file, replaced if it exists; gzip-compressed if its name ends in .gz
+     * @throws IOException if the file cannot be created
+     */
+    public RecordingTransport(Transport delegate, Path file) throws IOException {
+        this(delegate, file, Recordings.DEFAULT_REDACTED_FIELDS);
+    }
+
+    /**
+     * Constructor with custom redacted fields
+     * 
+     * @param delegate Transport that makes the real calls
+     * @param file Recording file, replaced if it exists; gzip-compressed if its name ends in .gz
+     * @param redactedFields Request body fields, at any depth, whose values are replaced
+     * @throws IOException if the file cannot be created
+     */
+    public RecordingTransport(Transport delegate, Path file, Collection<String> redactedFields) throws IOException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate transport cannot be null");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Recording file cannot be null");
+        }
+        this.delegate = delegate;
+        this.redactedFields = Collections.unmodifiableSet(new LinkedHashSet<>(redactedFields));
+        this.writer = Recordings.openWriter(file);
+        writeLine(Recordings.header(this.redactedFields));
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        long start = System.nanoTime();
+        return record(request, delegate.execute(request), start);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        long start = System.nanoTime();
+        CompletableFuture<TransportResponse> call = delegate.executeAsync(request);
+        CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                result.complete(record(request, response, start));
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Get the number of exchanges recorded so far
+     * 
+     * @return recorded exchange count
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * Buffer a response, append the exchange to the recording and hand back a copy
+     * 
+     * @param request Request that was sent
+     * @param response Response from the delegate
+     * @param startNanos When the request was sent
+     * @return response with the buffered body
+     * @throws IOException if the body cannot be read or the recording cannot be written
+     */
+    private TransportResponse record(TransportRequest request, TransportResponse response, long startNanos) throws IOException {
+        byte[] body;
+        try (TransportResponse completed = response) {
+            body = completed.getBody() != null ? Recordings.readFully(completed.getBody()) : new byte[0];
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        
+        JsonObject line = new JsonObject();
+        line.addProperty("method", request.getMethod());
+        line.addProperty("path", Recordings.path(request.getUrl()));
+        line.addProperty("request", Recordings.normalizeBody(request, redactedFields, Collections.<String>emptySet()));
+        line.addProperty("status", response.getStatusCode());
+        line.addProperty("micros", micros);
+        line.addProperty("response", new String(body, StandardCharsets.UTF_8));
+        writeLine(line);
+        recorded.incrementAndGet();
+        logger.debug("Recorded {} {} -> {}", request.getMethod(), request.getUrl(), response.getStatusCode());
+        
+        return TransportResponse.of(response.getStatusCode(), body);
+    }
+
+    /**
+     * Append one line to the recording
+     * 
+     * @param line JSON object to write
+     * @throws IOException if writing fails
+     */
+    private void writeLine(JsonObject line) throws IOException {
+        synchronized (writer) {
+            writer.write(line.toString());
+            writer.newLine();
+            writer.flush();
+        }
+    }
+
+    /**
+     * Finish the recording file; the delegate transport is left open
+     * 
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.reelpay.api.HttpRequest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.reelpay.api.constants.ReelPayConstants;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * File format and request normalization shared by RecordingTransport and ReplayTransport
+ * 
+ * A recording is a JSON lines file, gzip-compressed when its name ends in .gz. The
+ * first line is a header naming the redacted fields; every other line is one exchange.
+ * Requests are matched by method, URL path and normalized body: the JSON body with
+ * object keys sorted, redacted fields replaced and ignored fields removed.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class Recordings {
+
+    /** Format name written in the header line */
+    static final String FORMAT = "reelpay-recording";
+    
+    /** Format version written in the header line */
+    static final int VERSION = 1;
+    
+    /** Replacement for redacted values */
+    static final String REDACTED = "***";
+    
+    /** Request fields redacted by default: the payout authenticator code */
+    static final Set<String> DEFAULT_REDACTED_FIELDS = Collections.singleton("google_code");
+
+    // Private constructor to prevent instantiation
+    private Recordings() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Build the matching key for a request
+     * 
+     * @param method HTTP method
+     * @param path URL path and query
+     * @param normalizedBody Normalized request body
+     * @return key combining method, path and body
+     */
+    static String key(String method, String path, String normalizedBody) {
+        return method + ' ' + path + '\n' + normalizedBody;
+    }
+
+    /**
+     * Get the path and query of a URL, so recordings replay against any base URL
+     * 
+     * @param url Absolute request URL
+     * @return path including the query string, if any
+     */
+    static String path(String url) {
+        URI uri = URI.create(url);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() != null ? path + '?' + uri.getRawQuery() : path;
+    }
+
+    /**
+     * Normalize a request body for recording and matching
+     * 
+     * @param request Request whose body to normalize, gzip-decoded if needed
+     * @param redacted Field names whose values are replaced
+     * @param ignored Field names that are removed
+     * @return canonical JSON, or the body text if it is not JSON
+     * @throws IOException if a compressed body cannot be decoded
+     */
+    static String normalizeBody(TransportRequest request, Set<String> redacted, Set<String> ignored) throws IOException {
+        byte[] body = request.getBody();
+        if (body == null || body.length == 0) {
+            return "";
+        }
+        if (ReelPayConstants.ENCODING_GZIP.equalsIgnoreCase(headerValue(request.getHeaders(), ReelPayConstants.HEADER_CONTENT_ENCODING))) {
+            body = gunzip(body);
+        }
+        String text = new String(body, StandardCharsets.UTF_8);
+        try {
+            return normalize(JsonParser.parseString(text), redacted, ignored).toString();
+        } catch (JsonSyntaxException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Normalize a recorded body again, applying the replay side's ignored fields
+     * 
+     * @param normalizedBody Body as recorded
+     * @param ignored Field names that are removed
+     * @return canonical JSON, or the body unchanged if it is not JSON
+     */
+    static String normalizeRecorded(String normalizedBody, Set<String> ignored) {
+        if (ignored.isEmpty() || normalizedBody.isEmpty()) {
+            return normalizedBody;
+        }
+        try {
+            return normalize(JsonParser.parseString(normalizedBody), Collections.<String>emptySet(), ignored).toString();
+        } catch (JsonSyntaxException e) {
+            return normalizedBody;
+        }
+    }
+
+    /**
+     * Copy a JSON tree with sorted keys, redacted values and without ignored fields
+     * 
+     * @param element Element to normalize
+     * @param redacted Field names whose values are replaced
+     * @param ignored Field names that are removed
+     * @return normalized copy
+     */
+    private static JsonElement normalize(JsonElement element, Set<String> redacted, Set<String> ignored) {
+        if (element.isJsonObject()) {
+            List<String> names = new ArrayList<>(element.getAsJsonObject().keySet());
+            Collections.sort(names);
+            JsonObject sorted = new JsonObject();
+            for (String name : names) {
+                if (ignored.contains(name)) {
+                    continue;
+                }
+                JsonElement value = element.getAsJsonObject().get(name);
+                sorted.add(name, redacted.contains(name) && !value.isJsonNull()
+                        ? new JsonPrimitive(REDACTED) : normalize(value, redacted, ignored));
+            }
+            return sorted;
+        }
+        if (element.isJsonArray()) {
+            JsonArray copy = new JsonArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                copy.add(normalize(item, redacted, ignored));
+            }
+            return copy;
+        }
+        return element;
+    }
+
+    /**
+     * Create a recording, replacing any existing file
+     * 
+     * @param file Recording file, gzip-compressed if its name ends in .gz
+     * @return writer; for gzip files each flush completes a gzip block
+     * @throws IOException if the file cannot be created
+     */
+    static BufferedWriter openWriter(Path file) throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (isGzip(file)) {
+            out = new GZIPOutputStream(out, 8192, true);
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Open a recording for reading lines
+     * 
+     * @param file Recording file, gzip-compressed if its name ends in .gz
+     * @return reader
+     * @throws IOException if the file cannot be opened
+     */
+    static BufferedReader openReader(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (isGzip(file)) {
+            in = new GZIPInputStream(in, 8192);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Build the header line of a recording
+     * 
+     * @param redacted Field names redacted in this recording
+     * @return header object
+     */
+    static JsonObject header(Set<String> redacted) {
+        JsonObject header = new JsonObject();
+        header.addProperty("format", FORMAT);
+        header.addProperty("version", VERSION);
+        JsonArray fields = new JsonArray();
+        for (String field : redacted) {
+            fields.add(field);
+        }
+        header.add("redacted", fields);
+        return header;
+    }
+
+    /**
+     * Check whether a recording file is gzip-compressed
+     * 
+     * @param file Recording file
+     * @return true if its name ends in .gz
+     */
+    private static boolean isGzip(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+
+    /**
+     * Decompress a gzip request body
+     * 
+     * @param bytes Compressed bytes
+     * @return decompressed bytes
+     * @throws IOException if the bytes are not valid gzip
+     */
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return readFully(in);
+        }
+    }
+
+    /**
+     * Read a stream to its end
+     * 
+     * @param in Stream to read
+     * @return all remaining bytes
+     * @throws IOException if reading fails
+     */
+    static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Read the header fields of a recording's first line
+     * 
+     * @param line First line of the file
+     * @param file Recording file, for error messages
+     * @return header object
+     * @throws IOException if the line is not a recording header
+     */
+    static JsonObject readHeader(String line, Path file) throws IOException {
+        try {
+            JsonObject header = line != null ? JsonParser.parseString(line).getAsJsonObject() : null;
+            if (header == null || !header.has("format") || !FORMAT.equals(header.get("format").getAsString())) {
+                throw new IOException("Not a ReelPay recording: " + file);
+            }
+            if (header.get("version").getAsInt() > VERSION) {
+                throw new IOException("Unsupported recording version " + header.get("version") + ": " + file);
+            }
+            return header;
+        } catch (JsonSyntaxException | IllegalStateException e) {
+            throw new IOException("Not a ReelPay recording: " + file, e);
+        }
+    }
+
+    /**
+     * Copy a set of header-field names from a JSON array
+     * 
+     * @param array JSON array of strings, may be null
+     * @param target Set to add the names to
+     */
+    static void addNames(JsonArray array, Set<String> target) {
+        if (array != null) {
+            for (JsonElement element : array) {
+                target.add(element.getAsString());
+            }
+        }
+    }
+
+    /**
+     * Look up a request header case-insensitively
+     * 
+     * @param headers Request headers
+     * @param name Header name
+     * @return header value, or null
+     */
+    private static String headerValue(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
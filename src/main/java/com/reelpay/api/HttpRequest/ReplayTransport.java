@@ -0,0 +1,268 @@
+package com.reelpay.api.HttpRequest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport that answers requests from a recording instead of the network
+ * 
+ * Requests are matched to recorded exchanges by method, URL path and normalized body,
+ * so the base URL, key order, signature and timestamp do not matter. Fields that change
+ * on every run, such as a generated out_trade_no, can be ignored for matching. When a
+ * request was recorded several times the recorded responses are returned in turn.
+ * Requests without a recording fail with an IOException.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class ReplayTransport implements Transport {
+
+    /**
+     * How quickly recorded responses are returned
+     */
+    public enum Timing {
+        /** Return responses immediately */
+        FULL_SPEED,
+        /** Wait for each exchange's recorded latency, bounded by the request timeout */
+        RECORDED
+    }
+
+    /** Recorded responses by matching key */
+    private final Map<String, Replies> recordings;
+    
+    /** Response timing */
+    private final Timing timing;
+    
+    /** Request body fields redacted in the recording */
+    private final Set<String> redactedFields;
+    
+    /** Request body fields ignored for matching */
+    private final Set<String> ignoredFields;
+    
+    /** Number of recorded exchanges loaded */
+    private final int size;
+    
+    /** Number of requests answered from the recording */
+    private final LongAdder replayed = new LongAdder();
+    
+    /** Number of requests without a recording */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor replaying at full speed
+     * 
+     * @param file Recording written by RecordingTransport
+     * @throws IOException if the recording cannot be read
+     */
+    public ReplayTransport(Path file) throws IOException {
+        this(file, Timing.FULL_SPEED);
+    }
+
+    /**
+     * Constructor with a timing mode
+     * 
+     * @param file Recording written by RecordingTransport
+     * @param timing Response timing
+     * @throws IOException if the recording cannot be read
+     */
+    public ReplayTransport(Path file, Timing timing) throws IOException {
+        this(file, timing, Collections.<String>emptySet());
+    }
+
+    /**
+     * Constructor with a timing mode and fields ignored for matching
+     * 
+     * @param file Recording written by RecordingTransport
+     * @param timing Response timing
+     * @param ignoredFields Request body fields, at any depth, left out when matching
+     * @throws IOException if the recording cannot be read
+     */
+    public ReplayTransport(Path file, Timing timing, Collection<String> ignoredFields) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Recording file cannot be null");
+        }
+        if (timing == null) {
+            throw new IllegalArgumentException("Timing cannot be null");
+        }
+        this.timing = timing;
+        this.ignoredFields = Collections.unmodifiableSet(new HashSet<>(ignoredFields));
+        
+        Set<String> redacted = new HashSet<>();
+        Map<String, List<Recording>> loaded = new HashMap<>();
+        int count = 0;
+        try (BufferedReader reader = Recordings.openReader(file)) {
+            JsonObject header = Recordings.readHeader(reader.readLine(), file);
+            Recordings.addNames(header.getAsJsonArray("redacted"), redacted);
+            
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    JsonObject exchange = JsonParser.parseString(line).getAsJsonObject();
+                    String key = Recordings.key(exchange.get("method").getAsString(), exchange.get("path").getAsString(),
+                            Recordings.normalizeRecorded(exchange.get("request").getAsString(), this.ignoredFields));
+                    Recording recording = new Recording(exchange.get("status").getAsInt(), exchange.get("micros").getAsLong(),
+                            exchange.get("response").getAsString().getBytes(StandardCharsets.UTF_8));
+                    loaded.computeIfAbsent(key, k -> new ArrayList<>(1)).add(recording);
+                    count++;
+                } catch (JsonSyntaxException | IllegalStateException | NullPointerException e) {
+                    throw new IOException("Malformed exchange in recording " + file + ": " + line, e);
+                }
+            }
+        }
+        
+        this.redactedFields = Collections.unmodifiableSet(redacted);
+        this.recordings = new HashMap<>(loaded.size() * 2);
+        for (Map.Entry<String, List<Recording>> entry : loaded.entrySet()) {
+            recordings.put(entry.getKey(), new Replies(entry.getValue().toArray(new Recording[0])));
+        }
+        this.size = count;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        String body = Recordings.normalizeBody(request, redactedFields, ignoredFields);
+        Replies replies = recordings.get(Recordings.key(request.getMethod(), Recordings.path(request.getUrl()), body));
+        if (replies == null) {
+            misses.increment();
+            throw new IOException("No recording for " + request.getMethod() + " " + Recordings.path(request.getUrl()) + " " + body);
+        }
+        
+        Recording recording = replies.next();
+        if (timing == Timing.RECORDED) {
+            pause(recording.micros, request.getTimeoutMillis());
+        }
+        replayed.increment();
+        return TransportResponse.of(recording.status, recording.body);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        if (timing == Timing.RECORDED) {
+            return Transport.super.executeAsync(request);
+        }
+        // Nothing blocks at full speed, so answer on the calling thread
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        try {
+            future.complete(execute(request));
+        } catch (IOException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get the number of recorded exchanges loaded
+     * 
+     * @return exchange count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of requests answered from the recording
+     * 
+     * @return replayed request count
+     */
+    public long getReplayedCount() {
+        return replayed.sum();
+    }
+
+    /**
+     * Get the number of requests that had no recording
+     * 
+     * @return missed request count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Wait for a recorded latency, failing like a real call if it exceeds the timeout
+     * 
+     * @param micros Recorded latency in microseconds
+     * @param timeoutMillis Request timeout in milliseconds, 0 for none
+     * @throws IOException if the latency exceeds the timeout or the wait is interrupted
+     */
+    private static void pause(long micros, long timeoutMillis) throws IOException {
+        boolean timedOut = timeoutMillis > 0 && micros > TimeUnit.MILLISECONDS.toMicros(timeoutMillis);
+        try {
+            TimeUnit.MICROSECONDS.sleep(timedOut ? TimeUnit.MILLISECONDS.toMicros(timeoutMillis) : micros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while replaying a response");
+        }
+        if (timedOut) {
+            throw new SocketTimeoutException("Recorded response took " + micros / 1000 + " ms, over the " + timeoutMillis + " ms timeout");
+        }
+    }
+
+    /**
+     * One recorded response
+     */
+    private static final class Recording {
+
+        /** HTTP status code */
+        final int status;
+        
+        /** Recorded latency in microseconds */
+        final long micros;
+        
+        /** Response body */
+        final byte[] body;
+        
+        Recording(int status, long micros, byte[] body) {
+            this.status = status;
+            this.micros = micros;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Recorded responses for one request, returned in turn
+     */
+    private static final class Replies {
+
+        /** Responses in recording order */
+        private final Recording[] recordings;
+        
+        /** Index of the next response */
+        private final AtomicInteger cursor = new AtomicInteger();
+        
+        Replies(Recording[] recordings) {
+            this.recordings = recordings;
+        }
+        
+        /**
+         * Get the next response, starting over after the last
+         * 
+         * @return recorded response
+         */
+        Recording next() {
+            return recordings.length == 1 ? recordings[0] : recordings[Math.floorMod(cursor.getAndIncrement(), recordings.length)];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.constants.ReelPayConstants;
+
+/**
+ * Priority classes for the RequestScheduler, highest first
+ * 
+ * Without an explicit scope a request's class follows from its endpoint; bulk
+ * operations run as BACKGROUND unless the caller opened a scope of its own.
+ * 
+ * <pre>
+ * try (RequestPriority.Scope scope = RequestPriority.BACKGROUND.enter()) {
+ *     reconcile(transactions);
+ * }
+ * </pre>
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum RequestPriority {
+
+    /** Customer-facing order and checkout creation */
+    INTERACTIVE(8),
+
+    /** Payout creation */
+    PAYOUT(4),
+
+    /** Order, payout, rate and currency queries */
+    QUERY(2),
+
+    /** Bulk and background work; yields to waiting INTERACTIVE requests */
+    BACKGROUND(1);
+    
+    /** Priority in effect on each thread */
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+    
+    /** Default share of dispatches relative to the other classes */
+    private final int defaultWeight;
+
+    RequestPriority(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Get the default weighted fair queuing weight
+     * 
+     * @return weight
+     */
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Get the priority set on the current thread
+     * 
+     * @return priority, or null if none is set
+     */
+    public static RequestPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the default priority for an API endpoint
+     * 
+     * @param endpoint API endpoint path
+     * @return priority class
+     */
+    public static RequestPriority forEndpoint(String endpoint) {
+        if (ReelPayConstants.ENDPOINT_CREATE_ORDER.equals(endpoint)
+                || ReelPayConstants.ENDPOINT_HOSTED_CHECKOUT.equals(endpoint)) {
+            return INTERACTIVE;
+        }
+        if (ReelPayConstants.ENDPOINT_CREATE_PAYOUT.equals(endpoint)) {
+            return PAYOUT;
+        }
+        return QUERY;
+    }
+
+    /**
+     * Run requests made on the calling thread in this class until the scope is closed
+     * 
+     * @return Scope restoring the previous priority on close
+     */
+    public Scope enter() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(this);
+        return scope;
+    }
+
+    /**
+     * Open priority scope
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /** Priority to restore */
+        private final RequestPriority previous;
+        
+        private Scope(RequestPriority previous) {
+            this.previous = previous;
+        }
+        
+        @Override
+        public void close() {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.util.LatencyHistogram;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control in front of the transport with priority classes
+ * 
+ * At most maxConcurrency requests run at once, and each class may be capped
+ * further. When a slot frees up the waiting classes share it by start-time fair
+ * queuing: each class advances its virtual clock by 1/weight per dispatch and
+ * the class with the earliest clock goes next, so with the default weights
+ * INTERACTIVE gets eight dispatches for every BACKGROUND one. BACKGROUND
+ * requests are not admitted at all while an INTERACTIVE request is waiting.
+ * Requests wait no longer than the caller's Deadline.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class RequestScheduler {
+
+    /** Priority classes in ordinal order */
+    private static final RequestPriority[] CLASSES = RequestPriority.values();
+    
+    /** Guards all scheduling state */
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    /** Maximum number of requests in flight */
+    private final int maxConcurrency;
+    
+    /** Requests in flight across all classes */
+    private int inFlight;
+    
+    /** Waiting requests per class */
+    private final List<ArrayDeque<Waiter>> queues;
+    
+    /** Requests in flight per class */
+    private final int[] classInFlight = new int[CLASSES.length];
+    
+    /** Concurrency cap per class */
+    private final int[] caps = new int[CLASSES.length];
+    
+    /** Weight per class */
+    private final int[] weights = new int[CLASSES.length];
+    
+    /** Virtual clock per class */
+    private final double[] virtualTime = new double[CLASSES.length];
+    
+    /** Virtual start time of the last dispatch */
+    private double systemVirtualTime;
+    
+    /** Dispatches per class */
+    private final long[] dispatched = new long[CLASSES.length];
+    
+    /** Queue wait per class */
+    private final LatencyHistogram[] queueWait = new LatencyHistogram[CLASSES.length];
+
+    /**
+     * Constructor with default weights and no per-class caps
+     * 
+     * @param maxConcurrency Maximum number of requests in flight
+     */
+    public RequestScheduler(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.queues = new ArrayList<>(CLASSES.length);
+        for (RequestPriority priority : CLASSES) {
+            int i = priority.ordinal();
+            queues.add(new ArrayDeque<>());
+            caps[i] = maxConcurrency;
+            weights[i] = priority.getDefaultWeight();
+            queueWait[i] = new LatencyHistogram(60, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Limit how many requests of one class may be in flight
+     * 
+     * @param priority Priority class
+     * @param cap Maximum in flight for the class
+     * @return this instance for chaining
+     */
+    public RequestScheduler setConcurrencyCap(RequestPriority priority, int cap) {
+        if (priority == null || cap <= 0) {
+            throw new IllegalArgumentException("Priority cannot be null and cap must be positive");
+        }
+        lock.lock();
+        try {
+            caps[priority.ordinal()] = Math.min(cap, maxConcurrency);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Set a class's share of dispatches when several classes are waiting
+     * 
+     * @param priority Priority class
+     * @param weight Relative weight
+     * @return this instance for chaining
+     */
+    public RequestScheduler setWeight(RequestPriority priority, int weight) {
+        if (priority == null || weight <= 0) {
+            throw new IllegalArgumentException("Priority cannot be null and weight must be positive");
+        }
+        lock.lock();
+        try {
+            weights[priority.ordinal()] = weight;
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Wait for a slot
+     * 
+     * @param priority Priority class of the request
+     * @return Permit to release when the request completes
+     * @throws InterruptedException if interrupted while waiting
+     * @throws InterruptedIOException if the caller's deadline passes while waiting
+     */
+    public Permit acquire(RequestPriority priority) throws InterruptedException, InterruptedIOException {
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority cannot be null");
+        }
+        int index = priority.ordinal();
+        Waiter waiter = new Waiter(Thread.currentThread());
+        long start = System.nanoTime();
+        
+        lock.lock();
+        try {
+            ArrayDeque<Waiter> queue = queues.get(index);
+            if (queue.isEmpty()) {
+                // A class returning from idle does not get credit for the time it was away
+                virtualTime[index] = Math.max(virtualTime[index], systemVirtualTime);
+            }
+            queue.addLast(waiter);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+        
+        Deadline deadline = Deadline.current();
+        while (!waiter.granted) {
+            if (deadline != null) {
+                long remaining = deadline.remainingMillis();
+                if (remaining <= 0) {
+                    abandon(index, waiter);
+                    throw new InterruptedIOException("Deadline exceeded while queued as " + priority);
+                }
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(remaining));
+            } else {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                abandon(index, waiter);
+                throw new InterruptedException("Interrupted while queued as " + priority);
+            }
+        }
+        
+        queueWait[index].record(System.nanoTime() - start);
+        return new Permit(this, priority);
+    }
+
+    /**
+     * Get the number of requests waiting in a class
+     * 
+     * @param priority Priority class
+     * @return waiting count
+     */
+    public int getWaiting(RequestPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority.ordinal()).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of requests in flight in a class
+     * 
+     * @param priority Priority class
+     * @return in-flight count
+     */
+    public int getInFlight(RequestPriority priority) {
+        lock.lock();
+        try {
+            return classInFlight[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of requests admitted in a class
+     * 
+     * @param priority Priority class
+     * @return dispatched count
+     */
+    public long getDispatchedCount(RequestPriority priority) {
+        lock.lock();
+        try {
+            return dispatched[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a percentile of the time requests of a class spent queued
+     * 
+     * @param priority Priority class
+     * @param percentile Percentile between 0 and 1, e.g. 0.99
+     * @return queue wait in milliseconds, or -1 if nothing was recorded
+     */
+    public double getQueueWaitMillis(RequestPriority priority, double percentile) {
+        long micros = queueWait[priority.ordinal()].percentileMicros(percentile);
+        return micros < 0 ? -1.0 : micros / 1000.0;
+    }
+
+    /**
+     * Return a slot and admit the next waiting request
+     * 
+     * @param priority Priority class of the completed request
+     */
+    private void release(RequestPriority priority) {
+        lock.lock();
+        try {
+            inFlight--;
+            classInFlight[priority.ordinal()]--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a waiter that gave up, returning its slot if it was granted meanwhile
+     * 
+     * @param index Class index
+     * @param waiter Waiter to remove
+     */
+    private void abandon(int index, Waiter waiter) {
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                inFlight--;
+                classInFlight[index]--;
+                dispatch();
+            } else {
+                queues.get(index).remove(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admit waiting requests while slots are free; caller holds the lock
+     */
+    private void dispatch() {
+        while (inFlight < maxConcurrency) {
+            boolean interactiveWaiting = !queues.get(RequestPriority.INTERACTIVE.ordinal()).isEmpty();
+            int next = -1;
+            for (int i = 0; i < CLASSES.length; i++) {
+                if (queues.get(i).isEmpty() || classInFlight[i] >= caps[i]) {
+                    continue;
+                }
+                if (CLASSES[i] == RequestPriority.BACKGROUND && interactiveWaiting) {
+                    continue;
+                }
+                if (next < 0 || virtualTime[i] < virtualTime[next]) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                return;
+            }
+            
+            Waiter waiter = queues.get(next).pollFirst();
+            systemVirtualTime = virtualTime[next];
+            virtualTime[next] += 1.0 / weights[next];
+            inFlight++;
+            classInFlight[next]++;
+            dispatched[next]++;
+            waiter.granted = true;
+            LockSupport.unpark(waiter.thread);
+        }
+    }
+
+    /**
+     * Admission to run one request
+     */
+    public static final class Permit {
+
+        /** Permit used when no scheduler is configured */
+        public static final Permit NONE = new Permit(null, null);
+        
+        /** Scheduler that issued the permit */
+        private final RequestScheduler scheduler;
+        
+        /** Priority class of the request */
+        private final RequestPriority priority;
+        
+        /** Whether the slot was returned */
+        private boolean released;
+        
+        private Permit(RequestScheduler scheduler, RequestPriority priority) {
+            this.scheduler = scheduler;
+            this.priority = priority;
+        }
+        
+        /**
+         * Return the slot; further calls have no effect
+         */
+        public void release() {
+            if (scheduler == null) {
+                return;
+            }
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            scheduler.release(priority);
+        }
+    }
+
+    /**
+     * Thread waiting for a slot
+     */
+    private static final class Waiter {
+
+        /** Waiting thread */
+        private final Thread thread;
+        
+        /** Set under the scheduler lock when a slot is assigned */
+        private volatile boolean granted;
+        
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.util.TaskExecutors;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP transport used by Client to reach the ReelPay API
+ * 
+ * Implementations only move bytes: signing, header construction and JSON
+ * handling stay in Client. Implementations must be thread-safe and must return
+ * response bodies already decoded from any content coding they negotiated.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public interface Transport {
+
+    /**
+     * Execute a request and wait for the response headers
+     * 
+     * The caller owns the returned response and must close it.
+     * 
+     * @param request Request to execute
+     * @return TransportResponse with status code and body stream
+     * @throws IOException if the request could not be completed
+     */
+    TransportResponse execute(TransportRequest request) throws IOException;
+
+    /**
+     * Execute a request without blocking the caller
+     * 
+     * Cancelling the returned future should abort the underlying call. The default
+     * implementation has no native async support and runs the blocking execute on
+     * the shared TaskExecutors pool (virtual threads on Java 21+).
+     * 
+     * @param request Request to execute
+     * @return future completed with the response, or exceptionally with an IOException
+     */
+    default CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+        Future<?> task = TaskExecutors.blockingIo().submit(() -> {
+            try {
+                TransportResponse response = execute(request);
+                if (!future.complete(response)) {
+                    response.close();
+                }
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return future;
+    }
+}
@@ -0,0 +1,124 @@
+package com.reelpay.api.HttpRequest;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable HTTP request handed to a Transport
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class TransportRequest {
+
+    /** HTTP POST method */
+    public static final String METHOD_POST = "POST";
+    
+    /** HTTP HEAD method */
+    public static final String METHOD_HEAD = "HEAD";
+    
+    /** HTTP method */
+    private final String method;
+    
+    /** Absolute request URL */
+    private final String url;
+    
+    /** Request headers */
+    private final Map<String, String> headers;
+    
+    /** Request body bytes as sent on the wire, or null for no body */
+    private final byte[] body;
+    
+    /** Whole-call timeout in milliseconds, or 0 for the transport's default */
+    private final long timeoutMillis;
+
+    /**
+     * Constructor
+     * 
+     * @param method HTTP method (METHOD_POST or METHOD_HEAD)
+     * @param url Absolute request URL
+     * @param headers Request headers
+     * @param body Request body bytes, or null for no body
+     */
+    public TransportRequest(String method, String url, Map<String, String> headers, byte[] body) {
+        this(method, url, headers, body, 0L);
+    }
+
+    /**
+     * Constructor with a whole-call timeout
+     * 
+     * @param method HTTP method (METHOD_POST or METHOD_HEAD)
+     * @param url Absolute request URL
+     * @param headers Request headers
+     * @param body Request body bytes, or null for no body
+     * @param timeoutMillis Whole-call timeout in milliseconds, or 0 for the transport's default
+     */
+    public TransportRequest(String method, String url, Map<String, String> headers, byte[] body, long timeoutMillis) {
+        if (method == null || method.isEmpty()) {
+            throw new IllegalArgumentException("Method cannot be null or empty");
+        }
+        if (url == null || url.isEmpty()) {
+            throw new IllegalArgumentException("URL cannot be null or empty");
+        }
+        this.method = method;
+        this.url = url;
+        this.headers = headers != null ? Collections.unmodifiableMap(headers) : Collections.<String, String>emptyMap();
+        this.body = body;
+        this.timeoutMillis = Math.max(0L, timeoutMillis);
+    }
+
+    /**
+     * Copy this request with another URL, e.g. to send it to a different endpoint
+     * 
+     * @param newUrl Absolute request URL
+     * @return TransportRequest with the same method, headers, body and timeout
+     */
+    public TransportRequest withUrl(String newUrl) {
+        return new TransportRequest(method, newUrl, headers, body, timeoutMillis);
+    }
+
+    /**
+     * Get the HTTP method
+     * 
+     * @return method name
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the absolute request URL
+     * 
+     * @return request URL
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Get the request headers
+     * 
+     * @return unmodifiable header map
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the request body bytes
+     * 
+     * @return body bytes as sent on the wire, or null
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get the whole-call timeout, covering connect, send and reading the response
+     * 
+     * @return timeout in milliseconds, or 0 for the transport's default
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
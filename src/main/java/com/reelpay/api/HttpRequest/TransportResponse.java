@@ -0,0 +1,112 @@
+package com.reelpay.api.HttpRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HTTP response returned by a Transport
+ * 
+ * The body is exposed as a decoded stream so that Client can parse JSON while it
+ * arrives. Closing the response releases the underlying connection.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class TransportResponse implements Closeable {
+
+    /** HTTP status code */
+    private final int statusCode;
+    
+    /** Decoded response body */
+    private final InputStream body;
+    
+    /** Resource released on close, may be the body itself */
+    private final Closeable resource;
+
+    /**
+     * Constructor
+     * 
+     * @param statusCode HTTP status code
+     * @param body Decoded response body stream, or null for an empty body
+     * @param resource Resource to release on close, or null to close the body only
+     */
+    public TransportResponse(int statusCode, InputStream body, Closeable resource) {
+        this.statusCode = statusCode;
+        this.body = body != null ? body : new ByteArrayInputStream(new byte[0]);
+        this.resource = resource != null ? resource : this.body;
+    }
+
+    /**
+     * Create a response from a fully buffered body
+     * 
+     * @param statusCode HTTP status code
+     * @param body Response body bytes
+     * @return TransportResponse instance
+     */
+    public static TransportResponse of(int statusCode, byte[] body) {
+        return new TransportResponse(statusCode, new ByteArrayInputStream(body != null ? body : new byte[0]), null);
+    }
+
+    /**
+     * Get the HTTP status code
+     * 
+     * @return status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Check whether the status code is in the 2xx range
+     * 
+     * @return true for a successful response
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Get the decoded body stream
+     * 
+     * @return body stream
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Get the decoded body as a UTF-8 reader
+     * 
+     * @return body reader
+     */
+    public Reader bodyReader() {
+        return new InputStreamReader(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the whole body as a UTF-8 string
+     * 
+     * @return body string
+     * @throws IOException if the body cannot be read
+     */
+    public String bodyString() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        resource.close();
+    }
+}
@@ -0,0 +1,108 @@
+package com.reelpay.api.HttpRequest;
+
+import java.util.Locale;
+
+/**
+ * Timing report produced by a client warm-up
+ * 
+ * All durations are in nanoseconds.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class WarmUpReport {
+
+    /** Time spent creating the signer for the application key */
+    private final long signerNanos;
+    
+    /** Time spent opening a pooled connection to the base URL */
+    private final long connectNanos;
+    
+    /** Time spent in the synthetic signing and parsing loop */
+    private final long primingNanos;
+    
+    /** Number of synthetic iterations executed */
+    private final int iterations;
+    
+    /** Whether a connection to the base URL was established */
+    private final boolean connected;
+
+    /**
+     * Constructor
+     * 
+     * @param signerNanos Signer initialization time
+     * @param connectNanos Connection time
+     * @param primingNanos Priming loop time
+     * @param iterations Number of priming iterations
+     * @param connected Whether the pre-connect succeeded
+     */
+    WarmUpReport(long signerNanos, long connectNanos, long primingNanos, int iterations, boolean connected) {
+        this.signerNanos = signerNanos;
+        this.connectNanos = connectNanos;
+        this.primingNanos = primingNanos;
+        this.iterations = iterations;
+        this.connected = connected;
+    }
+
+    /**
+     * Get the signer initialization time
+     * 
+     * @return duration in nanoseconds
+     */
+    public long getSignerNanos() {
+        return signerNanos;
+    }
+
+    /**
+     * Get the connection time
+     * 
+     * @return duration in nanoseconds
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * Get the priming loop time
+     * 
+     * @return duration in nanoseconds
+     */
+    public long getPrimingNanos() {
+        return primingNanos;
+    }
+
+    /**
+     * Get the total warm-up time
+     * 
+     * @return duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return signerNanos + connectNanos + primingNanos;
+    }
+
+    /**
+     * Get the number of priming iterations
+     * 
+     * @return iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Check whether a connection to the base URL was established
+     * 
+     * @return true if the pre-connect succeeded
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "WarmUpReport{signer=%.2fms, connect=%.2fms (%s), priming=%.2fms (%d iterations), total=%.2fms}",
+                signerNanos / 1e6, connectNanos / 1e6, connected ? "ok" : "failed",
+                primingNanos / 1e6, iterations, getTotalNanos() / 1e6);
+    }
+}
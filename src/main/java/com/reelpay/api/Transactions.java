@@ -1,14 +1,34 @@
 package com.reelpay.api;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.reelpay.api.HttpRequest.AdaptiveTimeouts;
 import com.reelpay.api.HttpRequest.Client;
-import com.reelpay.api.HttpRequest.Cover;
+import com.reelpay.api.HttpRequest.EndpointPool;
+import com.reelpay.api.HttpRequest.KeyRing;
+import com.reelpay.api.HttpRequest.RequestScheduler;
+import com.reelpay.api.HttpRequest.Transport;
+import com.reelpay.api.HttpRequest.WarmUpReport;
+import com.reelpay.api.bulk.BulkExecutor;
+import com.reelpay.api.bulk.BulkResult;
+import com.reelpay.api.bulk.OrderSpec;
+import com.reelpay.api.checkout.CheckoutTemplate;
 import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.constants.TransactionStatus;
+import com.reelpay.api.idempotency.IdempotencyCache;
+import com.reelpay.api.money.Money;
+import com.reelpay.api.util.RateLimiter;
+import com.reelpay.api.util.SdkEvents;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * ReelPay SDK Transactions API Client
@@ -27,6 +47,9 @@ public class Transactions extends Client {
     
     /** Logger instance for this class */
     private final Logger logger = LogManager.getLogger(this.getClass());
+    
+    /** Idempotency cache for order creation, or null if disabled */
+    private volatile IdempotencyCache orderIdempotency;
 
     /**
      * Constructor with default API URL
@@ -53,6 +76,207 @@ public class Transactions extends Client {
         super.appKey = appKey;
     }
 
+    /**
+     * Constructor with several equivalent API base URLs
+     * 
+     * Requests are balanced across the URLs by observed latency and errors, unhealthy
+     * URLs are ejected until they answer a probe, and retry-safe reads fail over to
+     * another URL. The first URL is used for anything that needs a single base URL.
+     * 
+     * @param appId Application ID provided by ReelPay
+     * @param appKey Application Key provided by ReelPay
+     * @param apiUrls Equivalent API base URLs, e.g. regional endpoints
+     */
+    public Transactions(String appId, String appKey, List<String> apiUrls) {
+        super.endpointPool = new EndpointPool(apiUrls);
+        super.baseUrl = apiUrls.get(0);
+        super.appId = appId;
+        super.appKey = appKey;
+    }
+
+    // ==================== Configuration Methods ====================
+    
+    /**
+     * Enable gzip compression for request bodies at or above the given size
+     * 
+     * The signature is always computed over the uncompressed JSON body.
+     * Responses are decompressed transparently regardless of this setting.
+     * 
+     * @param thresholdBytes Minimum body size in bytes to compress (e.g. ReelPayConstants.DEFAULT_COMPRESSION_THRESHOLD)
+     * @return this instance for chaining
+     */
+    public Transactions enableRequestCompression(int thresholdBytes) {
+        if (thresholdBytes < 0) {
+            throw new IllegalArgumentException("Compression threshold cannot be negative");
+        }
+        super.compressionThreshold = thresholdBytes;
+        return this;
+    }
+
+    /**
+     * Disable gzip compression for request bodies (the default)
+     * 
+     * @return this instance for chaining
+     */
+    public Transactions disableRequestCompression() {
+        super.compressionThreshold = ReelPayConstants.COMPRESSION_DISABLED;
+        return this;
+    }
+
+    /**
+     * Remember order creations by out_trade_no so retries never reach the API twice
+     * 
+     * A createOrder call whose out_trade_no is already in flight waits for that call;
+     * one that already completed gets a copy of the earlier response. Calls that
+     * throw are forgotten so they can be retried.
+     * 
+     * @param maxEntries Maximum number of remembered out_trade_no values
+     * @return this instance for chaining
+     */
+    public Transactions enableIdempotency(int maxEntries) {
+        this.orderIdempotency = new IdempotencyCache(maxEntries);
+        return this;
+    }
+
+    /**
+     * Remember order creations by out_trade_no, persisted to a local file
+     * 
+     * @param cache Idempotency cache, e.g. new IdempotencyCache(maxEntries, path), or null to disable
+     * @return this instance for chaining
+     */
+    public Transactions setIdempotencyCache(IdempotencyCache cache) {
+        this.orderIdempotency = cache;
+        return this;
+    }
+
+    /**
+     * Use a custom HTTP transport instead of the shared OkHttp transport
+     * 
+     * @param transport Transport implementation, or null to restore the default
+     * @return this instance for chaining
+     */
+    public Transactions setTransport(Transport transport) {
+        super.transport = transport;
+        return this;
+    }
+
+    /**
+     * Limit the rate of requests sent by this client
+     * 
+     * Pass the same RateLimiter to several clients to cap their combined rate.
+     * Bulk operations go through the same limiter.
+     * 
+     * @param rateLimiter Rate limiter, or null to remove the limit
+     * @return this instance for chaining
+     */
+    public Transactions setRateLimiter(RateLimiter rateLimiter) {
+        super.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Queue requests by priority class in front of the transport
+     * 
+     * Order and checkout creation run as INTERACTIVE, payouts as PAYOUT, single
+     * queries as QUERY and bulk operations as BACKGROUND, unless a
+     * RequestPriority scope is open. Share one scheduler between clients to
+     * prioritize their combined traffic.
+     * 
+     * @param scheduler Request scheduler, or null to send requests immediately
+     * @return this instance for chaining
+     */
+    public Transactions setRequestScheduler(RequestScheduler scheduler) {
+        super.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * Get the pool of base URLs
+     * 
+     * @return EndpointPool with per-URL statistics, or null when a single URL is used
+     */
+    public EndpointPool getEndpointPool() {
+        return endpointPool;
+    }
+
+    /**
+     * Derive per-endpoint timeouts from observed latency and hedge slow reads
+     * 
+     * Timeouts follow each endpoint's latency percentiles within the configured
+     * floor and ceiling. Order, payout, exchange rate and currency queries that run
+     * past the hedge percentile get a second request; the first response wins and
+     * the other call is cancelled. Order and payout creation are never hedged.
+     * 
+     * @param timeouts Adaptive timeouts, or null to use the transport's fixed timeouts
+     * @return this instance for chaining
+     */
+    public Transactions setAdaptiveTimeouts(AdaptiveTimeouts timeouts) {
+        super.adaptiveTimeouts = timeouts;
+        return this;
+    }
+
+    /**
+     * Rotate the application key without downtime
+     * 
+     * Requests are signed with the new key immediately; callbacks signed with the
+     * previous key keep verifying until retireOldKey() is called.
+     * 
+     * @param newAppKey New application key
+     * @return this instance for chaining
+     */
+    public Transactions rotateKey(String newAppKey) {
+        if (newAppKey == null || newAppKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("App key cannot be null or empty");
+        }
+        keyRing().rotate(newAppKey);
+        super.appKey = newAppKey;
+        return this;
+    }
+
+    /**
+     * Stop accepting callbacks signed with the previous application key
+     * 
+     * @return this instance for chaining
+     */
+    public Transactions retireOldKey() {
+        keyRing().retireSecondary();
+        return this;
+    }
+
+    /**
+     * Get the key ring, e.g. to watch secondary key hits during a rotation
+     * 
+     * @return KeyRing holding the primary and secondary application keys
+     */
+    public KeyRing getKeyRing() {
+        return keyRing();
+    }
+
+    /**
+     * Warm up connections, the signer and the request path with default iterations
+     * 
+     * Call once at startup, before taking traffic, so the first real requests do not
+     * pay for DNS, TCP/TLS handshakes, key setup, class loading and interpretation.
+     * 
+     * @return WarmUpReport with the timing of each phase
+     */
+    public WarmUpReport warmUp() {
+        return warmUp(ReelPayConstants.DEFAULT_WARM_UP_ITERATIONS);
+    }
+
+    /**
+     * Warm up connections, the signer and the request path
+     * 
+     * @param iterations Number of synthetic signing and parsing iterations
+     * @return WarmUpReport with the timing of each phase
+     */
+    @Override
+    public WarmUpReport warmUp(int iterations) {
+        WarmUpReport report = super.warmUp(iterations);
+        logger.info("ReelPay client warm-up finished: {}", report);
+        return report;
+    }
+
     // ==================== Payment Order Creation Methods ====================
     
     /**
@@ -62,7 +286,12 @@ public class Transactions extends Client {
      * @return JsonObject API response containing order details
      */
     public JsonObject createOrder(JsonObject requestData) {
-        return request(ReelPayConstants.ENDPOINT_CREATE_ORDER, requestData);
+        IdempotencyCache cache = orderIdempotency;
+        JsonElement outTradeNo = cache != null && requestData != null ? requestData.get("out_trade_no") : null;
+        if (outTradeNo == null || !outTradeNo.isJsonPrimitive()) {
+            return request(ReelPayConstants.ENDPOINT_CREATE_ORDER, requestData);
+        }
+        return cache.execute(outTradeNo.getAsString(), () -> request(ReelPayConstants.ENDPOINT_CREATE_ORDER, requestData));
     }
 
     /**
@@ -90,6 +319,19 @@ public class Transactions extends Client {
         return createOrder(requestData);
     }
 
+    /**
+     * Create a basic payment order with a typed amount
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID (e.g., "BTC", "ETH")
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     * @return JsonObject API response containing order details
+     */
+    public JsonObject createOrder(String outTradeNo, String currencyId, String fiatName, Money fiatAmount) {
+        return createOrder(outTradeNo, currencyId, fiatName, wireAmount(fiatAmount));
+    }
+
     /**
      * Create a payment order with callback URL and timeout
      * 
@@ -108,6 +350,22 @@ public class Transactions extends Client {
         return createOrder(requestData);
     }
 
+    /**
+     * Create a payment order with a typed amount, callback URL and timeout
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID (e.g., "BTC", "ETH")
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     * @param callbackUrl Callback URL for payment notifications
+     * @param timeoutSeconds Order timeout in seconds
+     * @return JsonObject API response containing order details
+     */
+    public JsonObject createOrder(String outTradeNo, String currencyId, String fiatName, Money fiatAmount,
+                                 String callbackUrl, long timeoutSeconds) {
+        return createOrder(outTradeNo, currencyId, fiatName, wireAmount(fiatAmount), callbackUrl, timeoutSeconds);
+    }
+
     /**
      * Create a payment order with callback and redirect URLs
      * 
@@ -125,6 +383,79 @@ public class Transactions extends Client {
         return createOrder(requestData);
     }
 
+    /**
+     * Create a payment order with a typed amount, callback and redirect URLs
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID (e.g., "BTC", "ETH")
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     * @param callbackUrl Callback URL for payment notifications
+     * @param redirectUrl Redirect URL after payment completion
+     * @return JsonObject API response containing order details
+     */
+    public JsonObject createOrder(String outTradeNo, String currencyId, String fiatName, Money fiatAmount,
+                                 String callbackUrl, String redirectUrl) {
+        return createOrder(outTradeNo, currencyId, fiatName, wireAmount(fiatAmount), callbackUrl, redirectUrl);
+    }
+
+    /**
+     * Create a payment order from an order specification
+     * 
+     * @param spec Order parameters
+     * @return JsonObject API response containing order details
+     */
+    public JsonObject createOrder(OrderSpec spec) {
+        if (spec == null) {
+            throw new IllegalArgumentException("Order spec cannot be null");
+        }
+        return createOrder(buildOrderRequest(spec.getOutTradeNo(), spec.getCurrencyId(), spec.getFiatName(),
+                spec.getFiatAmount(), spec.getCallbackUrl(), spec.getRedirectUrl(), spec.getTimeoutSeconds()));
+    }
+
+    /**
+     * Create many payment orders with the default window
+     * 
+     * @param orders Order specifications, consumed lazily
+     * @param listener Receives one BulkResult per order, keyed by out_trade_no
+     */
+    public void createOrders(Iterator<OrderSpec> orders, Consumer<BulkResult> listener) {
+        createOrders(orders, ReelPayConstants.DEFAULT_BULK_CONCURRENCY, listener);
+    }
+
+    /**
+     * Create many payment orders keeping a bounded window of requests in flight
+     * 
+     * The next order is pulled from the iterator only when a slot in the window is
+     * free, so a fast producer is held back and memory use stays flat however many
+     * orders are supplied. Blocks until every result has been delivered; results
+     * arrive one at a time in completion order and a failed order does not stop the others.
+     * 
+     * @param orders Order specifications, consumed lazily
+     * @param window Maximum number of creations in flight
+     * @param listener Receives one BulkResult per order, keyed by out_trade_no
+     */
+    public void createOrders(Iterator<OrderSpec> orders, int window, Consumer<BulkResult> listener) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        new BulkExecutor(window).run(orders, OrderSpec::getOutTradeNo, this::createOrder, listener);
+    }
+
+    /**
+     * Create many payment orders from a stream keeping a bounded window of requests in flight
+     * 
+     * @param orders Order specifications, consumed lazily
+     * @param window Maximum number of creations in flight
+     * @param listener Receives one BulkResult per order, keyed by out_trade_no
+     */
+    public void createOrders(Stream<OrderSpec> orders, int window, Consumer<BulkResult> listener) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        createOrders(orders.iterator(), window, listener);
+    }
+
     /**
      * Build order request JsonObject with common parameters
      * 
@@ -169,7 +500,7 @@ public class Transactions extends Client {
      * @return JsonObject API response containing exchange rate information
      */
     public JsonObject getExchangeRate(JsonObject requestData) {
-        return request(ReelPayConstants.ENDPOINT_EXCHANGE_RATE, requestData);
+        return requestIdempotent(ReelPayConstants.ENDPOINT_EXCHANGE_RATE, requestData);
     }
 
     /**
@@ -199,6 +530,18 @@ public class Transactions extends Client {
         return getExchangeRate(requestData);
     }
 
+    /**
+     * Get current exchange rate for a typed fiat amount
+     * 
+     * @param currencyId Cryptocurrency ID (see https://docs.reelpay.com/payment-api/api-interface#token-list)
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency to convert
+     * @return JsonObject API response containing exchange rate information
+     */
+    public JsonObject getExchangeRate(String currencyId, String fiatName, Money fiatAmount) {
+        return getExchangeRate(currencyId, fiatName, wireAmount(fiatAmount));
+    }
+
     // ==================== Order Query Methods ====================
     
     /**
@@ -208,7 +551,7 @@ public class Transactions extends Client {
      * @return JsonObject API response containing order information
      */
     public JsonObject queryOrderInfo(JsonObject requestData) {
-        return request(ReelPayConstants.ENDPOINT_QUERY_ORDER, requestData);
+        return requestIdempotent(ReelPayConstants.ENDPOINT_QUERY_ORDER, requestData);
     }
 
     /**
@@ -231,7 +574,7 @@ public class Transactions extends Client {
      * @return JsonObject API response containing supported currencies
      */
     public JsonObject getSupportedCurrencies() {
-        return request(ReelPayConstants.ENDPOINT_CURRENCIES, new JsonObject());
+        return requestIdempotent(ReelPayConstants.ENDPOINT_CURRENCIES, new JsonObject());
     }
 
     /**
@@ -292,6 +635,21 @@ public class Transactions extends Client {
         return createHostedCheckout(requestData);
     }
 
+    /**
+     * Create basic hosted checkout with a typed price
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param symbol Legal currency unit (e.g., "USD", "EUR")
+     * @param amount Product price, sent with 2 decimal places
+     * @param name Product name
+     * @param image Product image URL
+     * @return JsonObject API response containing checkout URL and details
+     * @throws ArithmeticException if the price has non-zero digits beyond 2 decimal places
+     */
+    public JsonObject createHostedCheckout(String outTradeNo, String symbol, Money amount, String name, String image) {
+        return createHostedCheckout(outTradeNo, symbol, checkoutAmount(amount), name, image);
+    }
+
     /**
      * Create hosted checkout with additional parameters
      * 
@@ -311,6 +669,58 @@ public class Transactions extends Client {
         return createHostedCheckout(requestData);
     }
 
+    /**
+     * Create hosted checkout with a typed price and additional parameters
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param symbol Legal currency unit (e.g., "USD", "EUR")
+     * @param amount Product price, sent with 2 decimal places
+     * @param name Product name
+     * @param image Product image URL
+     * @param timeExpire Order expiration timestamp
+     * @param description Product description
+     * @param callbackUrl Callback URL for payment notifications
+     * @return JsonObject API response containing checkout URL and details
+     * @throws ArithmeticException if the price has non-zero digits beyond 2 decimal places
+     */
+    public JsonObject createHostedCheckout(String outTradeNo, String symbol, Money amount, String name, String image,
+                                         int timeExpire, String description, String callbackUrl) {
+        return createHostedCheckout(outTradeNo, symbol, checkoutAmount(amount), name, image, timeExpire, description, callbackUrl);
+    }
+
+    /**
+     * Create hosted checkout from a precompiled template
+     * 
+     * Only the per-checkout fields are encoded; the template's pre-encoded fragments
+     * are copied around them and the resulting bytes are signed and sent as they are.
+     * 
+     * @param template Precompiled product fields
+     * @param outTradeNo Merchant's unique order ID
+     * @param amount Product price (keep 2 decimal places, e.g., "2.00", "0.50")
+     * @param timeExpire Order expiration timestamp, 0 if not specified
+     * @return JsonObject API response containing checkout URL and details
+     */
+    public JsonObject createHostedCheckout(CheckoutTemplate template, String outTradeNo, String amount, int timeExpire) {
+        if (template == null) {
+            throw new IllegalArgumentException("Checkout template cannot be null");
+        }
+        return requestEncoded(ReelPayConstants.ENDPOINT_HOSTED_CHECKOUT, template.encode(outTradeNo, amount, timeExpire));
+    }
+
+    /**
+     * Create hosted checkout from a precompiled template with a typed price
+     * 
+     * @param template Precompiled product fields
+     * @param outTradeNo Merchant's unique order ID
+     * @param amount Product price, sent with 2 decimal places
+     * @param timeExpire Order expiration timestamp, 0 if not specified
+     * @return JsonObject API response containing checkout URL and details
+     * @throws ArithmeticException if the price has non-zero digits beyond 2 decimal places
+     */
+    public JsonObject createHostedCheckout(CheckoutTemplate template, String outTradeNo, Money amount, int timeExpire) {
+        return createHostedCheckout(template, outTradeNo, checkoutAmount(amount), timeExpire);
+    }
+
     /**
      * Build hosted checkout request JsonObject
      * 
@@ -391,6 +801,20 @@ public class Transactions extends Client {
         return createPayout(requestData);
     }
 
+    /**
+     * Create payout of a typed amount to a third-party address
+     * 
+     * @param currencyId Cryptocurrency ID
+     * @param amount Amount to transfer, at the currency's precision
+     * @param toAddress Destination address
+     * @param googleCode Google Authenticator code (if required)
+     * @param callbackUrl Callback URL for payout notifications
+     * @return JsonObject API response containing payout details
+     */
+    public JsonObject createPayout(String currencyId, Money amount, String toAddress, String googleCode, String callbackUrl) {
+        return createPayout(currencyId, wireAmount(amount), toAddress, googleCode, callbackUrl);
+    }
+
     // ==================== Payout Query Methods ====================
     
     /**
@@ -400,7 +824,7 @@ public class Transactions extends Client {
      * @return JsonObject API response containing payout status
      */
     public JsonObject queryPayoutInfo(JsonObject requestData) {
-        return request(ReelPayConstants.ENDPOINT_QUERY_PAYOUT, requestData);
+        return requestIdempotent(ReelPayConstants.ENDPOINT_QUERY_PAYOUT, requestData);
     }
 
     /**
@@ -415,6 +839,72 @@ public class Transactions extends Client {
         return queryPayoutInfo(requestData);
     }
 
+    // ==================== Bulk Query Methods ====================
+    
+    /**
+     * Query many orders with the default concurrency
+     * 
+     * @param tradeNos ReelPay order IDs
+     * @param listener Receives one BulkResult per trade number as it completes
+     */
+    public void queryOrders(Collection<String> tradeNos, Consumer<BulkResult> listener) {
+        queryOrders(tradeNos, ReelPayConstants.DEFAULT_BULK_CONCURRENCY, listener);
+    }
+
+    /**
+     * Query many orders with bounded concurrency
+     * 
+     * Blocks until every result has been delivered. Results arrive one at a time in
+     * completion order; a failed lookup yields a failed BulkResult and does not stop
+     * the others. Requests share the client's connection pool and rate limiter.
+     * 
+     * @param tradeNos ReelPay order IDs
+     * @param maxConcurrency Maximum number of lookups in flight
+     * @param listener Receives one BulkResult per trade number as it completes
+     */
+    public void queryOrders(Collection<String> tradeNos, int maxConcurrency, Consumer<BulkResult> listener) {
+        validateBulkKeys(tradeNos);
+        new BulkExecutor(maxConcurrency).run(tradeNos.iterator(), tradeNo -> tradeNo, this::queryOrderInfo, listener);
+    }
+
+    /**
+     * Query many payouts with the default concurrency
+     * 
+     * @param tradeNos Payout trade numbers
+     * @param listener Receives one BulkResult per trade number as it completes
+     */
+    public void queryPayouts(Collection<String> tradeNos, Consumer<BulkResult> listener) {
+        queryPayouts(tradeNos, ReelPayConstants.DEFAULT_BULK_CONCURRENCY, listener);
+    }
+
+    /**
+     * Query many payouts with bounded concurrency
+     * 
+     * Blocks until every result has been delivered. Results arrive one at a time in
+     * completion order; a failed lookup yields a failed BulkResult and does not stop
+     * the others. Requests share the client's connection pool and rate limiter.
+     * 
+     * @param tradeNos Payout trade numbers
+     * @param maxConcurrency Maximum number of lookups in flight
+     * @param listener Receives one BulkResult per trade number as it completes
+     */
+    public void queryPayouts(Collection<String> tradeNos, int maxConcurrency, Consumer<BulkResult> listener) {
+        validateBulkKeys(tradeNos);
+        new BulkExecutor(maxConcurrency).run(tradeNos.iterator(), tradeNo -> tradeNo, this::queryPayoutInfo, listener);
+    }
+
+    /**
+     * Validate the key collection of a bulk operation
+     * 
+     * @param keys Keys to validate
+     * @throws IllegalArgumentException if the collection is null
+     */
+    private void validateBulkKeys(Collection<String> keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Trade numbers cannot be null");
+        }
+    }
+
     // ==================== Callback Verification Methods ====================
     
     /**
@@ -428,41 +918,82 @@ public class Transactions extends Client {
      * @return true if signature is valid, false otherwise
      */
     public boolean verifyCallbackSignature(String requestBody, HashMap<String, String> requestHeaders) {
+        Object event = SdkEvents.beginCallbackVerification();
+        String appId = null;
+        String outcome = SdkEvents.OUTCOME_ERROR;
         try {
-            String appId = requestHeaders.get(ReelPayConstants.HEADER_APP_ID);
+            appId = requestHeaders.get(ReelPayConstants.HEADER_APP_ID);
             String timestamp = requestHeaders.get(ReelPayConstants.HEADER_TIMESTAMP);
             String signature = requestHeaders.get(ReelPayConstants.HEADER_SIGNATURE);
             
             // Validate required headers
             if (appId == null || timestamp == null || signature == null) {
                 logger.error(ReelPayConstants.ERROR_MISSING_HEADERS);
+                outcome = SdkEvents.OUTCOME_MISSING_HEADERS;
                 return false;
             }
             
             // Verify app ID
             if (!this.appId.equals(appId)) {
                 logger.error(ReelPayConstants.ERROR_APP_ID_MISMATCH);
+                outcome = SdkEvents.OUTCOME_UNKNOWN_APP_ID;
                 return false;
             }
             
-            // Verify signature
-            Cover cover = new Cover(this.appKey, requestBody, Long.valueOf(timestamp));
-            if (!cover.validateSign(signature)) {
+            // Verify signature against the primary key, then the secondary key during rotation
+            KeyRing.Match match = keyRing().match(requestBody, Long.valueOf(timestamp), signature);
+            if (match == KeyRing.Match.NONE) {
                 logger.error(ReelPayConstants.ERROR_SIGNATURE_VALIDATION_FAILED);
+                outcome = SdkEvents.OUTCOME_BAD_SIGNATURE;
                 return false;
             }
+            if (match == KeyRing.Match.SECONDARY) {
+                logger.debug("Callback verified with the secondary application key");
+            }
             
             logger.debug(ReelPayConstants.SUCCESS_SIGNATURE_VERIFIED);
+            outcome = match == KeyRing.Match.SECONDARY ? SdkEvents.OUTCOME_VERIFIED_SECONDARY : SdkEvents.OUTCOME_VERIFIED;
             return true;
             
         } catch (Exception e) {
             logger.error("Error during callback signature verification: {}", e.getMessage(), e);
             return false;
+        } finally {
+            SdkEvents.endCallbackVerification(event, appId, outcome);
         }
     }
 
     // ==================== Utility Methods ====================
     
+    /**
+     * Format a typed amount for the wire
+     * 
+     * @param amount Amount to send
+     * @return plain decimal string, e.g. "2.00"
+     * @throws IllegalArgumentException if amount is null
+     */
+    private static String wireAmount(Money amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        return amount.toString();
+    }
+
+    /**
+     * Format a hosted checkout price, which the API expects with 2 decimal places
+     * 
+     * @param amount Product price
+     * @return plain decimal string with 2 decimal places
+     * @throws IllegalArgumentException if amount is null
+     * @throws ArithmeticException if the price has non-zero digits beyond 2 decimal places
+     */
+    private static String checkoutAmount(Money amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        return amount.rescale(ReelPayConstants.CHECKOUT_AMOUNT_SCALE).toString();
+    }
+
     /**
      * Get supported transaction statuses
      * 
@@ -481,4 +1012,22 @@ public class Transactions extends Client {
     public boolean isValidTransactionStatus(String status) {
         return ReelPayConstants.isValidTransactionStatus(status);
     }
+
+    /**
+     * Get the typed transaction status from an order query response or callback body
+     * 
+     * Reads "status" from the data object, or from the top level when there is none.
+     * 
+     * @param response Query response or parsed callback body
+     * @return status, or null if absent or not a known status
+     */
+    public TransactionStatus getTransactionStatus(JsonObject response) {
+        if (response == null) {
+            return null;
+        }
+        JsonElement data = response.get("data");
+        JsonObject source = data != null && data.isJsonObject() ? data.getAsJsonObject() : response;
+        JsonElement status = source.get("status");
+        return status != null && status.isJsonPrimitive() ? TransactionStatus.fromValue(status.getAsString()) : null;
+    }
 }
@@ -0,0 +1,141 @@
+package com.reelpay.api.bulk;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs blocking API calls for a stream of items with bounded concurrency
+ * 
+ * Items are pulled from the source only when a slot in the window is free, so
+ * the producer is throttled to the speed of the API and memory use does not
+ * depend on the number of items. A failure of one item is reported as a failed
+ * BulkResult and never stops the others. Results are delivered to the listener
+ * one at a time, in completion order.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class BulkExecutor {
+
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(BulkExecutor.class);
+    
+    /** Executor running the blocking calls */
+    private final Executor executor;
+    
+    /** Maximum number of calls in flight */
+    private final int maxConcurrency;
+
+    /**
+     * Constructor using the shared blocking I/O executor
+     * 
+     * @param maxConcurrency Maximum number of calls in flight
+     */
+    public BulkExecutor(int maxConcurrency) {
+        this(maxConcurrency, TaskExecutors.blockingIo());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param maxConcurrency Maximum number of calls in flight
+     * @param executor Executor running the blocking calls
+     */
+    public BulkExecutor(int maxConcurrency, Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Get the maximum number of calls in flight
+     * 
+     * @return concurrency limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Run a call for every item and wait until all results have been delivered
+     * 
+     * Calls run under the caller's Deadline and RequestPriority, BACKGROUND by default.
+     * 
+     * @param items Source of items, consumed lazily on the calling thread
+     * @param keyFunction Extracts the result key from an item
+     * @param call Blocking API call for one item
+     * @param listener Receives each result as it completes
+     * @param <T> Item type
+     * @throws RuntimeException if interrupted while waiting
+     */
+    public <T> void run(Iterator<T> items, Function<T, String> keyFunction,
+                        Function<T, JsonObject> call, Consumer<BulkResult> listener) {
+        if (items == null || keyFunction == null || call == null || listener == null) {
+            throw new IllegalArgumentException("Items, key function, call and listener cannot be null");
+        }
+        
+        TaskWindow window = new TaskWindow(executor, maxConcurrency);
+        Object listenerLock = new Object();
+        
+        try {
+            while (true) {
+                window.acquire();
+                if (!items.hasNext()) {
+                    window.release();
+                    break;
+                }
+                T item = items.next();
+                
+                window.execute(() -> {
+                    try {
+                        BulkResult result = invoke(item, keyFunction, call);
+                        synchronized (listenerLock) {
+                            listener.accept(result);
+                        }
+                    } catch (RuntimeException e) {
+                        logger.error("Bulk result listener failed: {}", e.getMessage(), e);
+                    }
+                });
+            }
+            
+            // Wait for the calls still in flight
+            window.awaitIdle();
+        
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bulk operation interrupted", e);
+        }
+    }
+
+    /**
+     * Invoke the call for one item, turning failures into a failed result
+     * 
+     * @param item Item to process
+     * @param keyFunction Extracts the result key from an item
+     * @param call Blocking API call
+     * @param <T> Item type
+     * @return BulkResult for the item
+     */
+    private static <T> BulkResult invoke(T item, Function<T, String> keyFunction, Function<T, JsonObject> call) {
+        String key = null;
+        try {
+            key = keyFunction.apply(item);
+            return BulkResult.success(key, call.apply(item));
+        } catch (RuntimeException e) {
+            logger.debug("Bulk item {} failed: {}", key, e.getMessage());
+            return BulkResult.failure(key, e);
+        }
+    }
+}
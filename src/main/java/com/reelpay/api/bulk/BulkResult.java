@@ -0,0 +1,101 @@
+package com.reelpay.api.bulk;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Outcome of one item in a bulk operation
+ * 
+ * Exactly one of response and error is set.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class BulkResult {
+
+    /** Item key, e.g. trade_no or out_trade_no */
+    private final String key;
+    
+    /** API response on success */
+    private final JsonObject response;
+    
+    /** Failure cause on error */
+    private final RuntimeException error;
+
+    /**
+     * Constructor
+     * 
+     * @param key Item key
+     * @param response API response, or null on failure
+     * @param error Failure cause, or null on success
+     */
+    private BulkResult(String key, JsonObject response, RuntimeException error) {
+        this.key = key;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Create a successful result
+     * 
+     * @param key Item key
+     * @param response API response
+     * @return BulkResult instance
+     */
+    public static BulkResult success(String key, JsonObject response) {
+        return new BulkResult(key, response, null);
+    }
+
+    /**
+     * Create a failed result
+     * 
+     * @param key Item key
+     * @param error Failure cause
+     * @return BulkResult instance
+     */
+    public static BulkResult failure(String key, RuntimeException error) {
+        return new BulkResult(key, null, error);
+    }
+
+    /**
+     * Get the item key
+     * 
+     * @return key such as trade_no or out_trade_no
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Check whether the call succeeded
+     * 
+     * @return true if a response is available
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Get the API response
+     * 
+     * @return response, or null if the call failed
+     */
+    public JsonObject getResponse() {
+        return response;
+    }
+
+    /**
+     * Get the failure cause
+     * 
+     * @return error, or null if the call succeeded
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? "BulkResult{key=" + key + ", response=" + response + "}"
+                : "BulkResult{key=" + key + ", error=" + error.getMessage() + "}";
+    }
+}
@@ -0,0 +1,145 @@
+package com.reelpay.api.bulk;
+
+import com.reelpay.api.money.Money;
+
+/**
+ * Parameters of one payment order in a bulk creation
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class OrderSpec {
+
+    /** Merchant's unique order ID */
+    private final String outTradeNo;
+    
+    /** Cryptocurrency ID */
+    private final String currencyId;
+    
+    /** Fiat currency name */
+    private final String fiatName;
+    
+    /** Amount in fiat currency */
+    private final String fiatAmount;
+    
+    /** Callback URL (optional) */
+    private final String callbackUrl;
+    
+    /** Redirect URL (optional) */
+    private final String redirectUrl;
+    
+    /** Order timeout in seconds (0 if not specified) */
+    private final long timeoutSeconds;
+
+    /**
+     * Constructor for a basic order
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     */
+    public OrderSpec(String outTradeNo, String currencyId, String fiatName, String fiatAmount) {
+        this(outTradeNo, currencyId, fiatName, fiatAmount, null, null, 0);
+    }
+
+    /**
+     * Constructor for a basic order with a typed amount
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     */
+    public OrderSpec(String outTradeNo, String currencyId, String fiatName, Money fiatAmount) {
+        this(outTradeNo, currencyId, fiatName, fiatAmount != null ? fiatAmount.toString() : null, null, null, 0);
+    }
+
+    /**
+     * Constructor with all optional parameters
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param currencyId Cryptocurrency ID
+     * @param fiatName Fiat currency name (e.g., "USD", "EUR")
+     * @param fiatAmount Amount in fiat currency
+     * @param callbackUrl Callback URL for payment notifications (optional)
+     * @param redirectUrl Redirect URL after payment completion (optional)
+     * @param timeoutSeconds Order timeout in seconds (0 if not specified)
+     */
+    public OrderSpec(String outTradeNo, String currencyId, String fiatName, String fiatAmount,
+                     String callbackUrl, String redirectUrl, long timeoutSeconds) {
+        if (outTradeNo == null || outTradeNo.isEmpty()) {
+            throw new IllegalArgumentException("out_trade_no cannot be null or empty");
+        }
+        this.outTradeNo = outTradeNo;
+        this.currencyId = currencyId;
+        this.fiatName = fiatName;
+        this.fiatAmount = fiatAmount;
+        this.callbackUrl = callbackUrl;
+        this.redirectUrl = redirectUrl;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * Get the merchant's order ID
+     * 
+     * @return out_trade_no
+     */
+    public String getOutTradeNo() {
+        return outTradeNo;
+    }
+
+    /**
+     * Get the cryptocurrency ID
+     * 
+     * @return currency_id
+     */
+    public String getCurrencyId() {
+        return currencyId;
+    }
+
+    /**
+     * Get the fiat currency name
+     * 
+     * @return fiat_name
+     */
+    public String getFiatName() {
+        return fiatName;
+    }
+
+    /**
+     * Get the amount in fiat currency
+     * 
+     * @return fiat_amount
+     */
+    public String getFiatAmount() {
+        return fiatAmount;
+    }
+
+    /**
+     * Get the callback URL
+     * 
+     * @return callback_url, or null
+     */
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    /**
+     * Get the redirect URL
+     * 
+     * @return redirect_url, or null
+     */
+    public String getRedirectUrl() {
+        return redirectUrl;
+    }
+
+    /**
+     * Get the order timeout
+     * 
+     * @return timeout in seconds, 0 if not specified
+     */
+    public long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+}
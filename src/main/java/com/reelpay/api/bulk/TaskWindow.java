@@ -0,0 +1,114 @@
+package com.reelpay.api.bulk;
+
+import com.reelpay.api.HttpRequest.CallerContext;
+import com.reelpay.api.HttpRequest.RequestPriority;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounded window of blocking calls running on an executor
+ * 
+ * The producer takes a slot before it pulls the next item from its source, so the
+ * source is never read ahead of the window. Tasks run under the caller's Deadline
+ * and RequestPriority, captured when the window is created, BACKGROUND by default.
+ * 
+ * <pre>
+ * TaskWindow window = new TaskWindow(executor, 8);
+ * while (true) {
+ *     window.acquire();
+ *     if (!items.hasNext()) {
+ *         window.release();
+ *         break;
+ *     }
+ *     Item item = items.next();
+ *     window.execute(() -> process(item));
+ * }
+ * window.awaitIdle();
+ * </pre>
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class TaskWindow {
+
+    /** Executor running the tasks */
+    private final Executor executor;
+    
+    /** Maximum number of tasks in flight */
+    private final int size;
+    
+    /** Free slots */
+    private final Semaphore slots;
+    
+    /** Deadline and priority of the thread that created the window */
+    private final CallerContext context;
+
+    /**
+     * Constructor, capturing the calling thread's deadline and priority
+     * 
+     * @param executor Executor running the tasks
+     * @param size Maximum number of tasks in flight
+     */
+    public TaskWindow(Executor executor, int size) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.executor = executor;
+        this.size = size;
+        this.slots = new Semaphore(size);
+        this.context = CallerContext.capture(RequestPriority.BACKGROUND);
+    }
+
+    /**
+     * Wait for a free slot
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        slots.acquire();
+    }
+
+    /**
+     * Give back a slot that was acquired but not used for a task
+     */
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * Run a task in a slot taken with acquire(); the slot is freed when the task ends
+     * 
+     * @param task Task to run under the caller's deadline and priority
+     * @throws RuntimeException if the executor rejects the task, after freeing the slot
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(() -> {
+                CallerContext.Scope scope = context.enter();
+                try {
+                    task.run();
+                } finally {
+                    scope.close();
+                    slots.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait until every task has ended
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitIdle() throws InterruptedException {
+        slots.acquire(size);
+        slots.release(size);
+    }
+}
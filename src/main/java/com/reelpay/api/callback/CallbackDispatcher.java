@@ -0,0 +1,362 @@
+package com.reelpay.api.callback;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.util.SdkEvents;
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ordered, striped dispatch of verified callbacks
+ * 
+ * Each callback is verified, parsed and placed on one of N stripes chosen by a
+ * hash of its trade_no. Every stripe owns a preallocated lock-free ring buffer
+ * and a single worker thread, so events for one order are handled strictly in
+ * arrival order (a REFUND-IN-PROGRESS never overtakes the PAID before it) while
+ * different orders are handled in parallel. Producers block, using the
+ * configured wait strategy, while their stripe's ring is full.
+ * 
+ * A handler failure of any kind, Errors included, is counted and logged and the
+ * stripe moves on. An interrupted worker stops its stripe without dropping the
+ * event it was handling; publishing to that stripe then fails instead of blocking.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class CallbackDispatcher implements Closeable {
+
+    /** Default number of slots per stripe */
+    public static final int DEFAULT_RING_SIZE = 1024;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(CallbackDispatcher.class);
+    
+    /** API client used to verify callback signatures */
+    private final Transactions transactions;
+    
+    /** Handler invoked by the stripe workers */
+    private final CallbackHandler handler;
+    
+    /** Wait strategy for producers and idle workers */
+    private final WaitStrategy waitStrategy;
+    
+    /** One ring per stripe */
+    private final CallbackRing[] rings;
+    
+    /** One worker per stripe */
+    private final Thread[] workers;
+    
+    /** Producers currently publishing */
+    private final AtomicInteger publishers = new AtomicInteger();
+    
+    /** Events accepted for dispatch */
+    private final LongAdder dispatched = new LongAdder();
+    
+    /** Events handled, successfully or not */
+    private final LongAdder processed = new LongAdder();
+    
+    /** Events whose handler threw */
+    private final LongAdder failed = new LongAdder();
+    
+    /** Callbacks rejected by verification or parsing */
+    private final LongAdder rejected = new LongAdder();
+    
+    /** Set once close() starts */
+    private volatile boolean closed;
+
+    /**
+     * Create a dispatcher with default ring size and the PARKING wait strategy
+     * 
+     * @param transactions API client used to verify callback signatures
+     * @param handler Handler for verified events
+     * @param stripes Number of stripes (worker threads)
+     */
+    public CallbackDispatcher(Transactions transactions, CallbackHandler handler, int stripes) {
+        this(transactions, handler, stripes, DEFAULT_RING_SIZE, WaitStrategy.PARKING);
+    }
+
+    /**
+     * Create a dispatcher
+     * 
+     * @param transactions API client used to verify callback signatures
+     * @param handler Handler for verified events
+     * @param stripes Number of stripes (worker threads)
+     * @param ringSize Slots per stripe, a power of two
+     * @param waitStrategy Wait strategy for producers and idle workers
+     */
+    public CallbackDispatcher(Transactions transactions, CallbackHandler handler, int stripes,
+                              int ringSize, WaitStrategy waitStrategy) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        if (ringSize <= 0 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Ring size must be a positive power of two");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.transactions = transactions;
+        this.handler = handler;
+        this.waitStrategy = waitStrategy;
+        this.rings = new CallbackRing[stripes];
+        this.workers = new Thread[stripes];
+        
+        ThreadFactory threadFactory = TaskExecutors.daemonThreadFactory("reelpay-callback");
+        for (int i = 0; i < stripes; i++) {
+            CallbackRing ring = new CallbackRing(ringSize, waitStrategy);
+            rings[i] = ring;
+            workers[i] = threadFactory.newThread(() -> drain(ring));
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Verify a callback and queue it for its stripe
+     * 
+     * @param requestBody Raw callback body
+     * @param requestHeaders Callback headers
+     * @return true if the callback was verified and queued
+     * @throws IllegalStateException if the dispatcher is closed or the order's stripe was interrupted
+     */
+    public boolean dispatch(String requestBody, Map<String, String> requestHeaders) {
+        if (requestBody == null || requestHeaders == null) {
+            rejected.increment();
+            return false;
+        }
+        HashMap<String, String> headers = requestHeaders instanceof HashMap
+                ? (HashMap<String, String>) requestHeaders : new HashMap<>(requestHeaders);
+        if (!transactions.verifyCallbackSignature(requestBody, headers)) {
+            rejected.increment();
+            return false;
+        }
+        
+        JsonObject body;
+        Object event = SdkEvents.beginJsonDecode();
+        try {
+            body = JsonParser.parseString(requestBody).getAsJsonObject();
+        } catch (JsonSyntaxException | IllegalStateException e) {
+            logger.error("Verified callback is not a JSON object: {}", e.getMessage());
+            rejected.increment();
+            return false;
+        } finally {
+            SdkEvents.endJsonDecode(event, "callback", requestBody.length());
+        }
+        publish(body);
+        return true;
+    }
+
+    /**
+     * Queue an already verified callback body for its stripe
+     * 
+     * @param body Parsed callback body
+     * @throws IllegalStateException if the dispatcher is closed or the order's stripe was interrupted
+     */
+    public void publish(JsonObject body) {
+        if (body == null) {
+            throw new IllegalArgumentException("Body cannot be null");
+        }
+        String tradeNo = field(body, "trade_no");
+        String status = field(body, "status");
+        
+        publishers.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Callback dispatcher is closed");
+            }
+            rings[stripeOf(tradeNo)].publish(tradeNo, status, body);
+            dispatched.increment();
+        } finally {
+            publishers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of stripes
+     * 
+     * @return stripe count
+     */
+    public int getStripeCount() {
+        return rings.length;
+    }
+
+    /**
+     * Get the stripe that handles an order
+     * 
+     * @param tradeNo ReelPay order ID, may be null
+     * @return stripe index
+     */
+    public int stripeOf(String tradeNo) {
+        if (tradeNo == null) {
+            return 0;
+        }
+        int hash = tradeNo.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % rings.length;
+    }
+
+    /**
+     * Get the number of queued events on one stripe
+     * 
+     * @param stripe Stripe index
+     * @return queue depth
+     */
+    public long getQueueDepth(int stripe) {
+        return rings[stripe].depth();
+    }
+
+    /**
+     * Get the number of queued events across all stripes
+     * 
+     * @return total queue depth
+     */
+    public long getQueueDepth() {
+        long depth = 0;
+        for (CallbackRing ring : rings) {
+            depth += ring.depth();
+        }
+        return depth;
+    }
+
+    /**
+     * Get the number of events accepted for dispatch
+     * 
+     * @return dispatched count
+     */
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Get the number of events handled, including failed ones
+     * 
+     * @return processed count
+     */
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    /**
+     * Get the number of events whose handler threw
+     * 
+     * @return failed count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Get the number of callbacks rejected by verification or parsing
+     * 
+     * @return rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Stop accepting callbacks, drain queued events and stop the workers
+     */
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Worker loop for one stripe
+     * 
+     * @param ring Stripe ring buffer
+     */
+    private void drain(CallbackRing ring) {
+        long sequence = ring.consumedSequence();
+        int counter = 0;
+        while (true) {
+            CallbackEvent event = ring.peek(sequence);
+            if (event == null) {
+                if (closed && publishers.get() == 0 && ring.depth() == 0) {
+                    return;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    stop(ring);
+                    return;
+                }
+                counter = waitStrategy.idle(counter);
+                continue;
+            }
+            
+            counter = 0;
+            try {
+                handler.onEvent(event);
+            } catch (InterruptedException e) {
+                // Leave the event queued rather than count it as handled
+                Thread.currentThread().interrupt();
+                stop(ring);
+                return;
+            } catch (Throwable e) {
+                // An Error must not kill the worker, or the stripe's producers block forever
+                failed.increment();
+                logger.error("Callback handler failed for order {}: {}", event.getTradeNo(), e.getMessage(), e);
+            }
+            ring.release(sequence++);
+            processed.increment();
+        }
+    }
+
+    /**
+     * Stop a stripe whose worker was interrupted
+     * 
+     * @param ring Stripe ring buffer
+     */
+    private void stop(CallbackRing ring) {
+        ring.stop();
+        logger.warn("Callback worker {} interrupted; stopping its stripe with {} queued events",
+                Thread.currentThread().getName(), ring.depth());
+    }
+
+    /**
+     * Read a string field from the callback body or its data object
+     * 
+     * @param body Callback body
+     * @param name Field name
+     * @return field value, or null if absent
+     */
+    private static String field(JsonObject body, String name) {
+        JsonElement value = body.get(name);
+        if (value == null) {
+            JsonElement data = body.get("data");
+            if (data != null && data.isJsonObject()) {
+                value = data.getAsJsonObject().get(name);
+            }
+        }
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+}
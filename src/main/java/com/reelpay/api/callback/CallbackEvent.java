@@ -0,0 +1,101 @@
+package com.reelpay.api.callback;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.constants.TransactionStatus;
+
+/**
+ * Verified callback event handed to a CallbackHandler
+ * 
+ * Instances are preallocated ring buffer slots and are reused once the handler
+ * returns: copy any field that must outlive the handler call.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class CallbackEvent {
+
+    /** ReelPay order ID */
+    private String tradeNo;
+    
+    /** Transaction status string */
+    private String status;
+    
+    /** Parsed transaction status */
+    private TransactionStatus transactionStatus;
+    
+    /** Parsed callback body */
+    private JsonObject body;
+
+    /**
+     * Fill the slot with a new event
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param status Transaction status string
+     * @param body Parsed callback body
+     */
+    void set(String tradeNo, String status, JsonObject body) {
+        this.tradeNo = tradeNo;
+        this.status = status;
+        this.transactionStatus = TransactionStatus.fromValue(status);
+        this.body = body;
+    }
+
+    /**
+     * Release references held by the slot
+     */
+    void clear() {
+        set(null, null, null);
+    }
+
+    /**
+     * Get the ReelPay order ID
+     * 
+     * @return trade_no
+     */
+    public String getTradeNo() {
+        return tradeNo;
+    }
+
+    /**
+     * Get the transaction status
+     * 
+     * @return status string, or null if the callback had none
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the typed transaction status
+     * 
+     * @return status, or null if absent or not a known status
+     */
+    public TransactionStatus getTransactionStatus() {
+        return transactionStatus;
+    }
+
+    /**
+     * Get the parsed callback body
+     * 
+     * @return callback body
+     */
+    public JsonObject getBody() {
+        return body;
+    }
+
+    /**
+     * Copy the event so it can outlive the handler call
+     * 
+     * @return new event with the same fields
+     */
+    public CallbackEvent copy() {
+        CallbackEvent copy = new CallbackEvent();
+        copy.set(tradeNo, status, body);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "CallbackEvent{tradeNo=" + tradeNo + ", status=" + status + "}";
+    }
+}
@@ -0,0 +1,25 @@
+package com.reelpay.api.callback;
+
+/**
+ * Processes verified callback events
+ * 
+ * Events for the same trade_no are delivered one at a time, in the order they
+ * were dispatched. Events for different orders may be processed in parallel.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+@FunctionalInterface
+public interface CallbackHandler {
+
+    /**
+     * Handle one event
+     * 
+     * The event object is reused after this method returns.
+     * 
+     * @param event Verified callback event
+     * @throws Exception any failure, logged by the dispatcher without stopping the stripe;
+     *         an InterruptedException stops the stripe and leaves the event queued
+     */
+    void onEvent(CallbackEvent event) throws Exception;
+}
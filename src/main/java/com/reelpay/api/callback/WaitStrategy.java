@@ -0,0 +1,62 @@
+package com.reelpay.api.callback;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How ring buffer producers and consumers wait when they cannot make progress
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum WaitStrategy {
+
+    /** Spin without yielding; lowest latency, needs a spare core per waiting thread */
+    BUSY_SPIN {
+        @Override
+        int idle(int counter) {
+            return counter + 1;
+        }
+    },
+
+    /** Spin briefly, then yield the CPU to other threads */
+    YIELDING {
+        @Override
+        int idle(int counter) {
+            if (counter >= SPIN_TRIES) {
+                Thread.yield();
+            }
+            return counter + 1;
+        }
+    },
+
+    /** Spin, yield, then park for short periods; lowest CPU use when idle */
+    PARKING {
+        @Override
+        int idle(int counter) {
+            if (counter >= SPIN_TRIES + YIELD_TRIES) {
+                LockSupport.parkNanos(PARK_NANOS);
+            } else if (counter >= SPIN_TRIES) {
+                Thread.yield();
+            }
+            return counter + 1;
+        }
+    };
+    
+    /** Iterations spent spinning before backing off */
+    private static final int SPIN_TRIES = 100;
+    
+    /** Iterations spent yielding before parking */
+    private static final int YIELD_TRIES = 100;
+    
+    /** Park duration once idle */
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    /**
+     * Wait once
+     * 
+     * @param counter Number of consecutive unsuccessful attempts so far
+     * @return counter for the next attempt
+     */
+    abstract int idle(int counter);
+}
@@ -0,0 +1,284 @@
+package com.reelpay.api.checkout;
+
+import com.google.gson.JsonPrimitive;
+import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.money.Money;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Precompiled hosted checkout request for a product that is sold many times
+ * 
+ * The fields that repeat across checkouts (symbol, name, image, describe and
+ * callback_url) are escaped and encoded once, when the template is created. Each
+ * checkout then only copies those fragments around its out_trade_no, amount and
+ * time_expire into one exactly sized byte array, which is signed and sent as it is.
+ * The bytes are identical to those of the JsonObject built by
+ * Transactions.createHostedCheckout for the same arguments. Templates are immutable
+ * and can be shared between threads.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class CheckoutTemplate {
+
+    /** Opening of the body up to the out_trade_no value */
+    private static final byte[] HEAD = ascii("{\"out_trade_no\":");
+    
+    /** Key preceding the time_expire value */
+    private static final byte[] TIME_EXPIRE = ascii(",\"time_expire\":");
+    
+    /** Legal currency unit */
+    private final String symbol;
+    
+    /** Product name */
+    private final String name;
+    
+    /** Product image URL */
+    private final String image;
+    
+    /** Product description, null if not sent */
+    private final String description;
+    
+    /** Callback URL, null if not sent */
+    private final String callbackUrl;
+    
+    /** Fragment between the out_trade_no and amount values */
+    private final byte[] beforeAmount;
+    
+    /** Fragment between the amount value and time_expire */
+    private final byte[] afterAmount;
+    
+    /** Fragment from after time_expire to the end of the body */
+    private final byte[] tail;
+
+    /**
+     * Constructor for a template without description or callback URL
+     * 
+     * @param symbol Legal currency unit (e.g., "USD", "EUR")
+     * @param name Product name
+     * @param image Product image URL
+     */
+    public CheckoutTemplate(String symbol, String name, String image) {
+        this(symbol, name, image, null, null);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param symbol Legal currency unit (e.g., "USD", "EUR")
+     * @param name Product name
+     * @param image Product image URL
+     * @param description Product description, null or empty to leave it out
+     * @param callbackUrl Callback URL for payment notifications, null or empty to leave it out
+     */
+    public CheckoutTemplate(String symbol, String name, String image, String description, String callbackUrl) {
+        this.symbol = required(symbol, "Symbol");
+        this.name = required(name, "Name");
+        this.image = required(image, "Image");
+        this.description = description == null || description.isEmpty() ? null : description;
+        this.callbackUrl = callbackUrl == null || callbackUrl.isEmpty() ? null : callbackUrl;
+        
+        this.beforeAmount = utf8(",\"symbol\":" + quote(this.symbol) + ",\"amount\":");
+        this.afterAmount = utf8(",\"name\":" + quote(this.name) + ",\"image\":" + quote(this.image));
+        StringBuilder end = new StringBuilder();
+        if (this.description != null) {
+            end.append(",\"describe\":").append(quote(this.description));
+        }
+        if (this.callbackUrl != null) {
+            end.append(",\"callback_url\":").append(quote(this.callbackUrl));
+        }
+        this.tail = utf8(end.append('}').toString());
+    }
+
+    /**
+     * Encode the request body of one checkout
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param amount Product price (keep 2 decimal places, e.g., "2.00", "0.50")
+     * @param timeExpire Order expiration timestamp, 0 to leave it out
+     * @return UTF-8 encoded JSON request body
+     */
+    public byte[] encode(String outTradeNo, String amount, long timeExpire) {
+        byte[] tradeNoValue = value(required(outTradeNo, "Out trade number"));
+        byte[] amountValue = value(required(amount, "Amount"));
+        if (timeExpire < 0) {
+            throw new IllegalArgumentException("Time expire cannot be negative");
+        }
+        int expireDigits = timeExpire > 0 ? digits(timeExpire) : 0;
+        
+        byte[] body = new byte[HEAD.length + tradeNoValue.length + beforeAmount.length + amountValue.length
+                + afterAmount.length + (expireDigits > 0 ? TIME_EXPIRE.length + expireDigits : 0) + tail.length];
+        int position = put(body, 0, HEAD);
+        position = put(body, position, tradeNoValue);
+        position = put(body, position, beforeAmount);
+        position = put(body, position, amountValue);
+        position = put(body, position, afterAmount);
+        if (expireDigits > 0) {
+            position = put(body, position, TIME_EXPIRE) + expireDigits;
+            long rest = timeExpire;
+            for (int i = position - 1; rest > 0; i--) {
+                body[i] = (byte) ('0' + rest % 10);
+                rest /= 10;
+            }
+        }
+        put(body, position, tail);
+        return body;
+    }
+
+    /**
+     * Encode the request body of one checkout with a typed price
+     * 
+     * @param outTradeNo Merchant's unique order ID
+     * @param amount Product price, sent with 2 decimal places
+     * @param timeExpire Order expiration timestamp, 0 to leave it out
+     * @return UTF-8 encoded JSON request body
+     * @throws ArithmeticException if the price has non-zero digits beyond 2 decimal places
+     */
+    public byte[] encode(String outTradeNo, Money amount, long timeExpire) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        return encode(outTradeNo, amount.rescale(ReelPayConstants.CHECKOUT_AMOUNT_SCALE).toString(), timeExpire);
+    }
+
+    /**
+     * Get the legal currency unit
+     * 
+     * @return symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Get the product name
+     * 
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the product image URL
+     * 
+     * @return image URL
+     */
+    public String getImage() {
+        return image;
+    }
+
+    /**
+     * Get the product description
+     * 
+     * @return description, or null if not sent
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Get the callback URL
+     * 
+     * @return callback URL, or null if not sent
+     */
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    /**
+     * Encode a per-checkout string as a quoted JSON value
+     * 
+     * Order numbers and amounts are plain ASCII, which is copied directly; anything
+     * else is escaped the way Gson would.
+     * 
+     * @param text String value
+     * @return UTF-8 encoded JSON string
+     */
+    private static byte[] value(String text) {
+        int length = text.length();
+        byte[] quoted = new byte[length + 2];
+        quoted[0] = '"';
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return utf8(quote(text));
+            }
+            quoted[i + 1] = (byte) c;
+        }
+        quoted[length + 1] = '"';
+        return quoted;
+    }
+
+    /**
+     * Quote and escape a string as Gson serializes it
+     * 
+     * @param text String value
+     * @return JSON string
+     */
+    private static String quote(String text) {
+        return new JsonPrimitive(text).toString();
+    }
+
+    /**
+     * Count the decimal digits of a positive number
+     * 
+     * @param number Positive number
+     * @return digit count
+     */
+    private static int digits(long number) {
+        int count = 1;
+        for (long rest = number / 10; rest > 0; rest /= 10) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Copy a fragment into the body
+     * 
+     * @param body Target body
+     * @param position Write position
+     * @param fragment Fragment to copy
+     * @return position after the fragment
+     */
+    private static int put(byte[] body, int position, byte[] fragment) {
+        System.arraycopy(fragment, 0, body, position, fragment.length);
+        return position + fragment.length;
+    }
+
+    /**
+     * Validate a required string
+     * 
+     * @param value Value to validate
+     * @param label Name used in the error message
+     * @return validated value
+     */
+    private static String required(String value, String label) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(label + " cannot be null or empty");
+        }
+        return value;
+    }
+
+    /**
+     * Encode text as UTF-8
+     * 
+     * @param text Text to encode
+     * @return UTF-8 bytes
+     */
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encode ASCII text
+     * 
+     * @param text Text to encode
+     * @return ASCII bytes
+     */
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
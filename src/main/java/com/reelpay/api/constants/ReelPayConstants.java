@@ -30,6 +30,27 @@ public final class ReelPayConstants {
     /** Default content type for API requests */
     public static final String CONTENT_TYPE_JSON = "application/json";
     
+    /** Gzip content coding */
+    public static final String ENCODING_GZIP = "gzip";
+    
+    /** Request compression threshold value meaning compression is disabled */
+    public static final int COMPRESSION_DISABLED = -1;
+    
+    /** Suggested minimum body size in bytes before gzip pays for itself */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    
+    /** Default number of synthetic iterations run by a warm-up */
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 2000;
+    
+    /** Default number of concurrent calls made by bulk operations */
+    public static final int DEFAULT_BULK_CONCURRENCY = 8;
+    
+    /** Decimal places of hosted checkout prices */
+    public static final int CHECKOUT_AMOUNT_SCALE = 2;
+    
+    /** Response code of a successful API call */
+    public static final int CODE_SUCCESS = 200;
+    
     // ==================== API Endpoints ====================
     
     /** Payment order creation endpoint */
@@ -70,6 +91,12 @@ public final class ReelPayConstants {
     /** User agent header */
     public static final String HEADER_USER_AGENT = "User-Agent";
     
+    /** Content encoding header */
+    public static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    
+    /** Accept encoding header */
+    public static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    
     // ==================== Transaction Statuses ====================
     
     /** Transaction status: Paid */
@@ -120,15 +147,7 @@ public final class ReelPayConstants {
      * @return Array of supported transaction status strings
      */
     public static String[] getSupportedTransactionStatuses() {
-        return new String[] {
-            STATUS_PAID,
-            STATUS_TIME_OUT,
-            STATUS_CLOSE,
-            STATUS_REFUND_IN_PROGRESS,
-            STATUS_REFUNDED,
-            STATUS_ABNORMAL,
-            STATUS_CHAIN_CONFIRMATION_FAILED
-        };
+        return TransactionStatus.wireValues();
     }
     
     /**
@@ -138,17 +157,7 @@ public final class ReelPayConstants {
      * @return true if status is supported, false otherwise
      */
     public static boolean isValidTransactionStatus(String status) {
-        if (status == null) {
-            return false;
-        }
-        
-        String[] supportedStatuses = getSupportedTransactionStatuses();
-        for (String supportedStatus : supportedStatuses) {
-            if (supportedStatus.equals(status)) {
-                return true;
-            }
-        }
-        return false;
+        return TransactionStatus.fromValue(status) != null;
     }
     
 }
@@ -0,0 +1,147 @@
+package com.reelpay.api.constants;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transaction status state machine
+ * 
+ * Parses wire strings in constant time and knows which statuses are terminal and
+ * which transitions are legal, so a callback that would move an order backwards
+ * (for example REFUNDED to PAID) can be detected. A repeated status is always a
+ * legal transition because callbacks may be delivered more than once.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum TransactionStatus {
+
+    /** Payment received */
+    PAID(ReelPayConstants.STATUS_PAID, false),
+
+    /** Order expired before payment */
+    TIME_OUT(ReelPayConstants.STATUS_TIME_OUT, true),
+
+    /** Order closed */
+    CLOSE(ReelPayConstants.STATUS_CLOSE, true),
+
+    /** Refund started */
+    REFUND_IN_PROGRESS(ReelPayConstants.STATUS_REFUND_IN_PROGRESS, false),
+
+    /** Refund completed */
+    REFUNDED(ReelPayConstants.STATUS_REFUNDED, true),
+
+    /** Needs manual handling, e.g. wrong amount paid */
+    ABNORMAL(ReelPayConstants.STATUS_ABNORMAL, false),
+
+    /** Payment failed on chain */
+    CHAIN_CONFIRMATION_FAILED(ReelPayConstants.STATUS_CHAIN_CONFIRMATION_FAILED, true);
+    
+    /** Statuses by wire value */
+    private static final Map<String, TransactionStatus> BY_VALUE = new HashMap<>();
+    
+    /** Wire values in declaration order */
+    private static final String[] VALUES;
+    
+    static {
+        PAID.allow(REFUND_IN_PROGRESS, ABNORMAL);
+        REFUND_IN_PROGRESS.allow(REFUNDED, ABNORMAL);
+        ABNORMAL.allow(PAID, REFUND_IN_PROGRESS, REFUNDED, CLOSE, CHAIN_CONFIRMATION_FAILED);
+        
+        TransactionStatus[] statuses = values();
+        VALUES = new String[statuses.length];
+        for (TransactionStatus status : statuses) {
+            BY_VALUE.put(status.value, status);
+            VALUES[status.ordinal()] = status.value;
+        }
+    }
+
+    /** Wire value */
+    private final String value;
+    
+    /** Whether no further transitions are expected */
+    private final boolean terminal;
+    
+    /** Statuses reachable from this one */
+    private Set<TransactionStatus> next = Collections.emptySet();
+
+    TransactionStatus(String value, boolean terminal) {
+        this.value = value;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Parse a wire status string
+     * 
+     * @param value Status string as sent by the API
+     * @return matching status, or null if the value is null or unknown
+     */
+    public static TransactionStatus fromValue(String value) {
+        return value != null ? BY_VALUE.get(value) : null;
+    }
+
+    /**
+     * Get all wire status strings
+     * 
+     * @return new array of wire values in declaration order
+     */
+    public static String[] wireValues() {
+        return VALUES.clone();
+    }
+
+    /**
+     * Get the wire value
+     * 
+     * @return status string as sent by the API
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Check whether the status is final
+     * 
+     * @return true if no further transitions are expected
+     */
+    public boolean isTerminal() {
+        return terminal;
+    }
+
+    /**
+     * Check whether an order may move from this status to another
+     * 
+     * @param target Next status
+     * @return true if the transition is legal or repeats this status
+     */
+    public boolean canTransitionTo(TransactionStatus target) {
+        return target == this || next.contains(target);
+    }
+
+    /**
+     * Get the statuses reachable in one step
+     * 
+     * @return unmodifiable set, empty for terminal statuses
+     */
+    public Set<TransactionStatus> getNextStatuses() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Register legal transitions
+     * 
+     * @param targets Statuses reachable from this one
+     */
+    private void allow(TransactionStatus... targets) {
+        EnumSet<TransactionStatus> set = EnumSet.noneOf(TransactionStatus.class);
+        Collections.addAll(set, targets);
+        this.next = Collections.unmodifiableSet(set);
+    }
+}
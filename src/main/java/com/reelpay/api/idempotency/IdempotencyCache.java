@@ -0,0 +1,340 @@
+package com.reelpay.api.idempotency;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.reelpay.api.constants.ReelPayConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded idempotency cache for create calls keyed by a merchant ID such as out_trade_no
+ * 
+ * A call with a key that is already in flight joins the running call; a call with
+ * a key that already succeeded gets a copy of the stored response. Only successful
+ * creations (a success code with a data.trade_no) are kept: calls that fail with an
+ * exception or return a business error such as a rate limit are forgotten once
+ * their joined callers have the answer, so a later retry reaches the API. When the
+ * cache is full the oldest completed entries are evicted. Stored responses can
+ * optionally be persisted to a JSON lines file so they survive restarts.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class IdempotencyCache implements Closeable {
+
+    /** Maximum number of queue entries examined per eviction pass */
+    private static final int MAX_EVICTION_ATTEMPTS = 16;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(IdempotencyCache.class);
+    
+    /** Maximum number of remembered keys */
+    private final int maxEntries;
+    
+    /** In-flight and completed calls by key */
+    private final ConcurrentHashMap<String, CompletableFuture<JsonObject>> entries = new ConcurrentHashMap<>();
+    
+    /** Keys in insertion order, used for eviction */
+    private final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+    
+    /** Number of calls answered without reaching the API */
+    private final AtomicLong hits = new AtomicLong();
+    
+    /** Persistence file writer, or null if not persisted */
+    private final BufferedWriter writer;
+
+    /**
+     * Constructor for an in-memory cache
+     * 
+     * @param maxEntries Maximum number of remembered keys
+     */
+    public IdempotencyCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.writer = null;
+    }
+
+    /**
+     * Constructor for a cache persisted to a JSON lines file
+     * 
+     * Existing entries are loaded and the file is compacted to the newest maxEntries.
+     * 
+     * @param maxEntries Maximum number of remembered keys
+     * @param file Persistence file, created if missing
+     * @throws IOException if the file cannot be read or written
+     */
+    public IdempotencyCache(int maxEntries, Path file) throws IOException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        this.maxEntries = maxEntries;
+        
+        Map<String, JsonObject> loaded = load(file, maxEntries);
+        for (Map.Entry<String, JsonObject> entry : loaded.entrySet()) {
+            entries.put(entry.getKey(), CompletableFuture.completedFuture(entry.getValue()));
+            order.add(entry.getKey());
+        }
+        compact(file, loaded);
+        
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        logger.debug("Loaded {} idempotency entries from {}", loaded.size(), file);
+    }
+
+    /**
+     * Run a call at most once per key
+     * 
+     * @param key Idempotency key, e.g. out_trade_no
+     * @param call Call to run if the key is unknown
+     * @return a copy of the response of this call, of the in-flight call, or of the stored response;
+     *         error responses are returned but not stored
+     * @throws IllegalStateException if the call returns null
+     * @throws RuntimeException the call's exception, also for callers that joined it
+     */
+    public JsonObject execute(String key, Supplier<JsonObject> call) {
+        if (key == null || call == null) {
+            throw new IllegalArgumentException("Key and call cannot be null");
+        }
+        
+        CompletableFuture<JsonObject> mine = new CompletableFuture<>();
+        CompletableFuture<JsonObject> existing = entries.putIfAbsent(key, mine);
+        if (existing != null) {
+            hits.incrementAndGet();
+            logger.debug("Idempotency hit for {}", key);
+            return join(existing).deepCopy();
+        }
+        
+        JsonObject response;
+        try {
+            response = call.get();
+            if (response == null) {
+                throw new IllegalStateException("Call for " + key + " returned no response");
+            }
+        } catch (RuntimeException e) {
+            entries.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        
+        // The stored response is shared by every later caller, so this caller gets a copy too
+        mine.complete(response);
+        if (!isCreated(response)) {
+            // Joined callers already have the error; later calls must not be answered with it
+            entries.remove(key, mine);
+            return response.deepCopy();
+        }
+        order.add(key);
+        persist(key, response);
+        evict();
+        return response.deepCopy();
+    }
+
+    /**
+     * Check whether a key is in flight or completed
+     * 
+     * @param key Idempotency key
+     * @return true if a call with this key would not reach the API
+     */
+    public boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Get the number of remembered keys
+     * 
+     * @return entry count, including in-flight calls
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of calls answered from the cache or by joining an in-flight call
+     * 
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Close the persistence file, if any
+     * 
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            synchronized (writer) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * Wait for a call and unwrap its failure
+     * 
+     * @param future Call to wait for
+     * @return call response
+     */
+    private static JsonObject join(CompletableFuture<JsonObject> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether a response reports a created order
+     * 
+     * @param response API response
+     * @return true if it has the success code and a data.trade_no
+     */
+    static boolean isCreated(JsonObject response) {
+        JsonElement code = response.get("code");
+        JsonElement data = response.get("data");
+        if (code == null || !code.isJsonPrimitive() || data == null || !data.isJsonObject()
+                || !String.valueOf(ReelPayConstants.CODE_SUCCESS).equals(code.getAsString())) {
+            return false;
+        }
+        JsonElement tradeNo = data.getAsJsonObject().get("trade_no");
+        return tradeNo != null && tradeNo.isJsonPrimitive();
+    }
+
+    /**
+     * Drop the oldest completed entries beyond the size limit
+     */
+    private void evict() {
+        // In-flight entries are rotated to the back; the attempt cap keeps this O(1) per call
+        for (int attempts = 0; attempts < MAX_EVICTION_ATTEMPTS && entries.size() > maxEntries; attempts++) {
+            String oldest = order.poll();
+            if (oldest == null) {
+                return;
+            }
+            CompletableFuture<JsonObject> future = entries.get(oldest);
+            if (future != null && future.isDone()) {
+                entries.remove(oldest, future);
+            } else if (future != null) {
+                order.add(oldest);
+            }
+        }
+    }
+
+    /**
+     * Append a completed response to the persistence file
+     * 
+     * @param key Idempotency key
+     * @param response API response
+     */
+    private void persist(String key, JsonObject response) {
+        if (writer == null) {
+            return;
+        }
+        JsonObject line = new JsonObject();
+        line.addProperty("key", key);
+        line.add("response", response);
+        try {
+            synchronized (writer) {
+                writer.write(line.toString());
+                writer.newLine();
+                writer.flush();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to persist idempotency entry {}: {}", key, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load the newest entries from a persistence file
+     * 
+     * @param file Persistence file
+     * @param maxEntries Maximum number of entries to keep
+     * @return entries in insertion order
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, JsonObject> load(Path file, int maxEntries) throws IOException {
+        Map<String, JsonObject> loaded = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return loaded;
+        }
+        
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    String key = entry.get("key").getAsString();
+                    JsonObject response = entry.getAsJsonObject("response");
+                    loaded.remove(key);
+                    if (!isCreated(response)) {
+                        // Error responses stored by earlier versions are dropped so the call can be retried
+                        continue;
+                    }
+                    loaded.put(key, response);
+                } catch (RuntimeException e) {
+                    // A torn last line after a crash; everything before it is intact
+                    logger.warn("Skipping unreadable idempotency entry in {}", file);
+                    continue;
+                }
+                if (loaded.size() > maxEntries) {
+                    Iterator<String> oldest = loaded.keySet().iterator();
+                    oldest.next();
+                    oldest.remove();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Rewrite the persistence file with only the retained entries
+     * 
+     * @param file Persistence file
+     * @param retained Entries to keep
+     * @throws IOException if the file cannot be written
+     */
+    private static void compact(Path file, Map<String, JsonObject> retained) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, JsonObject> entry : retained.entrySet()) {
+                JsonObject line = new JsonObject();
+                line.addProperty("key", entry.getKey());
+                line.add("response", entry.getValue());
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
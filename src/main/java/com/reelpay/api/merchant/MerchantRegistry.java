@@ -0,0 +1,417 @@
+package com.reelpay.api.merchant;
+
+import com.reelpay.api.HttpRequest.KeyRing;
+import com.reelpay.api.HttpRequest.OkHttpTransport;
+import com.reelpay.api.HttpRequest.Transport;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.util.SdkEvents;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Credentials and signers for many merchants behind one transport
+ * 
+ * Each merchant costs one small entry holding its keys; the key ring with its
+ * pre-initialized signers is created on first use and evicted again, least
+ * recently used first (second-chance), once more than maxSigners are live.
+ * Keys are rotated by swapping the merchant's entry, so verification never locks
+ * and callbacks signed with the previous key keep verifying until it is retired. All merchants
+ * share one transport and its connection pool. Inbound callbacks are routed to
+ * the right merchant by their X-Appid header with a single map lookup.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class MerchantRegistry {
+
+    /** Default maximum number of live signers */
+    public static final int DEFAULT_MAX_SIGNERS = 10_000;
+    
+    /** Entries examined per eviction before giving up for this call */
+    private static final int MAX_EVICTION_ATTEMPTS = 16;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(MerchantRegistry.class);
+    
+    /** Merchants by application ID */
+    private final ConcurrentHashMap<String, Merchant> merchants = new ConcurrentHashMap<>();
+    
+    /** Merchants holding a live signer, in eviction order */
+    private final Queue<Merchant> liveQueue = new ConcurrentLinkedQueue<>();
+    
+    /** Number of live signers */
+    private final AtomicInteger liveSigners = new AtomicInteger();
+    
+    /** Callbacks that matched only a merchant's secondary key */
+    private final LongAdder secondaryHits = new LongAdder();
+    
+    /** Maximum number of live signers */
+    private final int maxSigners;
+    
+    /** API base URL used by merchant views */
+    private final String apiUrl;
+    
+    /** Transport shared by all merchants */
+    private final Transport transport;
+
+    /**
+     * Create a registry for the default API URL and shared OkHttp transport
+     */
+    public MerchantRegistry() {
+        this(ReelPayConstants.DEFAULT_API_URL, OkHttpTransport.getDefault(), DEFAULT_MAX_SIGNERS);
+    }
+
+    /**
+     * Create a registry
+     * 
+     * @param apiUrl API base URL
+     * @param transport Transport shared by all merchants
+     * @param maxSigners Maximum number of live signers
+     */
+    public MerchantRegistry(String apiUrl, Transport transport, int maxSigners) {
+        if (apiUrl == null || apiUrl.trim().isEmpty()) {
+            throw new IllegalArgumentException("API URL cannot be null or empty");
+        }
+        if (transport == null) {
+            throw new IllegalArgumentException("Transport cannot be null");
+        }
+        if (maxSigners <= 0) {
+            throw new IllegalArgumentException("Max signers must be positive");
+        }
+        this.apiUrl = apiUrl;
+        this.transport = transport;
+        this.maxSigners = maxSigners;
+    }
+
+    /**
+     * Register a merchant or replace its key
+     * 
+     * @param appId Merchant application ID
+     * @param appKey Merchant application key
+     */
+    public void register(String appId, String appKey) {
+        register(appId, appKey, null);
+    }
+
+    /**
+     * Register a merchant with a secondary key still accepted for callbacks
+     * 
+     * @param appId Merchant application ID
+     * @param appKey Merchant application key
+     * @param secondaryKey Previous key, or null
+     */
+    public void register(String appId, String appKey, String secondaryKey) {
+        if (appId == null || appId.trim().isEmpty()) {
+            throw new IllegalArgumentException("App ID cannot be null or empty");
+        }
+        if (appKey == null || appKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("App key cannot be null or empty");
+        }
+        Merchant previous = merchants.put(appId, new Merchant(appId, appKey, secondaryKey));
+        if (previous != null) {
+            dropSigner(previous);
+        }
+    }
+
+    /**
+     * Make a new key primary for a merchant and keep its current key as secondary
+     * 
+     * @param appId Merchant application ID
+     * @param newAppKey New application key
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    public void rotateKey(String appId, String newAppKey) {
+        if (newAppKey == null || newAppKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("App key cannot be null or empty");
+        }
+        replace(appId, current -> new Merchant(appId, newAppKey, current.appKey));
+    }
+
+    /**
+     * Stop accepting a merchant's secondary key
+     * 
+     * @param appId Merchant application ID
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    public void retireSecondaryKey(String appId) {
+        replace(appId, current -> new Merchant(appId, current.appKey, null));
+    }
+
+    /**
+     * Remove a merchant
+     * 
+     * @param appId Merchant application ID
+     * @return true if the merchant was registered
+     */
+    public boolean remove(String appId) {
+        Merchant removed = appId != null ? merchants.remove(appId) : null;
+        if (removed == null) {
+            return false;
+        }
+        dropSigner(removed);
+        return true;
+    }
+
+    /**
+     * Check whether a merchant is registered
+     * 
+     * @param appId Merchant application ID
+     * @return true if registered
+     */
+    public boolean contains(String appId) {
+        return appId != null && merchants.containsKey(appId);
+    }
+
+    /**
+     * Get the number of registered merchants
+     * 
+     * @return merchant count
+     */
+    public int size() {
+        return merchants.size();
+    }
+
+    /**
+     * Get the number of signers currently initialized
+     * 
+     * @return live signer count
+     */
+    public int getLiveSignerCount() {
+        return liveSigners.get();
+    }
+
+    /**
+     * Get the number of callbacks that matched only a merchant's secondary key
+     * 
+     * @return secondary key hits across all merchants
+     */
+    public long getSecondaryKeyHits() {
+        return secondaryHits.sum();
+    }
+
+    /**
+     * Get the transport shared by all merchants
+     * 
+     * @return shared transport
+     */
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Get an API client for a merchant
+     * 
+     * Views are cheap: they share the registry's key ring and transport, so one may
+     * be created per call or cached by the caller. Key rotations apply to existing views.
+     * 
+     * @param appId Merchant application ID
+     * @return Transactions bound to the merchant
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    public Transactions forMerchant(String appId) {
+        Merchant merchant = require(appId);
+        Transactions view = new MerchantTransactions(this, merchant.appId, merchant.appKey, apiUrl);
+        view.setTransport(transport);
+        return view;
+    }
+
+    /**
+     * Verify an inbound callback against the merchant named in its X-Appid header
+     * 
+     * @param requestBody Raw callback body
+     * @param requestHeaders Callback headers
+     * @return application ID of the verified merchant, or null if verification failed
+     */
+    public String verifyCallback(String requestBody, Map<String, String> requestHeaders) {
+        Object event = SdkEvents.beginCallbackVerification();
+        String appId = null;
+        String outcome = SdkEvents.OUTCOME_ERROR;
+        try {
+            appId = requestHeaders.get(ReelPayConstants.HEADER_APP_ID);
+            String timestamp = requestHeaders.get(ReelPayConstants.HEADER_TIMESTAMP);
+            String signature = requestHeaders.get(ReelPayConstants.HEADER_SIGNATURE);
+            
+            if (appId == null || timestamp == null || signature == null) {
+                logger.error(ReelPayConstants.ERROR_MISSING_HEADERS);
+                outcome = SdkEvents.OUTCOME_MISSING_HEADERS;
+                return null;
+            }
+            
+            Merchant merchant = merchants.get(appId);
+            if (merchant == null) {
+                logger.error("Callback for unknown merchant {}", appId);
+                outcome = SdkEvents.OUTCOME_UNKNOWN_APP_ID;
+                return null;
+            }
+            
+            KeyRing.Match match = keyRing(merchant).match(requestBody, Long.valueOf(timestamp), signature);
+            if (match == KeyRing.Match.NONE) {
+                logger.error(ReelPayConstants.ERROR_SIGNATURE_VALIDATION_FAILED);
+                outcome = SdkEvents.OUTCOME_BAD_SIGNATURE;
+                return null;
+            }
+            if (match == KeyRing.Match.SECONDARY) {
+                secondaryHits.increment();
+                logger.debug("Callback for merchant {} verified with its secondary key", appId);
+            }
+            
+            logger.debug(ReelPayConstants.SUCCESS_SIGNATURE_VERIFIED);
+            outcome = match == KeyRing.Match.SECONDARY ? SdkEvents.OUTCOME_VERIFIED_SECONDARY : SdkEvents.OUTCOME_VERIFIED;
+            return appId;
+        
+        } catch (Exception e) {
+            logger.error("Error during callback signature verification: {}", e.getMessage(), e);
+            return null;
+        } finally {
+            SdkEvents.endCallbackVerification(event, appId, outcome);
+        }
+    }
+
+    /**
+     * Get the key ring for a merchant, creating it if it was evicted
+     * 
+     * @param appId Merchant application ID
+     * @return key ring for the merchant's current keys
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    KeyRing keyRing(String appId) {
+        return keyRing(require(appId));
+    }
+
+    /**
+     * Atomically replace a merchant's entry
+     * 
+     * @param appId Merchant application ID
+     * @param update Builds the new entry from the current one
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    private void replace(String appId, UnaryOperator<Merchant> update) {
+        Merchant[] previous = new Merchant[1];
+        Merchant updated = appId != null ? merchants.computeIfPresent(appId, (id, current) -> {
+            previous[0] = current;
+            return update.apply(current);
+        }) : null;
+        if (updated == null) {
+            throw new IllegalArgumentException("Merchant " + appId + " is not registered");
+        }
+        dropSigner(previous[0]);
+    }
+
+    /**
+     * Look up a registered merchant
+     * 
+     * @param appId Merchant application ID
+     * @return merchant entry
+     * @throws IllegalArgumentException if the merchant is not registered
+     */
+    private Merchant require(String appId) {
+        Merchant merchant = appId != null ? merchants.get(appId) : null;
+        if (merchant == null) {
+            throw new IllegalArgumentException("Merchant " + appId + " is not registered");
+        }
+        return merchant;
+    }
+
+    /**
+     * Get a merchant's key ring, creating it and evicting others as needed
+     * 
+     * @param merchant Merchant entry
+     * @return key ring for the merchant's keys
+     */
+    private KeyRing keyRing(Merchant merchant) {
+        KeyRing current = merchant.keyRing;
+        if (current != null) {
+            if (!merchant.referenced) {
+                merchant.referenced = true;
+            }
+            return current;
+        }
+        
+        synchronized (merchant) {
+            current = merchant.keyRing;
+            if (current == null) {
+                current = new KeyRing(merchant.appKey, merchant.secondaryKey);
+                merchant.keyRing = current;
+                merchant.referenced = true;
+                liveQueue.add(merchant);
+                liveSigners.incrementAndGet();
+            }
+        }
+        if (liveSigners.get() > maxSigners) {
+            evict();
+        }
+        return current;
+    }
+
+    /**
+     * Drop signers that were not used since the clock hand last passed them
+     */
+    private void evict() {
+        for (int i = 0; i < MAX_EVICTION_ATTEMPTS && liveSigners.get() > maxSigners; i++) {
+            Merchant candidate = liveQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            if (candidate.keyRing == null) {
+                // Removed or replaced since it was queued
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                liveQueue.add(candidate);
+            } else {
+                dropSigner(candidate);
+            }
+        }
+    }
+
+    /**
+     * Release a merchant's signer
+     * 
+     * @param merchant Merchant entry
+     */
+    private void dropSigner(Merchant merchant) {
+        synchronized (merchant) {
+            if (merchant.keyRing != null) {
+                merchant.keyRing = null;
+                liveSigners.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Registered merchant credentials
+     */
+    private static final class Merchant {
+
+        /** Application ID */
+        private final String appId;
+        
+        /** Primary application key */
+        private final String appKey;
+        
+        /** Secondary key still accepted for callbacks, or null */
+        private final String secondaryKey;
+        
+        /** Key ring, or null until first use and after eviction */
+        private volatile KeyRing keyRing;
+        
+        /** Used since the eviction clock last passed */
+        private volatile boolean referenced;
+        
+        Merchant(String appId, String appKey, String secondaryKey) {
+            this.appId = appId;
+            this.appKey = appKey;
+            this.secondaryKey = secondaryKey;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reelpay.api.merchant;
+
+import com.reelpay.api.HttpRequest.KeyRing;
+import com.reelpay.api.Transactions;
+
+/**
+ * Transactions view of one registered merchant
+ * 
+ * Signs with the registry's cached key ring instead of creating its own, so
+ * views are cheap to create and hold no key material beyond the shared strings.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class MerchantTransactions extends Transactions {
+
+    /** Registry owning the merchant's key ring */
+    private final MerchantRegistry registry;
+
+    /**
+     * Constructor
+     * 
+     * @param registry Registry owning the merchant's key ring
+     * @param appId Merchant application ID
+     * @param appKey Merchant application key
+     * @param apiUrl API base URL
+     */
+    MerchantTransactions(MerchantRegistry registry, String appId, String appKey, String apiUrl) {
+        super(appId, appKey, apiUrl);
+        this.registry = registry;
+    }
+
+    @Override
+    protected KeyRing keyRing() {
+        return registry.keyRing(appId);
+    }
+
+    @Override
+    public Transactions rotateKey(String newAppKey) {
+        registry.rotateKey(appId, newAppKey);
+        return this;
+    }
+
+    @Override
+    public Transactions retireOldKey() {
+        registry.retireSecondaryKey(appId);
+        return this;
+    }
+}
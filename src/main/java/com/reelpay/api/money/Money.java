@@ -0,0 +1,484 @@
+package com.reelpay.api.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point amount stored as a long of minor units and a decimal scale
+ * 
+ * 12.50 at scale 2 is stored as 1250 minor units. Parsing and formatting work on
+ * characters directly, without BigDecimal or intermediate strings, and arithmetic is
+ * exact: results that would overflow or lose digits throw ArithmeticException.
+ * The wire format is a plain decimal such as "2.00", with exactly scale fraction digits.
+ * 
+ * Like BigDecimal, equals considers the scale (2.0 and 2.00 are not equal) while
+ * compareTo compares values.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Largest supported scale */
+    public static final int MAX_SCALE = 18;
+    
+    /** Powers of ten up to 10^18 */
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+    
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    /** Amount in minor units */
+    private final long minorUnits;
+    
+    /** Number of fraction digits */
+    private final int scale;
+
+    /**
+     * Constructor for validated values
+     * 
+     * @param minorUnits Amount in minor units
+     * @param scale Number of fraction digits
+     */
+    private Money(long minorUnits, int scale) {
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+    }
+
+    /**
+     * Create an amount from minor units
+     * 
+     * @param minorUnits Amount in minor units, e.g. 1250 for 12.50
+     * @param scale Number of fraction digits, e.g. 2
+     * @return amount
+     * @throws IllegalArgumentException if the scale is outside 0 to MAX_SCALE
+     */
+    public static Money ofMinor(long minorUnits, int scale) {
+        return new Money(minorUnits, validateScale(scale));
+    }
+
+    /**
+     * Create an amount from whole units
+     * 
+     * @param units Whole amount, e.g. 12 for 12.00
+     * @param scale Number of fraction digits
+     * @return amount
+     * @throws IllegalArgumentException if the scale is outside 0 to MAX_SCALE
+     * @throws ArithmeticException if the amount does not fit in minor units
+     */
+    public static Money of(long units, int scale) {
+        return new Money(Math.multiplyExact(units, POWERS_OF_TEN[validateScale(scale)]), scale);
+    }
+
+    /**
+     * Create an amount from a BigDecimal, keeping its scale
+     * 
+     * @param value Decimal value
+     * @return amount
+     * @throws IllegalArgumentException if the value is null or its scale is outside 0 to MAX_SCALE
+     * @throws ArithmeticException if the value does not fit in minor units
+     */
+    public static Money of(BigDecimal value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+        return new Money(value.unscaledValue().longValueExact(), validateScale(value.scale()));
+    }
+
+    /**
+     * Parse a decimal amount, taking the scale from its fraction digits
+     * 
+     * @param text Decimal such as "12.50", "-3" or "0.001"
+     * @return amount with as many fraction digits as the text
+     * @throws NumberFormatException if the text is not a plain decimal or is out of range
+     */
+    public static Money parse(CharSequence text) {
+        int scale = 0;
+        if (text != null) {
+            for (int i = text.length() - 1; i >= 0; i--) {
+                if (text.charAt(i) == '.') {
+                    scale = text.length() - 1 - i;
+                    break;
+                }
+            }
+        }
+        if (scale > MAX_SCALE) {
+            throw new NumberFormatException("Amount has more than " + MAX_SCALE + " fraction digits: " + text);
+        }
+        return new Money(parseMinorUnits(text, scale), scale);
+    }
+
+    /**
+     * Parse a decimal amount at a given scale
+     * 
+     * @param text Decimal such as "12.5" or "12.50"
+     * @param scale Number of fraction digits of the result
+     * @return amount at the given scale
+     * @throws NumberFormatException if the text is not a plain decimal or is out of range
+     * @throws ArithmeticException if the text has non-zero digits beyond the scale
+     */
+    public static Money parse(CharSequence text, int scale) {
+        return new Money(parseMinorUnits(text, validateScale(scale)), scale);
+    }
+
+    /**
+     * Parse a decimal amount straight to minor units, allocating nothing on success
+     * 
+     * Accepts an optional sign, digits and an optional fraction; no exponent, grouping
+     * or whitespace. Fraction digits beyond the scale must be zeros.
+     * 
+     * @param text Decimal such as "12.50"
+     * @param scale Number of fraction digits of the result
+     * @return amount in minor units
+     * @throws NumberFormatException if the text is not a plain decimal or is out of range
+     * @throws ArithmeticException if the text has non-zero digits beyond the scale
+     */
+    public static long parseMinorUnits(CharSequence text, int scale) {
+        validateScale(scale);
+        if (text == null) {
+            throw new NumberFormatException("Amount cannot be null");
+        }
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i = 1;
+        }
+        
+        // Accumulate negatively so Long.MIN_VALUE minor units can be parsed
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (fractionDigits >= 0) {
+                    throw new NumberFormatException("Invalid amount: " + text);
+                }
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid amount: " + text);
+            }
+            digits++;
+            if (fractionDigits >= 0) {
+                if (fractionDigits == scale) {
+                    if (c != '0') {
+                        throw new ArithmeticException("Amount " + text + " has more than " + scale + " fraction digits");
+                    }
+                    continue;
+                }
+                fractionDigits++;
+            }
+            if (value < Long.MIN_VALUE / 10 || value * 10 < Long.MIN_VALUE + (c - '0')) {
+                throw new NumberFormatException("Amount out of range: " + text);
+            }
+            value = value * 10 - (c - '0');
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid amount: " + text);
+        }
+        
+        int padding = scale - Math.max(fractionDigits, 0);
+        if (padding > 0) {
+            if (value < Long.MIN_VALUE / POWERS_OF_TEN[padding]) {
+                throw new NumberFormatException("Amount out of range: " + text);
+            }
+            value *= POWERS_OF_TEN[padding];
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw new NumberFormatException("Amount out of range: " + text);
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    /**
+     * Get the amount in minor units
+     * 
+     * @return minor units, e.g. 1250 for 12.50
+     */
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * Get the number of fraction digits
+     * 
+     * @return scale
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Get the sign of the amount
+     * 
+     * @return -1, 0 or 1
+     */
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    /**
+     * Check whether the amount is zero
+     * 
+     * @return true if zero at any scale
+     */
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    /**
+     * Add an amount
+     * 
+     * @param other Amount to add
+     * @return sum at the larger of the two scales
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money plus(Money other) {
+        int common = Math.max(scale, other.scale);
+        return new Money(Math.addExact(unitsAt(common), other.unitsAt(common)), common);
+    }
+
+    /**
+     * Subtract an amount
+     * 
+     * @param other Amount to subtract
+     * @return difference at the larger of the two scales
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money minus(Money other) {
+        int common = Math.max(scale, other.scale);
+        return new Money(Math.subtractExact(unitsAt(common), other.unitsAt(common)), common);
+    }
+
+    /**
+     * Multiply by a whole number, such as a quantity
+     * 
+     * @param factor Multiplier
+     * @return product at this scale
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), scale);
+    }
+
+    /**
+     * Negate the amount
+     * 
+     * @return amount with the opposite sign
+     * @throws ArithmeticException if the result overflows
+     */
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), scale);
+    }
+
+    /**
+     * Change the scale without losing digits
+     * 
+     * @param newScale Number of fraction digits of the result
+     * @return the same value at the new scale
+     * @throws ArithmeticException if non-zero digits would be dropped or the result overflows
+     */
+    public Money rescale(int newScale) {
+        return rescale(newScale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Change the scale, rounding dropped digits
+     * 
+     * @param newScale Number of fraction digits of the result
+     * @param rounding How to round dropped digits
+     * @return the value at the new scale
+     * @throws ArithmeticException if the result overflows, or rounding is UNNECESSARY and digits would be dropped
+     */
+    public Money rescale(int newScale, RoundingMode rounding) {
+        validateScale(newScale);
+        if (newScale >= scale) {
+            return newScale == scale ? this : new Money(unitsAt(newScale), newScale);
+        }
+        long divisor = POWERS_OF_TEN[scale - newScale];
+        long quotient = minorUnits / divisor;
+        long remainder = minorUnits % divisor;
+        if (remainder != 0 && roundsAway(quotient, remainder, divisor, rounding)) {
+            quotient += minorUnits < 0 ? -1 : 1;
+        }
+        return new Money(quotient, newScale);
+    }
+
+    /**
+     * Convert to a BigDecimal with the same scale
+     * 
+     * @return decimal value
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Append the wire format to a builder without allocating beyond its capacity
+     * 
+     * @param builder Builder to append to
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        // Work with the negative magnitude so Long.MIN_VALUE needs no special case
+        long negative = minorUnits > 0 ? -minorUnits : minorUnits;
+        long units = negative / POWERS_OF_TEN[scale];
+        long fraction = negative % POWERS_OF_TEN[scale];
+        if (minorUnits < 0) {
+            builder.append('-');
+        }
+        appendDigits(builder, units, digitCount(units));
+        if (scale > 0) {
+            builder.append('.');
+            appendDigits(builder, fraction, scale);
+        }
+        return builder;
+    }
+
+    /**
+     * Compare values regardless of scale
+     * 
+     * @param other Amount to compare with
+     * @return negative, zero or positive as this amount is less than, equal to or greater than the other
+     */
+    @Override
+    public int compareTo(Money other) {
+        if (scale == other.scale) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+        int common = Math.max(scale, other.scale);
+        try {
+            return Long.compare(unitsAt(common), other.unitsAt(common));
+        } catch (ArithmeticException e) {
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        Money other = (Money) o;
+        return minorUnits == other.minorUnits && scale == other.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + scale;
+    }
+
+    /**
+     * Format in the wire format, e.g. "2.00"
+     * 
+     * @return plain decimal with exactly scale fraction digits
+     */
+    @Override
+    public String toString() {
+        long negative = minorUnits > 0 ? -minorUnits : minorUnits;
+        int length = (minorUnits < 0 ? 1 : 0) + digitCount(negative / POWERS_OF_TEN[scale]) + (scale > 0 ? scale + 1 : 0);
+        return appendTo(new StringBuilder(length)).toString();
+    }
+
+    /**
+     * Get the minor units at a larger or equal scale
+     * 
+     * @param target Target scale, not less than this scale
+     * @return minor units at the target scale
+     * @throws ArithmeticException if the result overflows
+     */
+    private long unitsAt(int target) {
+        return target == scale ? minorUnits : Math.multiplyExact(minorUnits, POWERS_OF_TEN[target - scale]);
+    }
+
+    /**
+     * Decide whether a dropped, non-zero remainder rounds away from zero
+     * 
+     * @param quotient Truncated result
+     * @param remainder Dropped remainder, with the sign of the amount
+     * @param divisor Power of ten that was divided by
+     * @param rounding Rounding mode
+     * @return true to move the quotient one unit away from zero
+     * @throws ArithmeticException if rounding is UNNECESSARY
+     */
+    private static boolean roundsAway(long quotient, long remainder, long divisor, RoundingMode rounding) {
+        long dropped = Math.abs(remainder);
+        int half = Long.compare(dropped, divisor - dropped);
+        switch (rounding) {
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return remainder > 0;
+            case FLOOR:
+                return remainder < 0;
+            case HALF_UP:
+                return half >= 0;
+            case HALF_DOWN:
+                return half > 0;
+            case HALF_EVEN:
+                return half > 0 || (half == 0 && (quotient & 1) != 0);
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+    }
+
+    /**
+     * Count the decimal digits of a non-positive number
+     * 
+     * @param negative Value less than or equal to zero
+     * @return number of digits, at least one
+     */
+    private static int digitCount(long negative) {
+        int count = 1;
+        while (count <= MAX_SCALE && negative <= -POWERS_OF_TEN[count]) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Append a non-positive number's digits, zero-padded to a width
+     * 
+     * @param builder Builder to append to
+     * @param negative Value less than or equal to zero
+     * @param width Number of digits to write
+     */
+    private static void appendDigits(StringBuilder builder, long negative, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            builder.append((char) ('0' - (negative / POWERS_OF_TEN[i]) % 10));
+        }
+    }
+
+    /**
+     * Validate a scale
+     * 
+     * @param scale Number of fraction digits
+     * @return validated scale
+     * @throws IllegalArgumentException if the scale is outside 0 to MAX_SCALE
+     */
+    private static int validateScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+        return scale;
+    }
+}
@@ -0,0 +1,549 @@
+package com.reelpay.api.payout;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Crash-safe payout dispatcher backed by a write-ahead journal
+ * 
+ * Every payout is journaled and forced to disk before it is sent, and a second
+ * record marks the moment it goes out. After a crash the journal tells the three
+ * cases apart: intents that were never sent (PENDING, resumed automatically by
+ * resume()), intents that were sent without an answer (IN_DOUBT, never resent
+ * automatically) and payouts with a known outcome. The payout API has no
+ * merchant reference, so an IN_DOUBT payout is settled by looking up its
+ * trade_no out of band (payout callbacks, dashboard) and passing it to
+ * resolve(), which confirms it with queryPayoutInfo, or by retry()/abandon()
+ * once the merchant knows it was not created.
+ * 
+ * The Google Authenticator code is a one-time code, so it is never journaled:
+ * resume() and retry() take a fresh code for the payouts they send again.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class PayoutDispatcher implements Closeable {
+
+    /** Journal record: payout intent with its parameters */
+    private static final byte RECORD_INTENT = 1;
+    
+    /** Journal record: payout is about to be sent */
+    private static final byte RECORD_DISPATCHED = 2;
+    
+    /** Journal record: payout accepted with a trade_no */
+    private static final byte RECORD_ACCEPTED = 3;
+    
+    /** Journal record: payout rejected or abandoned */
+    private static final byte RECORD_REJECTED = 4;
+    
+    /** Longest rejection reason kept in the journal, in characters */
+    private static final int MAX_REASON_LENGTH = 512;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(PayoutDispatcher.class);
+    
+    /** API client used for payouts */
+    private final Transactions transactions;
+    
+    /** Write-ahead journal */
+    private final PayoutJournal journal;
+    
+    /** Limits the number of payouts in flight */
+    private final Semaphore slots;
+    
+    /** Executor running the blocking API calls */
+    private final Executor executor;
+    
+    /** Payouts without a final outcome, by intent ID, in journal order */
+    private final Map<String, Entry> open;
+
+    /**
+     * Open a dispatcher, replaying any existing journal
+     * 
+     * @param transactions API client used for payouts
+     * @param journalPath Journal file, created if missing
+     * @param maxConcurrency Maximum number of payouts in flight
+     * @throws IOException if the journal cannot be opened
+     */
+    public PayoutDispatcher(Transactions transactions, Path journalPath, int maxConcurrency) throws IOException {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        if (journalPath == null) {
+            throw new IllegalArgumentException("Journal path cannot be null");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.transactions = transactions;
+        this.slots = new Semaphore(maxConcurrency);
+        this.executor = TaskExecutors.blockingIo();
+        
+        Map<String, Entry> recovered = new LinkedHashMap<>();
+        this.journal = new PayoutJournal(journalPath, PayoutJournal.DEFAULT_CHUNK_SIZE,
+                (type, fields) -> replay(recovered, type, fields));
+        this.open = recovered;
+        
+        int inDoubt = 0;
+        for (Entry entry : recovered.values()) {
+            if (entry.state == PayoutState.IN_DOUBT) {
+                inDoubt++;
+            }
+        }
+        logger.info("Payout journal {} opened with {} pending and {} in-doubt payouts",
+                journalPath, recovered.size() - inDoubt, inDoubt);
+    }
+
+    /**
+     * Journal a payout and send it
+     * 
+     * Blocks until the intent is durable and a dispatch slot is free.
+     * 
+     * @param intent Payout to make
+     * @return future completed with the outcome; it never completes exceptionally for API errors
+     * @throws IllegalArgumentException if an unfinished payout with the same intent ID exists,
+     *         or a field is too long for the journal
+     * @throws RuntimeException if the journal cannot be written
+     */
+    public CompletableFuture<PayoutOutcome> submit(PayoutIntent intent) {
+        if (intent == null) {
+            throw new IllegalArgumentException("Intent cannot be null");
+        }
+        synchronized (open) {
+            if (open.containsKey(intent.getIntentId())) {
+                throw new IllegalArgumentException("Payout " + intent.getIntentId() + " is already journaled");
+            }
+            Entry entry = new Entry(intent);
+            entry.inFlight = true;
+            open.put(intent.getIntentId(), entry);
+        }
+        
+        try {
+            // The one-time code is left out: a resend after a restart needs a fresh one
+            append(true, RECORD_INTENT, intent.getIntentId(), intent.getCurrencyId(), intent.getAmount(),
+                    intent.getToAddress(), intent.getCallbackUrl());
+        } catch (RuntimeException e) {
+            remove(intent.getIntentId());
+            throw e;
+        }
+        return dispatch(intent);
+    }
+
+    /**
+     * Send every payout recovered as PENDING from the journal
+     * 
+     * @param googleCode Fresh Google Authenticator code for the resent payouts (if required)
+     * @return one future per resumed payout
+     */
+    public List<CompletableFuture<PayoutOutcome>> resume(String googleCode) {
+        List<CompletableFuture<PayoutOutcome>> futures = new ArrayList<>();
+        for (PayoutIntent intent : getPending()) {
+            if (claim(intent.getIntentId())) {
+                logger.info("Resuming journaled payout {}", intent.getIntentId());
+                futures.add(dispatch(intent.withGoogleCode(googleCode)));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Get payouts that were journaled but never sent
+     * 
+     * Intents recovered from the journal carry no Google Authenticator code.
+     * 
+     * @return pending intents in journal order
+     */
+    public List<PayoutIntent> getPending() {
+        return intentsIn(PayoutState.PENDING);
+    }
+
+    /**
+     * Get payouts that were sent without a definitive answer
+     * 
+     * @return in-doubt intents in journal order
+     */
+    public List<PayoutIntent> getInDoubt() {
+        return intentsIn(PayoutState.IN_DOUBT);
+    }
+
+    /**
+     * Settle an in-doubt payout whose trade_no was found out of band
+     * 
+     * @param intentId Local intent ID
+     * @param tradeNo ReelPay trade number believed to belong to the payout
+     * @return ACCEPTED if ReelPay knows the trade_no, otherwise IN_DOUBT with the query response
+     * @throws IllegalArgumentException if the payout is not in doubt
+     * @throws IllegalStateException if the payout is being sent again or settled by another call
+     */
+    public PayoutOutcome resolve(String intentId, String tradeNo) {
+        if (tradeNo == null || tradeNo.isEmpty()) {
+            throw new IllegalArgumentException("Trade number cannot be null or empty");
+        }
+        PayoutIntent intent = requireInDoubt(intentId);
+        if (!claim(intentId)) {
+            throw new IllegalStateException("Payout " + intentId + " is already being dispatched or settled");
+        }
+        try {
+            JsonObject response = transactions.queryPayoutInfo(tradeNo);
+            if (tradeNo.equals(extractTradeNo(response))) {
+                return accept(intent, tradeNo, response);
+            }
+            return new PayoutOutcome(intent, PayoutState.IN_DOUBT, null, response, null);
+        } finally {
+            release(intentId);
+        }
+    }
+
+    /**
+     * Send an in-doubt payout again after confirming it was not created
+     * 
+     * @param intentId Local intent ID
+     * @param googleCode Fresh Google Authenticator code (if required)
+     * @return future completed with the new outcome
+     * @throws IllegalArgumentException if the payout is not in doubt
+     * @throws IllegalStateException if the payout is being sent again or settled by another call
+     */
+    public CompletableFuture<PayoutOutcome> retry(String intentId, String googleCode) {
+        PayoutIntent intent = requireInDoubt(intentId);
+        if (!claim(intentId)) {
+            throw new IllegalStateException("Payout " + intentId + " is already being dispatched or settled");
+        }
+        return dispatch(intent.withGoogleCode(googleCode));
+    }
+
+    /**
+     * Close an in-doubt payout without sending it again
+     * 
+     * @param intentId Local intent ID
+     * @param reason Reason recorded in the journal, truncated to 512 characters
+     * @return REJECTED outcome
+     * @throws IllegalArgumentException if the payout is not in doubt
+     * @throws IllegalStateException if the payout is being sent again or settled by another call
+     */
+    public PayoutOutcome abandon(String intentId, String reason) {
+        PayoutIntent intent = requireInDoubt(intentId);
+        if (!claim(intentId)) {
+            throw new IllegalStateException("Payout " + intentId + " is already being dispatched or settled");
+        }
+        try {
+            append(true, RECORD_REJECTED, intentId, truncate(reason));
+            remove(intentId);
+        } finally {
+            release(intentId);
+        }
+        return new PayoutOutcome(intent, PayoutState.REJECTED, null, null, null);
+    }
+
+    /**
+     * Flush and close the journal
+     * 
+     * @throws IOException if the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Send a claimed payout once a slot is free
+     * 
+     * @param intent Payout to send
+     * @return future completed with the outcome
+     */
+    private CompletableFuture<PayoutOutcome> dispatch(PayoutIntent intent) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            release(intent.getIntentId());
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a payout slot", e);
+        }
+        
+        CompletableFuture<PayoutOutcome> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                PayoutOutcome outcome = null;
+                RuntimeException failure = null;
+                try {
+                    outcome = send(intent);
+                } catch (RuntimeException e) {
+                    failure = e;
+                } finally {
+                    release(intent.getIntentId());
+                    slots.release();
+                }
+                // Complete only after releasing, so callers can act on the outcome at once
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(outcome);
+                }
+            });
+        } catch (RuntimeException e) {
+            release(intent.getIntentId());
+            slots.release();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Mark a payout as dispatched, send it and journal the outcome
+     * 
+     * @param intent Payout to send
+     * @return outcome of the call
+     */
+    private PayoutOutcome send(PayoutIntent intent) {
+        // Once this record is durable a crash leaves the payout IN_DOUBT rather than PENDING
+        append(true, RECORD_DISPATCHED, intent.getIntentId());
+        setState(intent.getIntentId(), PayoutState.IN_DOUBT);
+        
+        JsonObject response;
+        try {
+            response = transactions.createPayout(intent.toRequest());
+        } catch (RuntimeException e) {
+            logger.warn("Payout {} is in doubt: {}", intent.getIntentId(), e.getMessage());
+            return new PayoutOutcome(intent, PayoutState.IN_DOUBT, null, null, e);
+        }
+        
+        String tradeNo = extractTradeNo(response);
+        if (tradeNo != null) {
+            return accept(intent, tradeNo, response);
+        }
+        
+        // Outcome records need not wait for the flush: if lost, the payout reappears as IN_DOUBT
+        append(false, RECORD_REJECTED, intent.getIntentId(), rejectionReason(response));
+        remove(intent.getIntentId());
+        return new PayoutOutcome(intent, PayoutState.REJECTED, null, response, null);
+    }
+
+    /**
+     * Journal an accepted payout
+     * 
+     * @param intent Payout intent
+     * @param tradeNo ReelPay trade number
+     * @param response API response
+     * @return ACCEPTED outcome
+     */
+    private PayoutOutcome accept(PayoutIntent intent, String tradeNo, JsonObject response) {
+        append(false, RECORD_ACCEPTED, intent.getIntentId(), tradeNo);
+        remove(intent.getIntentId());
+        return new PayoutOutcome(intent, PayoutState.ACCEPTED, tradeNo, response, null);
+    }
+
+    /**
+     * Rebuild open payouts from one journal record
+     * 
+     * @param open Open payouts being rebuilt
+     * @param type Record type
+     * @param fields Record fields, the first being the intent ID
+     */
+    private static void replay(Map<String, Entry> open, byte type, String[] fields) {
+        String intentId = fields[0];
+        switch (type) {
+            case RECORD_INTENT:
+                open.put(intentId, new Entry(new PayoutIntent(intentId, fields[1], fields[2], fields[3], null, fields[4])));
+                break;
+            case RECORD_DISPATCHED:
+                Entry entry = open.get(intentId);
+                if (entry != null) {
+                    entry.state = PayoutState.IN_DOUBT;
+                }
+                break;
+            case RECORD_ACCEPTED:
+            case RECORD_REJECTED:
+                open.remove(intentId);
+                break;
+            default:
+                logger.warn("Skipping unknown payout journal record type {}", type);
+        }
+    }
+
+    /**
+     * Append a record, turning I/O failures into runtime exceptions
+     * 
+     * @param durable Whether to wait for the flush
+     * @param type Record type
+     * @param fields Record fields
+     */
+    private void append(boolean durable, byte type, String... fields) {
+        try {
+            journal.append(durable, type, fields);
+        } catch (IOException e) {
+            logger.error("Payout journal write failed: {}", e.getMessage(), e);
+            throw new RuntimeException("Payout journal write failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the intent of an in-doubt payout
+     * 
+     * @param intentId Local intent ID
+     * @return intent
+     * @throws IllegalArgumentException if the payout is not in doubt
+     */
+    private PayoutIntent requireInDoubt(String intentId) {
+        synchronized (open) {
+            Entry entry = open.get(intentId);
+            if (entry == null || entry.state != PayoutState.IN_DOUBT) {
+                throw new IllegalArgumentException("Payout " + intentId + " is not in doubt");
+            }
+            return entry.intent;
+        }
+    }
+
+    /**
+     * List open intents in the given state
+     * 
+     * @param state State to select
+     * @return intents in journal order
+     */
+    private List<PayoutIntent> intentsIn(PayoutState state) {
+        List<PayoutIntent> intents = new ArrayList<>();
+        synchronized (open) {
+            for (Entry entry : open.values()) {
+                if (entry.state == state) {
+                    intents.add(entry.intent);
+                }
+            }
+        }
+        return intents;
+    }
+
+    /**
+     * Mark an open payout as being dispatched
+     * 
+     * @param intentId Local intent ID
+     * @return false if it is unknown or already in flight
+     */
+    private boolean claim(String intentId) {
+        synchronized (open) {
+            Entry entry = open.get(intentId);
+            if (entry == null || entry.inFlight) {
+                return false;
+            }
+            entry.inFlight = true;
+            return true;
+        }
+    }
+
+    /**
+     * Clear the in-flight mark of an open payout
+     * 
+     * @param intentId Local intent ID
+     */
+    private void release(String intentId) {
+        synchronized (open) {
+            Entry entry = open.get(intentId);
+            if (entry != null) {
+                entry.inFlight = false;
+            }
+        }
+    }
+
+    /**
+     * Update the state of an open payout
+     * 
+     * @param intentId Local intent ID
+     * @param state New state
+     */
+    private void setState(String intentId, PayoutState state) {
+        synchronized (open) {
+            Entry entry = open.get(intentId);
+            if (entry != null) {
+                entry.state = state;
+            }
+        }
+    }
+
+    /**
+     * Forget a payout that reached a final outcome
+     * 
+     * @param intentId Local intent ID
+     */
+    private void remove(String intentId) {
+        synchronized (open) {
+            open.remove(intentId);
+        }
+    }
+
+    /**
+     * Summarize a rejection as the response's code and msg
+     * 
+     * @param response API response
+     * @return reason recorded in the journal
+     */
+    private static String rejectionReason(JsonObject response) {
+        if (response == null) {
+            return "No response";
+        }
+        JsonElement code = response.get("code");
+        JsonElement msg = response.get("msg");
+        return truncate((code != null && code.isJsonPrimitive() ? code.getAsString() : "?") + " "
+                + (msg != null && msg.isJsonPrimitive() ? msg.getAsString() : ""));
+    }
+
+    /**
+     * Cap a reason at MAX_REASON_LENGTH characters
+     * 
+     * @param reason Reason, possibly null
+     * @return reason short enough for a journal field
+     */
+    private static String truncate(String reason) {
+        return reason != null && reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+
+    /**
+     * Extract data.trade_no from an API response
+     * 
+     * @param response API response
+     * @return trade number, or null if absent
+     */
+    private static String extractTradeNo(JsonObject response) {
+        JsonElement data = response != null ? response.get("data") : null;
+        if (data == null || !data.isJsonObject()) {
+            return null;
+        }
+        JsonElement tradeNo = data.getAsJsonObject().get("trade_no");
+        return tradeNo != null && tradeNo.isJsonPrimitive() ? tradeNo.getAsString() : null;
+    }
+
+    /**
+     * Open payout with its current state
+     */
+    private static final class Entry {
+
+        /** Payout intent */
+        private final PayoutIntent intent;
+        
+        /** PENDING or IN_DOUBT */
+        private PayoutState state = PayoutState.PENDING;
+        
+        /** Whether a dispatch of this payout is running */
+        private boolean inFlight;
+        
+        /**
+         * Constructor
+         * 
+         * @param intent Payout intent
+         */
+        private Entry(PayoutIntent intent) {
+            this.intent = intent;
+        }
+    }
+}
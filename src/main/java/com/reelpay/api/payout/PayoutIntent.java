@@ -0,0 +1,172 @@
+package com.reelpay.api.payout;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.money.Money;
+
+import java.util.UUID;
+
+/**
+ * A payout the merchant intends to make, identified by a local intent ID
+ * 
+ * The intent ID only exists on the merchant's side; it ties journal records
+ * for the same payout together across restarts.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class PayoutIntent {
+
+    /** Local unique ID of this payout */
+    private final String intentId;
+    
+    /** Cryptocurrency ID */
+    private final String currencyId;
+    
+    /** Amount to transfer */
+    private final String amount;
+    
+    /** Destination address */
+    private final String toAddress;
+    
+    /** Google Authenticator code (if required) */
+    private final String googleCode;
+    
+    /** Callback URL for payout notifications */
+    private final String callbackUrl;
+    
+    /**
+     * Constructor
+     * 
+     * @param intentId Local unique ID of this payout
+     * @param currencyId Cryptocurrency ID
+     * @param amount Amount to transfer
+     * @param toAddress Destination address
+     * @param googleCode Google Authenticator code (if required)
+     * @param callbackUrl Callback URL for payout notifications
+     */
+    public PayoutIntent(String intentId, String currencyId, String amount, String toAddress,
+                        String googleCode, String callbackUrl) {
+        if (intentId == null || intentId.isEmpty()) {
+            throw new IllegalArgumentException("Intent ID cannot be null or empty");
+        }
+        this.intentId = intentId;
+        this.currencyId = currencyId;
+        this.amount = amount;
+        this.toAddress = toAddress;
+        this.googleCode = googleCode;
+        this.callbackUrl = callbackUrl;
+    }
+
+    /**
+     * Create an intent with a random intent ID
+     * 
+     * @param currencyId Cryptocurrency ID
+     * @param amount Amount to transfer
+     * @param toAddress Destination address
+     * @param googleCode Google Authenticator code (if required)
+     * @param callbackUrl Callback URL for payout notifications
+     * @return PayoutIntent instance
+     */
+    public static PayoutIntent of(String currencyId, String amount, String toAddress, String googleCode, String callbackUrl) {
+        return new PayoutIntent(UUID.randomUUID().toString(), currencyId, amount, toAddress, googleCode, callbackUrl);
+    }
+
+    /**
+     * Create an intent for a typed amount with a random intent ID
+     * 
+     * @param currencyId Cryptocurrency ID
+     * @param amount Amount to transfer
+     * @param toAddress Destination address
+     * @param googleCode Google Authenticator code (if required)
+     * @param callbackUrl Callback URL for payout notifications
+     * @return PayoutIntent instance
+     */
+    public static PayoutIntent of(String currencyId, Money amount, String toAddress, String googleCode, String callbackUrl) {
+        return of(currencyId, amount != null ? amount.toString() : null, toAddress, googleCode, callbackUrl);
+    }
+
+    /**
+     * Get the local intent ID
+     * 
+     * @return intent ID
+     */
+    public String getIntentId() {
+        return intentId;
+    }
+
+    /**
+     * Get the cryptocurrency ID
+     * 
+     * @return currency_id
+     */
+    public String getCurrencyId() {
+        return currencyId;
+    }
+
+    /**
+     * Get the amount to transfer
+     * 
+     * @return amount
+     */
+    public String getAmount() {
+        return amount;
+    }
+
+    /**
+     * Get the destination address
+     * 
+     * @return to_address
+     */
+    public String getToAddress() {
+        return toAddress;
+    }
+
+    /**
+     * Get the Google Authenticator code
+     * 
+     * @return google_code
+     */
+    public String getGoogleCode() {
+        return googleCode;
+    }
+
+    /**
+     * Get the callback URL
+     * 
+     * @return callback_url
+     */
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    /**
+     * Copy this intent with another Google Authenticator code
+     * 
+     * @param code Google Authenticator code (if required)
+     * @return intent with the same ID and payout parameters
+     */
+    PayoutIntent withGoogleCode(String code) {
+        return new PayoutIntent(intentId, currencyId, amount, toAddress, code, callbackUrl);
+    }
+
+    /**
+     * Build the createPayout request body
+     * 
+     * @return JsonObject containing payout parameters
+     */
+    JsonObject toRequest() {
+        JsonObject requestData = new JsonObject();
+        requestData.addProperty("currency_id", currencyId);
+        requestData.addProperty("to_address", toAddress);
+        requestData.addProperty("amount", amount);
+        requestData.addProperty("google_code", googleCode);
+        requestData.addProperty("callback_url", callbackUrl);
+        return requestData;
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutIntent{intentId=" + intentId + ", currencyId=" + currencyId + ", amount=" + amount
+                + ", toAddress=" + toAddress + "}";
+    }
+}
@@ -0,0 +1,394 @@
+package com.reelpay.api.payout;
+
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead journal backed by memory-mapped file chunks
+ * 
+ * Each record is laid out as [int length][int crc32][payload], where the payload
+ * is a type byte followed by length-prefixed UTF-8 strings, with a field length
+ * of 0xFFFF standing for null. A zero record length marks the unused tail of a
+ * chunk. Durable appends are batched: a single flusher thread forces all records
+ * written since its last pass, so concurrent writers share one fsync (group commit).
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class PayoutJournal implements Closeable {
+
+    /** Default size of one mapped chunk */
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    
+    /** Size of the length and checksum header */
+    private static final int HEADER_SIZE = 8;
+    
+    /** Field length standing for a null field */
+    private static final int NULL_FIELD = 0xFFFF;
+    
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(PayoutJournal.class);
+    
+    /**
+     * Receives records while the journal is replayed
+     */
+    interface Visitor {
+
+        /**
+         * Handle one record
+         * 
+         * @param type Record type
+         * @param fields Record fields
+         */
+        void record(byte type, String[] fields);
+    }
+
+    /** File channel of the journal */
+    private final FileChannel channel;
+    
+    /** Size of each mapped chunk */
+    private final int chunkSize;
+    
+    /** Guards the write position and the dirty chunk list */
+    private final Object writeLock = new Object();
+    
+    /** Guards the written and flushed offsets */
+    private final Object flushLock = new Object();
+    
+    /** Chunk currently being written */
+    private MappedByteBuffer chunk;
+    
+    /** File offset of the current chunk */
+    private long chunkBase;
+    
+    /** Chunks written since the last flush */
+    private List<MappedByteBuffer> dirty = new ArrayList<>();
+    
+    /** File offset just past the last appended record */
+    private long written;
+    
+    /** File offset up to which records are durable */
+    private long flushed;
+    
+    /** Whether the journal is open */
+    private volatile boolean open = true;
+    
+    /** First flush failure, reported to every durable append after it */
+    private IOException flushFailure;
+
+    /**
+     * Open or create a journal and replay its records
+     * 
+     * @param path Journal file
+     * @param chunkSize Size of each mapped chunk
+     * @param visitor Receives existing records in append order
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    PayoutJournal(Path path, int chunkSize, Visitor visitor) throws IOException {
+        if (chunkSize < 4096) {
+            throw new IllegalArgumentException("Chunk size must be at least 4096 bytes");
+        }
+        this.chunkSize = chunkSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replay(visitor);
+        this.flushed = this.written;
+        
+        Thread flusher = TaskExecutors.daemonThreadFactory("reelpay-journal-flusher").newThread(this::flushLoop);
+        flusher.start();
+    }
+
+    /**
+     * Append a record
+     * 
+     * @param durable Whether to wait until the record is forced to storage
+     * @param type Record type
+     * @param fields Record fields
+     * @throws IOException if the record cannot be written or forced
+     */
+    void append(boolean durable, byte type, String... fields) throws IOException {
+        byte[] payload = encode(type, fields);
+        if (payload.length + HEADER_SIZE > chunkSize) {
+            throw new IOException("Journal record of " + payload.length + " bytes exceeds chunk size");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        
+        long end;
+        synchronized (writeLock) {
+            if (!open) {
+                throw new IOException("Journal is closed");
+            }
+            if (chunk.remaining() < payload.length + HEADER_SIZE) {
+                // The zero-filled tail of the old chunk tells the reader to move on
+                mapChunk(chunkBase + chunkSize);
+            }
+            chunk.putInt(payload.length);
+            chunk.putInt((int) crc.getValue());
+            chunk.put(payload);
+            end = chunkBase + chunk.position();
+        }
+        
+        synchronized (flushLock) {
+            written = Math.max(written, end);
+            flushLock.notifyAll();
+            if (durable) {
+                while (flushed < end && flushFailure == null && open) {
+                    try {
+                        flushLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while waiting for journal flush", e);
+                    }
+                }
+                if (flushFailure != null) {
+                    throw new IOException("Journal flush failed", flushFailure);
+                }
+                if (flushed < end) {
+                    throw new IOException("Journal closed before record was flushed");
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush outstanding records and close the journal
+     * 
+     * @throws IOException if the final flush or close fails
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            if (!open) {
+                return;
+            }
+            open = false;
+            for (MappedByteBuffer buffer : dirty) {
+                buffer.force();
+            }
+            chunk.force();
+        }
+        synchronized (flushLock) {
+            flushed = written;
+            flushLock.notifyAll();
+        }
+        channel.close();
+    }
+
+    /**
+     * Flusher thread: force everything written since the previous pass in one go
+     */
+    private void flushLoop() {
+        while (true) {
+            long target;
+            synchronized (flushLock) {
+                while (open && written <= flushed) {
+                    try {
+                        flushLock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!open) {
+                    return;
+                }
+                target = written;
+            }
+            
+            try {
+                List<MappedByteBuffer> toForce;
+                MappedByteBuffer current;
+                synchronized (writeLock) {
+                    if (!open) {
+                        return;
+                    }
+                    toForce = dirty;
+                    dirty = new ArrayList<>();
+                    current = chunk;
+                }
+                for (MappedByteBuffer buffer : toForce) {
+                    buffer.force();
+                }
+                current.force();
+                
+                synchronized (flushLock) {
+                    flushed = Math.max(flushed, target);
+                    flushLock.notifyAll();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Payout journal flush failed: {}", e.getMessage(), e);
+                synchronized (flushLock) {
+                    flushFailure = new IOException(e.getMessage(), e);
+                    flushLock.notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Map the chunk starting at the given file offset and make it current
+     * 
+     * @param base File offset of the chunk
+     * @throws IOException if mapping fails
+     */
+    private void mapChunk(long base) throws IOException {
+        if (chunk != null) {
+            dirty.add(chunk);
+        }
+        chunk = channel.map(FileChannel.MapMode.READ_WRITE, base, chunkSize);
+        chunkBase = base;
+    }
+
+    /**
+     * Replay existing records and position the write head after the last valid one
+     * 
+     * @param visitor Receives records in append order
+     * @throws IOException if the file cannot be mapped
+     */
+    private void replay(Visitor visitor) throws IOException {
+        long chunks = Math.max(1L, (channel.size() + chunkSize - 1) / chunkSize);
+        
+        for (long index = 0; index < chunks; index++) {
+            mapChunk(index * chunkSize);
+            dirty.clear();
+            
+            while (chunk.remaining() >= HEADER_SIZE) {
+                int start = chunk.position();
+                int length = chunk.getInt();
+                if (length == 0) {
+                    chunk.position(start);
+                    break;
+                }
+                int checksum = chunk.getInt();
+                if (length < 0 || length > chunk.remaining() || !readRecord(length, checksum, visitor)) {
+                    // Torn or corrupt tail from a crash: discard it and resume writing here
+                    logger.warn("Discarding corrupt payout journal tail at offset {}", chunkBase + start);
+                    chunk.position(start);
+                    zeroFill();
+                    written = chunkBase + start;
+                    return;
+                }
+            }
+            
+            written = chunkBase + chunk.position();
+            if (index + 1 < chunks && !nextChunkHasData(index + 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Read and dispatch one record at the current position
+     * 
+     * @param length Payload length
+     * @param checksum Expected CRC32 of the payload
+     * @param visitor Receives the record
+     * @return false if the checksum does not match
+     */
+    private boolean readRecord(int length, int checksum, Visitor visitor) {
+        byte[] payload = new byte[length];
+        chunk.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, length);
+        if ((int) crc.getValue() != checksum) {
+            return false;
+        }
+        decode(payload, visitor);
+        return true;
+    }
+
+    /**
+     * Check whether the chunk at the given index starts with a record
+     * 
+     * @param index Chunk index
+     * @return true if the chunk holds data
+     * @throws IOException if the file cannot be read
+     */
+    private boolean nextChunkHasData(long index) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        channel.read(header, index * chunkSize);
+        return header.position() == 4 && header.getInt(0) != 0;
+    }
+
+    /**
+     * Zero the rest of the current chunk without moving the position
+     */
+    private void zeroFill() {
+        int position = chunk.position();
+        while (chunk.hasRemaining()) {
+            chunk.put((byte) 0);
+        }
+        chunk.position(position);
+        chunk.force();
+    }
+
+    /**
+     * Encode a record payload
+     * 
+     * @param type Record type
+     * @param fields Record fields, possibly null
+     * @return payload bytes
+     */
+    private static byte[] encode(byte type, String[] fields) {
+        byte[][] encoded = new byte[fields.length][];
+        int size = 2;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                size += 2;
+                continue;
+            }
+            encoded[i] = fields[i].getBytes(StandardCharsets.UTF_8);
+            if (encoded[i].length >= NULL_FIELD) {
+                throw new IllegalArgumentException("Journal field exceeds 65534 bytes");
+            }
+            size += 2 + encoded[i].length;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(type);
+        buffer.put((byte) fields.length);
+        for (byte[] field : encoded) {
+            if (field == null) {
+                buffer.putShort((short) NULL_FIELD);
+            } else {
+                buffer.putShort((short) field.length);
+                buffer.put(field);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decode a record payload and pass it to the visitor
+     * 
+     * @param payload Payload bytes
+     * @param visitor Receives the record
+     */
+    private static void decode(byte[] payload, Visitor visitor) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        byte type = buffer.get();
+        String[] fields = new String[buffer.get() & 0xFF];
+        for (int i = 0; i < fields.length; i++) {
+            int length = buffer.getShort() & 0xFFFF;
+            if (length != NULL_FIELD) {
+                byte[] field = new byte[length];
+                buffer.get(field);
+                fields[i] = new String(field, StandardCharsets.UTF_8);
+            }
+        }
+        visitor.record(type, fields);
+    }
+}
@@ -0,0 +1,96 @@
+package com.reelpay.api.payout;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Result of dispatching, recovering or resolving one payout
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class PayoutOutcome {
+
+    /** Payout intent */
+    private final PayoutIntent intent;
+    
+    /** Payout state */
+    private final PayoutState state;
+    
+    /** ReelPay trade number, when accepted */
+    private final String tradeNo;
+    
+    /** API response, when one was received */
+    private final JsonObject response;
+    
+    /** Failure cause, when the call failed */
+    private final RuntimeException error;
+
+    /**
+     * Constructor
+     * 
+     * @param intent Payout intent
+     * @param state Payout state
+     * @param tradeNo ReelPay trade number, or null
+     * @param response API response, or null
+     * @param error Failure cause, or null
+     */
+    PayoutOutcome(PayoutIntent intent, PayoutState state, String tradeNo, JsonObject response, RuntimeException error) {
+        this.intent = intent;
+        this.state = state;
+        this.tradeNo = tradeNo;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Get the payout intent
+     * 
+     * @return intent
+     */
+    public PayoutIntent getIntent() {
+        return intent;
+    }
+
+    /**
+     * Get the payout state
+     * 
+     * @return state
+     */
+    public PayoutState getState() {
+        return state;
+    }
+
+    /**
+     * Get the ReelPay trade number
+     * 
+     * @return trade_no, or null unless accepted
+     */
+    public String getTradeNo() {
+        return tradeNo;
+    }
+
+    /**
+     * Get the API response
+     * 
+     * @return response, or null if none was received
+     */
+    public JsonObject getResponse() {
+        return response;
+    }
+
+    /**
+     * Get the failure cause
+     * 
+     * @return error, or null
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "PayoutOutcome{intentId=" + intent.getIntentId() + ", state=" + state
+                + (tradeNo != null ? ", tradeNo=" + tradeNo : "")
+                + (error != null ? ", error=" + error.getMessage() : "") + "}";
+    }
+}
@@ -0,0 +1,22 @@
+package com.reelpay.api.payout;
+
+/**
+ * Where a journaled payout stands
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum PayoutState {
+
+    /** Journaled but never sent; safe to send */
+    PENDING,
+
+    /** Sent without a definitive answer; it may or may not have reached ReelPay */
+    IN_DOUBT,
+
+    /** ReelPay accepted the payout and assigned a trade_no */
+    ACCEPTED,
+
+    /** ReelPay answered without a trade_no; the payout was not created */
+    REJECTED
+}
@@ -0,0 +1,71 @@
+package com.reelpay.api.reconcile;
+
+/**
+ * One order read from a local ledger
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class LedgerEntry {
+
+    /** Position of the entry in the ledger, starting at 1 */
+    private final long sequence;
+    
+    /** Byte offset just past the entry's line */
+    private final long endOffset;
+    
+    /** ReelPay order ID, or null if the line is invalid */
+    private final String tradeNo;
+    
+    /** Local order status */
+    private final String status;
+    
+    /** Local order amount */
+    private final String amount;
+    
+    /** Why the line could not be read, or null if it is valid */
+    private final String error;
+
+    /**
+     * Constructor
+     * 
+     * @param sequence Position of the entry in the ledger
+     * @param endOffset Byte offset just past the entry's line
+     * @param tradeNo ReelPay order ID, or null if the line is invalid
+     * @param status Local order status
+     * @param amount Local order amount
+     * @param error Why the line could not be read, or null
+     */
+    LedgerEntry(long sequence, long endOffset, String tradeNo, String status, String amount, String error) {
+        this.sequence = sequence;
+        this.endOffset = endOffset;
+        this.tradeNo = tradeNo;
+        this.status = status;
+        this.amount = amount;
+        this.error = error;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    long getEndOffset() {
+        return endOffset;
+    }
+
+    String getTradeNo() {
+        return tradeNo;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    String getAmount() {
+        return amount;
+    }
+
+    String getError() {
+        return error;
+    }
+}
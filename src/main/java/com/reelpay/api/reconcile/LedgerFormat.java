@@ -0,0 +1,31 @@
+package com.reelpay.api.reconcile;
+
+import java.nio.file.Path;
+
+/**
+ * File format of a local order ledger
+ * 
+ * Both formats carry one order per line with the fields trade_no, status and amount;
+ * other fields are ignored.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum LedgerFormat {
+
+    /** Comma-separated values with a header row naming the columns */
+    CSV,
+
+    /** One JSON object per line */
+    JSON_LINES;
+
+    /**
+     * Choose the format from a file name: .csv is CSV, anything else JSON lines
+     * 
+     * @param file Ledger file
+     * @return ledger format
+     */
+    public static LedgerFormat forFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".csv") ? CSV : JSON_LINES;
+    }
+}
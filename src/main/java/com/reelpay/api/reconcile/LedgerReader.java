@@ -0,0 +1,304 @@
+package com.reelpay.api.reconcile;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams entries from a ledger file one line at a time
+ * 
+ * Tracks the byte offset of every line so a run can later seek straight back to
+ * where it stopped instead of re-reading the ledger. Blank lines are skipped; lines
+ * that cannot be parsed become entries carrying an error.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class LedgerReader implements Closeable {
+
+    /** Ledger field holding the ReelPay order ID */
+    static final String FIELD_TRADE_NO = "trade_no";
+    
+    /** Ledger field holding the order status */
+    static final String FIELD_STATUS = "status";
+    
+    /** Ledger field holding the order amount */
+    static final String FIELD_AMOUNT = "amount";
+    
+    /** Read buffer size */
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    /** Ledger file */
+    private final FileChannel channel;
+    
+    /** Buffered stream over the channel */
+    private InputStream in;
+    
+    /** Ledger format */
+    private final LedgerFormat format;
+    
+    /** Bytes of the current line, reused between lines */
+    private byte[] line = new byte[256];
+    
+    /** Byte offset of the next unread byte */
+    private long offset;
+    
+    /** Sequence number of the last entry returned */
+    private long sequence;
+    
+    /** CSV column of the trade number, -1 if missing */
+    private int tradeNoColumn = -1;
+    
+    /** CSV column of the status, -1 if missing */
+    private int statusColumn = -1;
+    
+    /** CSV column of the amount, -1 if missing */
+    private int amountColumn = -1;
+
+    /**
+     * Open a ledger, continuing after a previously read entry
+     * 
+     * @param file Ledger file
+     * @param format Ledger format
+     * @param startOffset Byte offset just past the last entry already read, 0 to start at the beginning
+     * @param startSequence Sequence number of that entry, 0 to start at the beginning
+     * @throws IOException if the file cannot be opened, the offset is past its end or the CSV header is missing
+     */
+    LedgerReader(Path file, LedgerFormat format, long startOffset, long startSequence) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.format = format;
+        this.in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        try {
+            if (startOffset > channel.size()) {
+                throw new IOException("Checkpoint offset " + startOffset + " is past the end of ledger " + file);
+            }
+            if (format == LedgerFormat.CSV) {
+                String header = readLine();
+                while (header != null && header.trim().isEmpty()) {
+                    header = readLine();
+                }
+                if (header == null) {
+                    throw new IOException("Ledger " + file + " has no CSV header");
+                }
+                readHeader(header, file);
+            }
+            if (startOffset > offset) {
+                // The buffer has read ahead of the header, so start a fresh one at the offset
+                channel.position(startOffset);
+                in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+                offset = startOffset;
+            }
+            sequence = startSequence;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Read the next entry
+     * 
+     * @return entry, or null at the end of the ledger
+     * @throws IOException if the file cannot be read
+     */
+    LedgerEntry next() throws IOException {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+        } while (text.trim().isEmpty());
+        
+        sequence++;
+        try {
+            return format == LedgerFormat.CSV ? parseCsv(text) : parseJson(text);
+        } catch (RuntimeException e) {
+            return invalid("Unreadable line: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Locate the required columns in the CSV header
+     * 
+     * @param header Header line
+     * @param file Ledger file, for the error message
+     * @throws IOException if the trade number column is missing
+     */
+    private void readHeader(String header, Path file) throws IOException {
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase();
+            if (FIELD_TRADE_NO.equals(name)) {
+                tradeNoColumn = i;
+            } else if (FIELD_STATUS.equals(name)) {
+                statusColumn = i;
+            } else if (FIELD_AMOUNT.equals(name)) {
+                amountColumn = i;
+            }
+        }
+        if (tradeNoColumn < 0) {
+            throw new IOException("Ledger " + file + " has no " + FIELD_TRADE_NO + " column: " + header);
+        }
+    }
+
+    /**
+     * Parse one CSV line
+     * 
+     * @param text Line without its terminator
+     * @return ledger entry
+     */
+    private LedgerEntry parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        return entry(column(fields, tradeNoColumn), column(fields, statusColumn), column(fields, amountColumn));
+    }
+
+    /**
+     * Parse one JSON line
+     * 
+     * @param text Line without its terminator
+     * @return ledger entry
+     */
+    private LedgerEntry parseJson(String text) {
+        JsonObject object;
+        try {
+            object = JsonParser.parseString(text).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            return invalid("Invalid JSON: " + text);
+        }
+        return entry(field(object, FIELD_TRADE_NO), field(object, FIELD_STATUS), field(object, FIELD_AMOUNT));
+    }
+
+    /**
+     * Build an entry, rejecting one without a trade number
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param status Local status
+     * @param amount Local amount
+     * @return ledger entry
+     */
+    private LedgerEntry entry(String tradeNo, String status, String amount) {
+        if (tradeNo == null || tradeNo.isEmpty()) {
+            return invalid("Missing " + FIELD_TRADE_NO);
+        }
+        return new LedgerEntry(sequence, offset, tradeNo, status, amount, null);
+    }
+
+    /**
+     * Build an entry for a line that cannot be reconciled
+     * 
+     * @param error Reason
+     * @return invalid ledger entry
+     */
+    private LedgerEntry invalid(String error) {
+        return new LedgerEntry(sequence, offset, null, null, null, error);
+    }
+
+    /**
+     * Read one line as UTF-8, advancing the byte offset past its terminator
+     * 
+     * @return line without \n or \r\n, or null at the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    private String readLine() throws IOException {
+        int length = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            offset++;
+            if (b == '\n') {
+                break;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = (byte) b;
+        }
+        if (b == -1 && length == 0) {
+            return null;
+        }
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get a trimmed CSV column
+     * 
+     * @param fields Split line
+     * @param column Column index, -1 if absent
+     * @return value, or null if absent or empty
+     */
+    private static String column(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Get a JSON field as a string
+     * 
+     * @param object JSON line
+     * @param name Field name
+     * @return value, or null if absent or not a primitive
+     */
+    private static String field(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        return value != null && value.isJsonPrimitive() ? value.getAsString().trim() : null;
+    }
+
+    /**
+     * Split a CSV line, honouring double-quoted fields with "" escapes
+     * 
+     * @param text Line without its terminator
+     * @return field values
+     */
+    static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,753 @@
+package com.reelpay.api.reconcile;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.bulk.TaskWindow;
+import com.reelpay.api.money.Money;
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Reconciles a local order ledger against ReelPay
+ * 
+ * The ledger is streamed line by line and each order is looked up with
+ * {@link Transactions#queryOrderInfo(String)}, with a bounded number of lookups in
+ * flight. Status and amount are compared, amounts numerically, so "2.5" matches
+ * "2.50". Every entry that does not match is appended to a CSV diff report in ledger
+ * order. Memory use depends on the concurrency, never on the size of the ledger.
+ * 
+ * Progress is checkpointed every few thousand entries: the ledger offset and report
+ * length up to which everything is done are written atomically to a small file.
+ * Running again with the same checkpoint file after a crash seeks straight to that
+ * point, truncates the half-written tail of the report and carries on. Lookups that
+ * failed are reported as QUERY_FAILED and do not hold the checkpoint back;
+ * {@link #retryFailed(Path, Path, Path)} looks just those entries up again. The
+ * checkpoint is deleted once the whole ledger has been reconciled.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public class Reconciler {
+
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(Reconciler.class);
+    
+    /** Diff report header row */
+    static final String REPORT_HEADER = "entry,trade_no,outcome,local_status,remote_status,local_amount,remote_amount,detail";
+    
+    /** Default maximum number of lookups in flight */
+    public static final int DEFAULT_CONCURRENCY = 8;
+    
+    /** Default number of reconciled entries between checkpoints */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+    
+    /** Default order query field compared with the ledger amount */
+    public static final String DEFAULT_AMOUNT_FIELD = "fiat_amount";
+    
+    /** Minimum number of entries that may complete ahead of the oldest unfinished one */
+    private static final int MIN_REORDER_WINDOW = 1024;
+    
+    /** Client used for the lookups */
+    private final Transactions transactions;
+    
+    /** Executor running the blocking lookups */
+    private final Executor executor;
+    
+    /** Maximum number of lookups in flight */
+    private int concurrency = DEFAULT_CONCURRENCY;
+    
+    /** Reconciled entries between checkpoints */
+    private int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+    
+    /** Order query field compared with the ledger amount */
+    private String amountField = DEFAULT_AMOUNT_FIELD;
+    
+    /** Ledger format, or null to choose by file name */
+    private LedgerFormat ledgerFormat;
+
+    /**
+     * Constructor using the shared blocking I/O executor
+     * 
+     * @param transactions Client used for the lookups
+     */
+    public Reconciler(Transactions transactions) {
+        this(transactions, TaskExecutors.blockingIo());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param transactions Client used for the lookups
+     * @param executor Executor running the blocking lookups
+     */
+    public Reconciler(Transactions transactions, Executor executor) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.transactions = transactions;
+        this.executor = executor;
+    }
+
+    /**
+     * Set the maximum number of lookups in flight
+     * 
+     * @param concurrency Concurrency limit
+     * @return this reconciler
+     */
+    public Reconciler setConcurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Set how often progress is checkpointed
+     * 
+     * @param checkpointInterval Reconciled entries between checkpoints
+     * @return this reconciler
+     */
+    public Reconciler setCheckpointInterval(int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpointInterval = checkpointInterval;
+        return this;
+    }
+
+    /**
+     * Set the order query field compared with the ledger amount
+     * 
+     * @param amountField Field of the response's data object, "fiat_amount" by default
+     * @return this reconciler
+     */
+    public Reconciler setAmountField(String amountField) {
+        if (amountField == null || amountField.isEmpty()) {
+            throw new IllegalArgumentException("Amount field cannot be empty");
+        }
+        this.amountField = amountField;
+        return this;
+    }
+
+    /**
+     * Set the ledger format
+     * 
+     * @param ledgerFormat Ledger format, or null to choose by file name
+     * @return this reconciler
+     */
+    public Reconciler setLedgerFormat(LedgerFormat ledgerFormat) {
+        this.ledgerFormat = ledgerFormat;
+        return this;
+    }
+
+    /**
+     * Reconcile a ledger, resuming from the checkpoint if one exists
+     * 
+     * Lookups run under the caller's Deadline and RequestPriority, BACKGROUND by default.
+     * 
+     * @param ledger Ledger file, CSV with a header row or JSON lines, with trade_no, status and amount
+     * @param report Diff report, replaced on a fresh run and continued on a resumed one
+     * @param checkpoint Checkpoint file, deleted when the run completes
+     * @return totals of the run
+     * @throws IOException if a file cannot be read or written, or the checkpoint belongs to another ledger
+     * @throws RuntimeException if interrupted
+     */
+    public ReconciliationSummary run(Path ledger, Path report, Path checkpoint) throws IOException {
+        if (ledger == null || report == null || checkpoint == null) {
+            throw new IllegalArgumentException("Ledger, report and checkpoint cannot be null");
+        }
+        return run(ledger, ledgerFormat != null ? ledgerFormat : LedgerFormat.forFile(ledger), report, checkpoint);
+    }
+
+    /**
+     * Reconcile a ledger in a known format, resuming from the checkpoint if one exists
+     * 
+     * @param ledger Ledger file
+     * @param format Ledger format
+     * @param report Diff report
+     * @param checkpoint Checkpoint file
+     * @return totals of the run
+     * @throws IOException if a file cannot be read or written, or the checkpoint belongs to another ledger
+     */
+    private ReconciliationSummary run(Path ledger, LedgerFormat format, Path report, Path checkpoint) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = readCheckpoint(checkpoint, ledger);
+        long resumedFrom = progress != null ? progress.sequence : 0;
+        if (progress != null) {
+            logger.info("Resuming reconciliation of {} after entry {}", ledger, progress.sequence);
+        }
+        
+        try (LedgerReader reader = new LedgerReader(ledger, format,
+                progress != null ? progress.ledgerOffset : 0, resumedFrom);
+             FileChannel reportChannel = FileChannel.open(report, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            Run run = new Run(ledger.toAbsolutePath().toString(), checkpoint, reportChannel, progress,
+                    Math.max(MIN_REORDER_WINDOW, concurrency * 64));
+            reconcile(reader, run);
+            
+            Files.deleteIfExists(checkpoint);
+            ReconciliationSummary summary = new ReconciliationSummary(run.counts, resumedFrom,
+                    (System.nanoTime() - start) / 1_000_000);
+            logger.info("Reconciled {}: {}", ledger, summary);
+            return summary;
+        }
+    }
+
+    /**
+     * Look up again the entries of a diff report whose lookup failed
+     * 
+     * The QUERY_FAILED rows of the report are copied, with their local status and
+     * amount, to a CSV ledger next to the retry report, which is then reconciled like
+     * any other ledger. The entry column of the retry report numbers the retried rows,
+     * not the original ledger lines; trade_no identifies the order. An interrupted
+     * retry resumes from its checkpoint with the same ledger, which is deleted once the
+     * retry completes.
+     * 
+     * @param report Diff report of an earlier run
+     * @param retryReport Diff report of the retried entries
+     * @param checkpoint Checkpoint file of the retry, deleted when it completes
+     * @return totals of the retry
+     * @throws IOException if a file cannot be read or written
+     * @throws RuntimeException if interrupted
+     */
+    public ReconciliationSummary retryFailed(Path report, Path retryReport, Path checkpoint) throws IOException {
+        if (report == null || retryReport == null || checkpoint == null) {
+            throw new IllegalArgumentException("Report, retry report and checkpoint cannot be null");
+        }
+        Path failed = retryReport.resolveSibling(retryReport.getFileName() + ".ledger.csv");
+        if (!Files.exists(checkpoint) || !Files.exists(failed)) {
+            long count = extractFailed(report, failed);
+            logger.info("Retrying {} failed lookups from {}", count, report);
+        }
+        
+        ReconciliationSummary summary = run(failed, LedgerFormat.CSV, retryReport, checkpoint);
+        Files.deleteIfExists(failed);
+        return summary;
+    }
+
+    /**
+     * Copy the QUERY_FAILED rows of a diff report to a CSV ledger
+     * 
+     * @param report Diff report
+     * @param ledger Ledger to write, with trade_no, status and amount columns
+     * @return number of rows copied
+     * @throws IOException if a file cannot be read or written, or the report has an unexpected header
+     */
+    private static long extractFailed(Path report, Path ledger) throws IOException {
+        long count = 0;
+        try (BufferedReader in = Files.newBufferedReader(report, StandardCharsets.UTF_8);
+             BufferedWriter out = Files.newBufferedWriter(ledger, StandardCharsets.UTF_8)) {
+            String header = in.readLine();
+            if (!REPORT_HEADER.equals(header)) {
+                throw new IOException("Not a reconciliation report: " + report);
+            }
+            out.write(LedgerReader.FIELD_TRADE_NO + "," + LedgerReader.FIELD_STATUS + "," + LedgerReader.FIELD_AMOUNT + "\n");
+            StringBuilder line = new StringBuilder(64);
+            String text;
+            while ((text = in.readLine()) != null) {
+                List<String> fields = LedgerReader.splitCsv(text);
+                if (fields.size() < 6 || !ReconciliationOutcome.QUERY_FAILED.name().equals(fields.get(2))) {
+                    continue;
+                }
+                line.setLength(0);
+                appendField(line, fields.get(1));
+                appendField(line, fields.get(3));
+                appendField(line, fields.get(5));
+                line.append('\n');
+                // Skip the comma appendField puts before the first field
+                out.append(line, 1, line.length());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Feed ledger entries to the lookups and wait until every one has been committed
+     * 
+     * @param reader Ledger reader positioned after the last committed entry
+     * @param run State of the run
+     * @throws IOException if the ledger, report or checkpoint fails
+     */
+    private void reconcile(LedgerReader reader, Run run) throws IOException {
+        TaskWindow window = new TaskWindow(executor, concurrency);
+        
+        try {
+            long read = run.committed;
+            while (true) {
+                window.acquire();
+                // Do not run further ahead of the oldest unfinished entry than the ring can hold
+                if (!run.awaitRoom(read + 1)) {
+                    window.release();
+                    break;
+                }
+                LedgerEntry entry = reader.next();
+                if (entry == null) {
+                    window.release();
+                    break;
+                }
+                read = entry.getSequence();
+                
+                if (entry.getError() != null) {
+                    run.complete(entry, ReconciliationOutcome.INVALID_ENTRY,
+                            row(entry, ReconciliationOutcome.INVALID_ENTRY, null, null, entry.getError()));
+                    window.release();
+                    continue;
+                }
+                window.execute(() -> {
+                    try {
+                        check(entry, run);
+                    } catch (RuntimeException e) {
+                        // Every entry must be committed, or the ring would stall
+                        logger.error("Reconciliation of {} failed: {}", entry.getTradeNo(), e.getMessage(), e);
+                        run.complete(entry, ReconciliationOutcome.QUERY_FAILED,
+                                row(entry, ReconciliationOutcome.QUERY_FAILED, null, null, e.getMessage()));
+                    }
+                });
+            }
+            
+            // Wait for the lookups still in flight
+            window.awaitIdle();
+        
+        } catch (InterruptedException e) {
+            // Checkpoint first: the report channel would be closed by a pending interrupt
+            run.abandon();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Reconciliation interrupted", e);
+        }
+        run.finish();
+    }
+
+    /**
+     * Look up one order, compare it with the ledger and commit the outcome
+     * 
+     * @param entry Ledger entry with a trade number
+     * @param run State of the run
+     */
+    private void check(LedgerEntry entry, Run run) {
+        JsonObject response;
+        try {
+            response = transactions.queryOrderInfo(entry.getTradeNo());
+        } catch (RuntimeException e) {
+            logger.debug("Lookup of {} failed: {}", entry.getTradeNo(), e.getMessage());
+            run.complete(entry, ReconciliationOutcome.QUERY_FAILED,
+                    row(entry, ReconciliationOutcome.QUERY_FAILED, null, null, e.getMessage()));
+            return;
+        }
+        
+        JsonElement data = response.get("data");
+        if (data == null || !data.isJsonObject()) {
+            String message = string(response, "message");
+            run.complete(entry, ReconciliationOutcome.MISSING, row(entry, ReconciliationOutcome.MISSING, null, null,
+                    message != null ? message : string(response, "msg")));
+            return;
+        }
+        
+        String remoteStatus = string(data.getAsJsonObject(), "status");
+        String remoteAmount = string(data.getAsJsonObject(), amountField);
+        boolean statusMatches = entry.getStatus() == null || entry.getStatus().equals(remoteStatus);
+        boolean amountMatches = entry.getAmount() == null || sameAmount(entry.getAmount(), remoteAmount);
+        
+        ReconciliationOutcome outcome;
+        if (statusMatches && amountMatches) {
+            outcome = ReconciliationOutcome.MATCHED;
+        } else if (amountMatches) {
+            outcome = ReconciliationOutcome.STATUS_MISMATCH;
+        } else if (statusMatches) {
+            outcome = ReconciliationOutcome.AMOUNT_MISMATCH;
+        } else {
+            outcome = ReconciliationOutcome.STATUS_AND_AMOUNT_MISMATCH;
+        }
+        run.complete(entry, outcome, outcome == ReconciliationOutcome.MATCHED ? null
+                : row(entry, outcome, remoteStatus, remoteAmount, null));
+    }
+
+    /**
+     * Compare two decimal amounts by value, falling back to text when either is not a number
+     * 
+     * @param local Ledger amount
+     * @param remote ReelPay amount, may be null
+     * @return true if the amounts are equal
+     */
+    private static boolean sameAmount(String local, String remote) {
+        if (remote == null) {
+            return false;
+        }
+        try {
+            return Money.parse(local).compareTo(Money.parse(remote)) == 0;
+        } catch (RuntimeException e) {
+            return local.equals(remote);
+        }
+    }
+
+    /**
+     * Get a primitive field as a string
+     * 
+     * @param object JSON object
+     * @param name Field name
+     * @return value, or null if absent or not a primitive
+     */
+    private static String string(JsonObject object, String name) {
+        JsonElement value = object.get(name);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
+
+    /**
+     * Format one diff report row
+     * 
+     * @param entry Ledger entry
+     * @param outcome Reconciliation outcome
+     * @param remoteStatus ReelPay status, may be null
+     * @param remoteAmount ReelPay amount, may be null
+     * @param detail Error message, may be null
+     * @return CSV row with line terminator
+     */
+    private static String row(LedgerEntry entry, ReconciliationOutcome outcome, String remoteStatus,
+                              String remoteAmount, String detail) {
+        StringBuilder row = new StringBuilder(96).append(entry.getSequence());
+        appendField(row, entry.getTradeNo());
+        appendField(row, outcome.name());
+        appendField(row, entry.getStatus());
+        appendField(row, remoteStatus);
+        appendField(row, entry.getAmount());
+        appendField(row, remoteAmount);
+        appendField(row, detail);
+        return row.append('\n').toString();
+    }
+
+    /**
+     * Append a comma and a CSV field, quoting it when needed
+     * 
+     * @param row Row being built
+     * @param value Field value, may be null
+     */
+    private static void appendField(StringBuilder row, String value) {
+        row.append(',');
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            row.append(value);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c == '\n' || c == '\r' ? ' ' : c);
+        }
+        row.append('"');
+    }
+
+    /**
+     * Read the checkpoint of an interrupted run
+     * 
+     * @param checkpoint Checkpoint file
+     * @param ledger Ledger file being reconciled
+     * @return saved progress, or null if there is no checkpoint
+     * @throws IOException if the checkpoint is unreadable or belongs to another ledger
+     */
+    private static Progress readCheckpoint(Path checkpoint, Path ledger) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return null;
+        }
+        JsonObject saved;
+        try {
+            saved = JsonParser.parseString(new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8)).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Corrupt reconciliation checkpoint " + checkpoint, e);
+        }
+        String savedLedger = saved.get("ledger").getAsString();
+        if (!savedLedger.equals(ledger.toAbsolutePath().toString())) {
+            throw new IOException("Checkpoint " + checkpoint + " belongs to ledger " + savedLedger);
+        }
+        
+        long[] counts = new long[ReconciliationOutcome.values().length];
+        JsonObject savedCounts = saved.getAsJsonObject("counts");
+        for (ReconciliationOutcome outcome : ReconciliationOutcome.values()) {
+            JsonElement count = savedCounts.get(outcome.name());
+            counts[outcome.ordinal()] = count != null ? count.getAsLong() : 0;
+        }
+        return new Progress(saved.get("sequence").getAsLong(), saved.get("ledgerOffset").getAsLong(),
+                saved.get("reportOffset").getAsLong(), counts);
+    }
+
+    /**
+     * Progress saved in a checkpoint
+     */
+    private static final class Progress {
+
+        /** Last committed entry */
+        final long sequence;
+        
+        /** Ledger byte offset just past that entry */
+        final long ledgerOffset;
+        
+        /** Report length including that entry's row */
+        final long reportOffset;
+        
+        /** Entry counts by outcome ordinal */
+        final long[] counts;
+        
+        Progress(long sequence, long ledgerOffset, long reportOffset, long[] counts) {
+            this.sequence = sequence;
+            this.ledgerOffset = ledgerOffset;
+            this.reportOffset = reportOffset;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * State of one run: the reorder ring, the report and the checkpoint
+     * 
+     * Lookups finish in any order. Each outcome waits in a ring slot until every
+     * earlier entry has finished, then it is committed: counted and, unless it
+     * matched, written to the report. A checkpoint records a committed prefix, so a
+     * resumed run neither skips nor repeats a row.
+     */
+    private final class Run {
+
+        /** Absolute ledger path recorded in the checkpoint */
+        private final String ledger;
+        
+        /** Checkpoint file */
+        private final Path checkpoint;
+        
+        /** Report file */
+        private final FileChannel reportChannel;
+        
+        /** Buffered report output */
+        private final OutputStream report;
+        
+        /** Whether each ring slot holds a finished entry */
+        private final boolean[] finished;
+        
+        /** Outcome per ring slot */
+        private final ReconciliationOutcome[] outcomes;
+        
+        /** Report row per ring slot, null for a match */
+        private final String[] rows;
+        
+        /** Ledger offset just past the entry per ring slot */
+        private final long[] offsets;
+        
+        /** Entry counts by outcome ordinal */
+        private final long[] counts;
+        
+        /** Last committed entry */
+        private long committed;
+        
+        /** Ledger offset just past the last committed entry */
+        private long ledgerOffset;
+        
+        /** Report length including the last committed row */
+        private long reportOffset;
+        
+        /** Entries committed since the last checkpoint */
+        private int sinceCheckpoint;
+        
+        /** First report or checkpoint failure */
+        private IOException failure;
+        
+        /** Whether late completions must be ignored */
+        private boolean closed;
+        
+        /**
+         * Constructor
+         * 
+         * @param ledger Absolute ledger path
+         * @param checkpoint Checkpoint file
+         * @param reportChannel Report file, open for writing
+         * @param progress Saved progress, or null for a fresh run
+         * @param ring Number of entries that may finish ahead of the oldest unfinished one
+         * @throws IOException if the report cannot be prepared
+         */
+        Run(String ledger, Path checkpoint, FileChannel reportChannel, Progress progress, int ring) throws IOException {
+            this.ledger = ledger;
+            this.checkpoint = checkpoint;
+            this.reportChannel = reportChannel;
+            this.finished = new boolean[ring];
+            this.outcomes = new ReconciliationOutcome[ring];
+            this.rows = new String[ring];
+            this.offsets = new long[ring];
+            
+            if (progress != null) {
+                if (reportChannel.size() < progress.reportOffset) {
+                    throw new IOException("Report is shorter than its checkpoint (" + reportChannel.size()
+                            + " < " + progress.reportOffset + " bytes)");
+                }
+                // Drop rows written after the checkpoint; they are reconciled again
+                reportChannel.truncate(progress.reportOffset);
+                reportChannel.position(progress.reportOffset);
+                this.counts = progress.counts.clone();
+                this.committed = progress.sequence;
+                this.ledgerOffset = progress.ledgerOffset;
+                this.reportOffset = progress.reportOffset;
+                this.report = new BufferedOutputStream(Channels.newOutputStream(reportChannel), 64 * 1024);
+            } else {
+                reportChannel.truncate(0);
+                this.counts = new long[ReconciliationOutcome.values().length];
+                this.report = new BufferedOutputStream(Channels.newOutputStream(reportChannel), 64 * 1024);
+                write(REPORT_HEADER + "\n");
+            }
+        }
+        
+        /**
+         * Wait until an entry fits in the reorder ring
+         * 
+         * @param sequence Entry about to be read
+         * @return true to go on, false if the run has failed
+         * @throws InterruptedException if interrupted while waiting
+         */
+        synchronized boolean awaitRoom(long sequence) throws InterruptedException {
+            while (failure == null && sequence - committed > finished.length) {
+                wait();
+            }
+            return failure == null;
+        }
+        
+        /**
+         * Record the outcome of an entry and commit every entry that is now in order
+         * 
+         * @param entry Ledger entry
+         * @param outcome Reconciliation outcome
+         * @param row Report row, or null for a match
+         */
+        synchronized void complete(LedgerEntry entry, ReconciliationOutcome outcome, String row) {
+            if (closed) {
+                return;
+            }
+            int slot = slot(entry.getSequence());
+            finished[slot] = true;
+            outcomes[slot] = outcome;
+            rows[slot] = row;
+            offsets[slot] = entry.getEndOffset();
+            
+            try {
+                for (int next = slot(committed + 1); finished[next]; next = slot(committed + 1)) {
+                    counts[outcomes[next].ordinal()]++;
+                    if (rows[next] != null) {
+                        write(rows[next]);
+                    }
+                    ledgerOffset = offsets[next];
+                    finished[next] = false;
+                    outcomes[next] = null;
+                    rows[next] = null;
+                    committed++;
+                    if (++sinceCheckpoint >= checkpointInterval) {
+                        saveCheckpoint();
+                    }
+                }
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                closed = true;
+            }
+            notifyAll();
+        }
+        
+        /**
+         * Flush the report, or rethrow the failure that stopped the run
+         * 
+         * @throws IOException if the run failed or the report cannot be flushed
+         */
+        synchronized void finish() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            closed = true;
+            report.flush();
+            reportChannel.force(false);
+        }
+        
+        /**
+         * Checkpoint what has been committed and ignore lookups that finish later
+         */
+        synchronized void abandon() {
+            if (!closed && failure == null) {
+                try {
+                    saveCheckpoint();
+                } catch (IOException e) {
+                    logger.error("Failed to checkpoint reconciliation: {}", e.getMessage(), e);
+                }
+            }
+            closed = true;
+        }
+        
+        /**
+         * Make the committed report durable, then atomically replace the checkpoint
+         * 
+         * @throws IOException if the report or checkpoint cannot be written
+         */
+        private void saveCheckpoint() throws IOException {
+            report.flush();
+            reportChannel.force(false);
+            
+            JsonObject saved = new JsonObject();
+            saved.addProperty("ledger", ledger);
+            saved.addProperty("sequence", committed);
+            saved.addProperty("ledgerOffset", ledgerOffset);
+            saved.addProperty("reportOffset", reportOffset);
+            JsonObject savedCounts = new JsonObject();
+            for (ReconciliationOutcome outcome : ReconciliationOutcome.values()) {
+                savedCounts.addProperty(outcome.name(), counts[outcome.ordinal()]);
+            }
+            saved.add("counts", savedCounts);
+            
+            Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                out.write(saved.toString());
+            }
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            sinceCheckpoint = 0;
+            logger.debug("Reconciliation checkpoint at entry {}", committed);
+        }
+        
+        /**
+         * Append text to the report, tracking its length in bytes
+         * 
+         * @param text Text to write
+         * @throws IOException if writing fails
+         */
+        private void write(String text) throws IOException {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            report.write(bytes);
+            reportOffset += bytes.length;
+        }
+        
+        /**
+         * Map an entry to its ring slot
+         * 
+         * @param sequence Entry sequence number
+         * @return slot index
+         */
+        private int slot(long sequence) {
+            return (int) (sequence % finished.length);
+        }
+    }
+}
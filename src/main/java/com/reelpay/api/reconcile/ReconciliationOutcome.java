@@ -0,0 +1,33 @@
+package com.reelpay.api.reconcile;
+
+/**
+ * Result of reconciling one ledger entry against ReelPay
+ * 
+ * Every outcome except MATCHED is written to the diff report.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum ReconciliationOutcome {
+
+    /** Status and amount agree */
+    MATCHED,
+
+    /** Status differs */
+    STATUS_MISMATCH,
+
+    /** Amount differs */
+    AMOUNT_MISMATCH,
+
+    /** Status and amount both differ */
+    STATUS_AND_AMOUNT_MISMATCH,
+
+    /** ReelPay answered without order data */
+    MISSING,
+
+    /** The query failed, e.g. a network error; rerun to retry */
+    QUERY_FAILED,
+
+    /** The ledger line could not be read or has no trade number */
+    INVALID_ENTRY
+}
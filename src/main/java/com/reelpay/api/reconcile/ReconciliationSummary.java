@@ -0,0 +1,94 @@
+package com.reelpay.api.reconcile;
+
+/**
+ * Totals of a reconciliation run
+ * 
+ * A resumed run includes the entries reconciled before the restart.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class ReconciliationSummary {
+
+    /** Entry counts by outcome ordinal */
+    private final long[] counts;
+    
+    /** Entries already reconciled when the run started */
+    private final long resumedFrom;
+    
+    /** Wall time of this run in milliseconds */
+    private final long elapsedMillis;
+
+    /**
+     * Constructor
+     * 
+     * @param counts Entry counts by outcome ordinal
+     * @param resumedFrom Entries already reconciled when the run started
+     * @param elapsedMillis Wall time of this run in milliseconds
+     */
+    ReconciliationSummary(long[] counts, long resumedFrom, long elapsedMillis) {
+        this.counts = counts.clone();
+        this.resumedFrom = resumedFrom;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Get the number of entries with an outcome
+     * 
+     * @param outcome Reconciliation outcome
+     * @return entry count
+     */
+    public long getCount(ReconciliationOutcome outcome) {
+        return counts[outcome.ordinal()];
+    }
+
+    /**
+     * Get the number of entries reconciled
+     * 
+     * @return entry count
+     */
+    public long getEntries() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Get the number of entries written to the diff report
+     * 
+     * @return entries that did not match
+     */
+    public long getDiscrepancies() {
+        return getEntries() - getCount(ReconciliationOutcome.MATCHED);
+    }
+
+    /**
+     * Get the number of entries reconciled by an earlier, interrupted run
+     * 
+     * @return entries skipped on resume, 0 for a fresh run
+     */
+    public long getResumedFrom() {
+        return resumedFrom;
+    }
+
+    /**
+     * Get the wall time of this run
+     * 
+     * @return elapsed milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ReconciliationSummary{entries=").append(getEntries());
+        for (ReconciliationOutcome outcome : ReconciliationOutcome.values()) {
+            builder.append(", ").append(outcome).append('=').append(counts[outcome.ordinal()]);
+        }
+        return builder.append(", resumedFrom=").append(resumedFrom)
+                .append(", elapsedMillis=").append(elapsedMillis).append('}').toString();
+    }
+}
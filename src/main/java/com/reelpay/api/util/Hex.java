@@ -0,0 +1,37 @@
+package com.reelpay.api.util;
+
+/**
+ * Lowercase hexadecimal encoding
+ * 
+ * Java 8 implementation using a lookup table. On Java 17+ the multi-release JAR
+ * replaces this class with one backed by java.util.HexFormat.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class Hex {
+
+    /** Lowercase hexadecimal digits */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    // Private constructor to prevent instantiation
+    private Hex() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Encode bytes as a lowercase hexadecimal string
+     * 
+     * @param bytes Bytes to encode
+     * @return Hexadecimal string, two characters per byte
+     */
+    public static String encode(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            chars[j++] = DIGITS[b >>> 4];
+            chars[j++] = DIGITS[b & 0x0F];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,148 @@
+package com.reelpay.api.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Reusable HMAC signer bound to a single key
+ * 
+ * The provider lookup and key schedule are done once when the signer is created.
+ * Each signature works on a clone of the initialized prototype, so a signer can be
+ * shared freely between threads. Providers that do not support cloning fall back
+ * to a fresh Mac per signature.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class HmacSigner {
+
+    /** HMAC algorithm name */
+    private final String algorithm;
+    
+    /** Secret key specification */
+    private final SecretKeySpec keySpec;
+    
+    /** Initialized Mac used only as a clone source, never updated */
+    private final Mac prototype;
+    
+    /** Whether the provider supports cloning initialized Mac instances */
+    private final boolean cloneable;
+
+    /**
+     * Constructor
+     * 
+     * @param key Secret key
+     * @param algorithm HMAC algorithm (see HmacUtil constants)
+     * @throws IllegalArgumentException if key or algorithm are invalid
+     */
+    public HmacSigner(String key, String algorithm) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        if (algorithm == null || algorithm.trim().isEmpty()) {
+            throw new IllegalArgumentException("Algorithm cannot be null or empty");
+        }
+        this.algorithm = algorithm;
+        this.keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), algorithm);
+        this.prototype = newMac();
+        this.cloneable = isCloneable(prototype);
+    }
+
+    /**
+     * Create an HMAC-SHA256 signer, the algorithm used by the ReelPay API
+     * 
+     * @param key Secret key
+     * @return HmacSigner instance
+     */
+    public static HmacSigner sha256(String key) {
+        return new HmacSigner(key, HmacUtil.HMAC_SHA256);
+    }
+
+    /**
+     * Get the HMAC algorithm name
+     * 
+     * @return algorithm name
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sign the UTF-8 bytes of the input
+     * 
+     * @param input Input string to sign
+     * @return Lowercase hexadecimal signature
+     */
+    public String sign(String input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        return sign(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sign a byte array
+     * 
+     * @param input Bytes to sign
+     * @return Lowercase hexadecimal signature
+     */
+    public String sign(byte[] input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        return HmacUtil.bytesToHexString(mac().doFinal(input));
+    }
+
+    /**
+     * Get a ready-to-use Mac for incremental signing
+     * 
+     * The returned instance is owned by the caller and must not be shared.
+     * 
+     * @return initialized Mac instance
+     */
+    public Mac mac() {
+        if (cloneable) {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                // Not expected once the probe succeeded; fall through to a fresh instance
+            }
+        }
+        return newMac();
+    }
+
+    /**
+     * Create and initialize a new Mac instance
+     * 
+     * @return initialized Mac instance
+     */
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(keySpec);
+            return mac;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unsupported HMAC algorithm: " + algorithm, e);
+        } catch (InvalidKeyException e) {
+            throw new RuntimeException("Invalid key for HMAC encryption", e);
+        }
+    }
+
+    /**
+     * Probe whether the provider's Mac can be cloned
+     * 
+     * @param mac initialized Mac instance
+     * @return true if cloning is supported
+     */
+    private static boolean isCloneable(Mac mac) {
+        try {
+            mac.clone();
+            return true;
+        } catch (CloneNotSupportedException e) {
+            return false;
+        }
+    }
+}
@@ -79,15 +79,7 @@ public class HmacUtil {
             throw new IllegalArgumentException("Byte array cannot be null");
         }
         
-        StringBuilder hexString = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(b & 0xFF);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
+        return Hex.encode(bytes);
     }
 
     /**
@@ -0,0 +1,180 @@
+package com.reelpay.api.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram over a sliding window
+ * 
+ * Latencies are recorded in microseconds into log-linear buckets (eight per
+ * power of two, so percentiles are accurate to within 12.5%). Two windows are
+ * kept: percentiles cover the current and the previous window, so old samples
+ * age out while there is always at least one full window of data.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class LatencyHistogram {
+
+    /** Values below this are counted exactly */
+    private static final int LINEAR_BUCKETS = 16;
+    
+    /** Sub-buckets per power of two above the linear range, as a shift */
+    private static final int SUB_BUCKET_BITS = 3;
+    
+    /** Number of buckets, enough for any long value */
+    private static final int BUCKETS = LINEAR_BUCKETS + (64 - 4) * (1 << SUB_BUCKET_BITS);
+    
+    /** Window length */
+    private final long windowNanos;
+    
+    /** Current window */
+    private volatile Window current;
+    
+    /** Previous window, or null */
+    private volatile Window previous;
+
+    /**
+     * Constructor
+     * 
+     * @param window Window length
+     * @param unit Unit of window
+     */
+    public LatencyHistogram(long window, TimeUnit unit) {
+        if (window <= 0 || unit == null) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.windowNanos = unit.toNanos(window);
+        this.current = new Window(System.nanoTime());
+    }
+
+    /**
+     * Record one latency
+     * 
+     * @param nanos Latency in nanoseconds
+     */
+    public void record(long nanos) {
+        Window window = window(System.nanoTime());
+        window.counts.incrementAndGet(bucketOf(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos))));
+        window.total.increment();
+    }
+
+    /**
+     * Get the number of samples in the current and previous window
+     * 
+     * @return sample count
+     */
+    public long count() {
+        Window window = window(System.nanoTime());
+        Window older = previous;
+        return window.total.sum() + (older != null ? older.total.sum() : 0L);
+    }
+
+    /**
+     * Get a latency percentile
+     * 
+     * @param percentile Percentile between 0 and 1, e.g. 0.99
+     * @return upper bound of the percentile in microseconds, or -1 without samples
+     */
+    public long percentileMicros(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be in (0, 1]");
+        }
+        Window window = window(System.nanoTime());
+        Window older = previous;
+        
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = window.counts.get(i) + (older != null ? older.counts.get(i) : 0L);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return -1L;
+        }
+        
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Get the current window, rotating it once it is older than the window length
+     * 
+     * @param now Current System.nanoTime()
+     * @return current window
+     */
+    private Window window(long now) {
+        Window window = current;
+        if (now - window.startNanos < windowNanos) {
+            return window;
+        }
+        synchronized (this) {
+            window = current;
+            if (now - window.startNanos >= windowNanos) {
+                // A window that ended long ago carries no recent data
+                previous = now - window.startNanos < 2 * windowNanos ? window : null;
+                window = new Window(now);
+                current = window;
+            }
+            return window;
+        }
+    }
+
+    /**
+     * Map a value to its bucket
+     * 
+     * @param micros Value in microseconds
+     * @return bucket index
+     */
+    static int bucketOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return LINEAR_BUCKETS + ((exponent - 4) << SUB_BUCKET_BITS) + sub;
+    }
+
+    /**
+     * Get the largest value that maps to a bucket
+     * 
+     * @param bucket Bucket index
+     * @return upper bound in microseconds
+     */
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int exponent = ((bucket - LINEAR_BUCKETS) >> SUB_BUCKET_BITS) + 4;
+        long sub = (bucket - LINEAR_BUCKETS) & ((1 << SUB_BUCKET_BITS) - 1);
+        long lower = (1L << exponent) + (sub << (exponent - SUB_BUCKET_BITS));
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * Bucket counts for one window
+     */
+    private static final class Window {
+
+        /** Window start on the System.nanoTime() clock */
+        private final long startNanos;
+        
+        /** Sample count per bucket */
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        
+        /** Total sample count */
+        private final LongAdder total = new LongAdder();
+        
+        Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.reelpay.api.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token bucket rate limiter
+ * 
+ * Permits are issued at a steady rate with a burst allowance of one second's
+ * worth of permits. A single limiter may be shared by several clients to cap
+ * their combined request rate.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class RateLimiter {
+
+    /** Nanoseconds between permits */
+    private final long intervalNanos;
+    
+    /** Maximum credit that can be accumulated while idle, in nanoseconds */
+    private final long burstNanos;
+    
+    /** Time at which the next permit becomes free */
+    private long nextFreeNanos;
+
+    /**
+     * Constructor
+     * 
+     * @param permitsPerSecond Sustained permit rate, must be positive
+     */
+    public RateLimiter(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Permits per second must be positive");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * Math.max(1L, (long) permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime() - burstNanos;
+    }
+
+    /**
+     * Get the sustained permit rate
+     * 
+     * @return permits per second
+     */
+    public double getPermitsPerSecond() {
+        return (double) TimeUnit.SECONDS.toNanos(1) / intervalNanos;
+    }
+
+    /**
+     * Take one permit, waiting until it is available
+     * 
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos < now - burstNanos) {
+                nextFreeNanos = now - burstNanos;
+            }
+            nextFreeNanos += intervalNanos;
+            waitNanos = nextFreeNanos - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reelpay.api.util;
+
+/**
+ * Flight recorder events emitted by the SDK
+ * 
+ * Java 8 implementation: every method is a no-op and begin methods return null. On
+ * Java 11+ the multi-release JAR replaces this class with one that emits JDK Flight
+ * Recorder events, which stay disabled until a recording enables them (see reelpay.jfc).
+ * 
+ * Call sites pass the token returned by a begin method to the matching end method;
+ * a null token means the event is disabled and nothing is recorded.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class SdkEvents {
+
+    /** Signature operation: signing a request */
+    public static final String OPERATION_SIGN = "sign";
+    
+    /** Signature operation: validating a callback signature */
+    public static final String OPERATION_VERIFY = "verify";
+    
+    /** Callback outcome: verified with the primary key */
+    public static final String OUTCOME_VERIFIED = "VERIFIED";
+    
+    /** Callback outcome: verified with the secondary key during a rotation */
+    public static final String OUTCOME_VERIFIED_SECONDARY = "VERIFIED_SECONDARY";
+    
+    /** Callback outcome: a required header was missing */
+    public static final String OUTCOME_MISSING_HEADERS = "MISSING_HEADERS";
+    
+    /** Callback outcome: the app ID header did not name a known application */
+    public static final String OUTCOME_UNKNOWN_APP_ID = "UNKNOWN_APP_ID";
+    
+    /** Callback outcome: the signature did not match */
+    public static final String OUTCOME_BAD_SIGNATURE = "BAD_SIGNATURE";
+    
+    /** Callback outcome: verification failed with an exception */
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    // Private constructor to prevent instantiation
+    private SdkEvents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Start timing an HTTP exchange with the API
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginHttpExchange() {
+        return null;
+    }
+
+    /**
+     * Record an HTTP exchange once its response is closed or it failed
+     * 
+     * @param event Token from {@link #beginHttpExchange()}
+     * @param endpoint API endpoint path
+     * @param url Full request URL
+     * @param status HTTP status code, or 0 if no response arrived
+     * @param requestBytes Request body size on the wire
+     * @param responseBytes Response body bytes read, after content decoding
+     */
+    public static void endHttpExchange(Object event, String endpoint, String url, int status, long requestBytes,
+                                       long responseBytes) {
+    }
+
+    /**
+     * Start timing an HMAC signature operation
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginSignature() {
+        return null;
+    }
+
+    /**
+     * Record an HMAC signature operation
+     * 
+     * @param event Token from {@link #beginSignature()}
+     * @param operation {@link #OPERATION_SIGN} or {@link #OPERATION_VERIFY}
+     * @param bodyLength Length of the signed body in characters
+     */
+    public static void endSignature(Object event, String operation, int bodyLength) {
+    }
+
+    /**
+     * Start timing a JSON decode
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginJsonDecode() {
+        return null;
+    }
+
+    /**
+     * Record a JSON decode
+     * 
+     * @param event Token from {@link #beginJsonDecode()}
+     * @param source Where the JSON came from, such as the request URL
+     * @param length Length of the JSON text in characters
+     */
+    public static void endJsonDecode(Object event, String source, long length) {
+    }
+
+    /**
+     * Start timing a callback signature verification
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginCallbackVerification() {
+        return null;
+    }
+
+    /**
+     * Record the outcome of a callback signature verification
+     * 
+     * @param event Token from {@link #beginCallbackVerification()}
+     * @param appId App ID from the callback headers, may be null
+     * @param outcome One of the OUTCOME constants
+     */
+    public static void endCallbackVerification(Object event, String appId, String outcome) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.reelpay.api.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for running blocking SDK calls off the caller's thread
+ * 
+ * Java 8 implementation using cached daemon platform threads. On Java 21+ the
+ * multi-release JAR replaces this class with one that uses virtual threads.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class TaskExecutors {
+
+    // Private constructor to prevent instantiation
+    private TaskExecutors() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Get the shared executor for blocking I/O tasks
+     * 
+     * Threads are created on demand and expire when idle. Callers are expected to
+     * bound their own concurrency.
+     * 
+     * @return shared ExecutorService, never shut down
+     */
+    public static ExecutorService blockingIo() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create a new executor for blocking I/O tasks
+     * 
+     * @param namePrefix Prefix for thread names
+     * @return new ExecutorService owned by the caller
+     */
+    public static ExecutorService newBlockingIoExecutor(String namePrefix) {
+        return Executors.newCachedThreadPool(daemonThreadFactory(namePrefix));
+    }
+
+    /**
+     * Check whether blocking tasks run on virtual threads
+     * 
+     * @return false on this runtime
+     */
+    public static boolean usesVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Create a factory for named daemon threads
+     * 
+     * @param namePrefix Prefix for thread names
+     * @return ThreadFactory instance
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Lazy holder for the shared executor
+     */
+    private static final class SharedHolder {
+
+        /** Shared blocking I/O executor */
+        private static final ExecutorService INSTANCE = newBlockingIoExecutor("reelpay-io");
+    }
+}
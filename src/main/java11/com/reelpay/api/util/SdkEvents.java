@@ -0,0 +1,300 @@
+package com.reelpay.api.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder events emitted by the SDK
+ * 
+ * Java 11+ implementation backed by JDK Flight Recorder. The events are disabled by
+ * default and are turned on by a recording that enables them, for example with the
+ * reelpay.jfc settings shipped in the JAR, once extracted to a file. While they are
+ * disabled each begin method costs one flag check and returns null, so nothing is
+ * allocated or timed.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class SdkEvents {
+
+    /** Signature operation: signing a request */
+    public static final String OPERATION_SIGN = "sign";
+    
+    /** Signature operation: validating a callback signature */
+    public static final String OPERATION_VERIFY = "verify";
+    
+    /** Callback outcome: verified with the primary key */
+    public static final String OUTCOME_VERIFIED = "VERIFIED";
+    
+    /** Callback outcome: verified with the secondary key during a rotation */
+    public static final String OUTCOME_VERIFIED_SECONDARY = "VERIFIED_SECONDARY";
+    
+    /** Callback outcome: a required header was missing */
+    public static final String OUTCOME_MISSING_HEADERS = "MISSING_HEADERS";
+    
+    /** Callback outcome: the app ID header did not name a known application */
+    public static final String OUTCOME_UNKNOWN_APP_ID = "UNKNOWN_APP_ID";
+    
+    /** Callback outcome: the signature did not match */
+    public static final String OUTCOME_BAD_SIGNATURE = "BAD_SIGNATURE";
+    
+    /** Callback outcome: verification failed with an exception */
+    public static final String OUTCOME_ERROR = "ERROR";
+    
+    /** Event category shown by JDK Mission Control and jfr print */
+    private static final String CATEGORY = "ReelPay SDK";
+    
+    /** Instances used only to ask whether each event type is enabled */
+    private static final HttpExchangeEvent HTTP_EXCHANGE = new HttpExchangeEvent();
+    private static final SignatureEvent SIGNATURE = new SignatureEvent();
+    private static final JsonDecodeEvent JSON_DECODE = new JsonDecodeEvent();
+    private static final CallbackVerificationEvent CALLBACK_VERIFICATION = new CallbackVerificationEvent();
+
+    // Private constructor to prevent instantiation
+    private SdkEvents() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Start timing an HTTP exchange with the API
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginHttpExchange() {
+        if (!HTTP_EXCHANGE.isEnabled()) {
+            return null;
+        }
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record an HTTP exchange once its response is closed or it failed
+     * 
+     * @param event Token from {@link #beginHttpExchange()}
+     * @param endpoint API endpoint path
+     * @param url Full request URL
+     * @param status HTTP status code, or 0 if no response arrived
+     * @param requestBytes Request body size on the wire
+     * @param responseBytes Response body bytes read, after content decoding
+     */
+    public static void endHttpExchange(Object event, String endpoint, String url, int status, long requestBytes,
+                                       long responseBytes) {
+        if (event == null) {
+            return;
+        }
+        HttpExchangeEvent exchange = (HttpExchangeEvent) event;
+        exchange.end();
+        if (exchange.shouldCommit()) {
+            exchange.endpoint = endpoint;
+            exchange.url = url;
+            exchange.status = status;
+            exchange.requestBytes = requestBytes;
+            exchange.responseBytes = responseBytes;
+            exchange.commit();
+        }
+    }
+
+    /**
+     * Start timing an HMAC signature operation
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginSignature() {
+        if (!SIGNATURE.isEnabled()) {
+            return null;
+        }
+        SignatureEvent event = new SignatureEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record an HMAC signature operation
+     * 
+     * @param event Token from {@link #beginSignature()}
+     * @param operation {@link #OPERATION_SIGN} or {@link #OPERATION_VERIFY}
+     * @param bodyLength Length of the signed body in characters
+     */
+    public static void endSignature(Object event, String operation, int bodyLength) {
+        if (event == null) {
+            return;
+        }
+        SignatureEvent signature = (SignatureEvent) event;
+        signature.end();
+        if (signature.shouldCommit()) {
+            signature.operation = operation;
+            signature.bodyLength = bodyLength;
+            signature.commit();
+        }
+    }
+
+    /**
+     * Start timing a JSON decode
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginJsonDecode() {
+        if (!JSON_DECODE.isEnabled()) {
+            return null;
+        }
+        JsonDecodeEvent event = new JsonDecodeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record a JSON decode
+     * 
+     * @param event Token from {@link #beginJsonDecode()}
+     * @param source Where the JSON came from, such as the request URL
+     * @param length Length of the JSON text in characters
+     */
+    public static void endJsonDecode(Object event, String source, long length) {
+        if (event == null) {
+            return;
+        }
+        JsonDecodeEvent decode = (JsonDecodeEvent) event;
+        decode.end();
+        if (decode.shouldCommit()) {
+            decode.source = source;
+            decode.length = length;
+            decode.commit();
+        }
+    }
+
+    /**
+     * Start timing a callback signature verification
+     * 
+     * @return event token, or null when the event is disabled
+     */
+    public static Object beginCallbackVerification() {
+        if (!CALLBACK_VERIFICATION.isEnabled()) {
+            return null;
+        }
+        CallbackVerificationEvent event = new CallbackVerificationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the outcome of a callback signature verification
+     * 
+     * @param event Token from {@link #beginCallbackVerification()}
+     * @param appId App ID from the callback headers, may be null
+     * @param outcome One of the OUTCOME constants
+     */
+    public static void endCallbackVerification(Object event, String appId, String outcome) {
+        if (event == null) {
+            return;
+        }
+        CallbackVerificationEvent verification = (CallbackVerificationEvent) event;
+        verification.end();
+        if (verification.shouldCommit()) {
+            verification.appId = appId;
+            verification.outcome = outcome;
+            verification.commit();
+        }
+    }
+
+    /**
+     * One HTTP exchange with the API, from sending the request until its response is closed
+     */
+    @Name("com.reelpay.HttpExchange")
+    @Label("HTTP Exchange")
+    @Category(CATEGORY)
+    @Description("Request to the ReelPay API, one event per attempt including failovers and hedges")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class HttpExchangeEvent extends Event {
+
+        /** API endpoint path */
+        @Label("Endpoint")
+        String endpoint;
+        
+        /** Full request URL */
+        @Label("URL")
+        String url;
+        
+        /** HTTP status code, 0 if no response arrived */
+        @Label("Status")
+        int status;
+        
+        /** Request body size on the wire */
+        @Label("Request Bytes")
+        @DataAmount
+        long requestBytes;
+        
+        /** Response body bytes read, after content decoding */
+        @Label("Response Bytes")
+        @DataAmount
+        long responseBytes;
+    }
+
+    /**
+     * One HMAC-SHA256 signature computed by Cover
+     */
+    @Name("com.reelpay.Signature")
+    @Label("Signature")
+    @Category(CATEGORY)
+    @Description("HMAC-SHA256 signing of a request or validation of a callback signature")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class SignatureEvent extends Event {
+
+        /** sign or verify */
+        @Label("Operation")
+        String operation;
+        
+        /** Length of the signed body in characters */
+        @Label("Body Length")
+        int bodyLength;
+    }
+
+    /**
+     * One JSON document decoded by the SDK
+     */
+    @Name("com.reelpay.JsonDecode")
+    @Label("JSON Decode")
+    @Category(CATEGORY)
+    @Description("Parsing of an API response or callback body")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class JsonDecodeEvent extends Event {
+
+        /** Request URL or other origin of the JSON */
+        @Label("Source")
+        String source;
+        
+        /** Length in characters */
+        @Label("Length")
+        long length;
+    }
+
+    /**
+     * One callback signature verification
+     */
+    @Name("com.reelpay.CallbackVerification")
+    @Label("Callback Verification")
+    @Category(CATEGORY)
+    @Description("Verification of a callback's headers and signature, with its outcome")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class CallbackVerificationEvent extends Event {
+
+        /** App ID from the callback headers */
+        @Label("App ID")
+        String appId;
+        
+        /** Verification outcome */
+        @Label("Outcome")
+        String outcome;
+    }
+}
@@ -0,0 +1,32 @@
+package com.reelpay.api.util;
+
+import java.util.HexFormat;
+
+/**
+ * Lowercase hexadecimal encoding
+ * 
+ * Java 17+ implementation backed by java.util.HexFormat.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class Hex {
+
+    /** Shared lowercase formatter, immutable and thread-safe */
+    private static final HexFormat FORMAT = HexFormat.of();
+
+    // Private constructor to prevent instantiation
+    private Hex() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Encode bytes as a lowercase hexadecimal string
+     * 
+     * @param bytes Bytes to encode
+     * @return Hexadecimal string, two characters per byte
+     */
+    public static String encode(byte[] bytes) {
+        return FORMAT.formatHex(bytes);
+    }
+}
@@ -0,0 +1,77 @@
+package com.reelpay.api.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for running blocking SDK calls off the caller's thread
+ * 
+ * Java 21+ implementation: every task gets its own virtual thread, so blocking
+ * HTTP calls no longer pin a platform thread each.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class TaskExecutors {
+
+    // Private constructor to prevent instantiation
+    private TaskExecutors() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Get the shared executor for blocking I/O tasks
+     * 
+     * Callers are expected to bound their own concurrency.
+     * 
+     * @return shared ExecutorService, never shut down
+     */
+    public static ExecutorService blockingIo() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Create a new executor for blocking I/O tasks
+     * 
+     * @param namePrefix Prefix for thread names
+     * @return new ExecutorService owned by the caller
+     */
+    public static ExecutorService newBlockingIoExecutor(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "-", 1).factory());
+    }
+
+    /**
+     * Check whether blocking tasks run on virtual threads
+     * 
+     * @return true on this runtime
+     */
+    public static boolean usesVirtualThreads() {
+        return true;
+    }
+
+    /**
+     * Create a factory for named daemon threads
+     * 
+     * @param namePrefix Prefix for thread names
+     * @return ThreadFactory instance
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Lazy holder for the shared executor
+     */
+    private static final class SharedHolder {
+
+        /** Shared blocking I/O executor */
+        private static final ExecutorService INSTANCE = newBlockingIoExecutor("reelpay-io");
+    }
+}
@@ -0,0 +1,198 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.constants.ReelPayConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Transport based on the JDK java.net.http.HttpClient
+ * 
+ * Uses HTTP/2 where the server supports it, so concurrent requests are
+ * multiplexed over a small number of connections, and native sendAsync for
+ * non-blocking calls. Response bodies are streamed straight into the JSON
+ * decoder. Pass an existing HttpClient to share its executor and connections.
+ * 
+ * Ships in the jdk11 classifier artifact, since java.net.http has no Java 8
+ * counterpart for the multi-release JAR.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class JdkHttpTransport implements Transport {
+
+    /** Default per-request timeout, matching the default transport's read timeout */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    
+    /** Underlying JDK HTTP client */
+    private final HttpClient httpClient;
+
+    /**
+     * Constructor with a new HTTP/2 client using the SDK's standard timeouts
+     */
+    public JdkHttpTransport() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(30))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build());
+    }
+
+    /**
+     * Constructor sharing an existing JDK HTTP client
+     * 
+     * @param httpClient HTTP client to use
+     */
+    public JdkHttpTransport(HttpClient httpClient) {
+        if (httpClient == null) {
+            throw new IllegalArgumentException("HTTP client cannot be null");
+        }
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Get the underlying JDK HTTP client
+     * 
+     * @return HTTP client
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        try {
+            return toTransportResponse(httpClient.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted: " + request.getUrl());
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> executeAsync(TransportRequest request) {
+        CompletableFuture<HttpResponse<InputStream>> call =
+                httpClient.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<TransportResponse> future = call.thenApply(JdkHttpTransport::toTransportResponse);
+        
+        future.whenComplete((response, error) -> {
+            if (future.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Convert a transport request to a JDK HTTP request
+     * 
+     * @param request Transport request
+     * @return JDK HttpRequest object
+     */
+    private static HttpRequest toHttpRequest(TransportRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()))
+                .timeout(request.getTimeoutMillis() > 0 ? Duration.ofMillis(request.getTimeoutMillis()) : REQUEST_TIMEOUT)
+                .header(ReelPayConstants.HEADER_ACCEPT_ENCODING, ReelPayConstants.ENCODING_GZIP);
+        
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        
+        byte[] body = request.getBody();
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody();
+        return builder.method(request.getMethod(), publisher).build();
+    }
+
+    /**
+     * Convert a JDK HTTP response, decoding gzip bodies since the JDK client does not
+     * 
+     * @param response JDK HTTP response
+     * @return TransportResponse with a decoded body stream
+     */
+    private static TransportResponse toTransportResponse(HttpResponse<InputStream> response) {
+        InputStream body = response.body();
+        String encoding = response.headers().firstValue(ReelPayConstants.HEADER_CONTENT_ENCODING).orElse("");
+        if (ReelPayConstants.ENCODING_GZIP.equalsIgnoreCase(encoding) && body != null) {
+            body = new GzipBody(body);
+        }
+        return new TransportResponse(response.statusCode(), body, body);
+    }
+
+    /**
+     * Gzip-decoding view of a response body that reads the gzip header on first use
+     * 
+     * GZIPInputStream reads the header in its constructor, so creating it where the
+     * async response completes would block the HttpClient's completion thread on the
+     * network. The header is read by whichever thread first reads the body instead.
+     */
+    private static final class GzipBody extends InputStream {
+
+        /** Raw response body */
+        private final InputStream raw;
+        
+        /** Decoding stream, created on first read */
+        private InputStream decoded;
+
+        /**
+         * Constructor
+         * 
+         * @param raw Raw response body
+         */
+        GzipBody(InputStream raw) {
+            this.raw = raw;
+        }
+
+        /**
+         * Get the decoding stream, reading the gzip header the first time
+         * 
+         * @return decoding stream
+         * @throws IOException if the gzip header cannot be read
+         */
+        private InputStream decoded() throws IOException {
+            if (decoded == null) {
+                decoded = new GZIPInputStream(raw);
+            }
+            return decoded;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoded().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return decoded().read(buffer, offset, length);
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            return decoded().skip(count);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoded == null ? 0 : decoded.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoded != null) {
+                decoded.close();
+            } else {
+                raw.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.reelpay.api.reactive;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.HttpRequest.CallerContext;
+import com.reelpay.api.HttpRequest.RequestPriority;
+import com.reelpay.api.bulk.BulkResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Publishes one BulkResult per item, calling the API only for results that were requested
+ * 
+ * A call is started only while the subscriber's outstanding demand exceeds the calls
+ * already started and not yet delivered, and never more than the concurrency limit
+ * at once. A subscriber that stops requesting therefore stops the calls, and at most
+ * that limit of results is ever held waiting for it. Results are delivered in
+ * completion order; a failed call is delivered as a failed BulkResult.
+ * 
+ * @param <T> Item type
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class BulkPublisher<T> implements Flow.Publisher<BulkResult> {
+
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(BulkPublisher.class);
+    
+    /** Creates the item source for each subscription */
+    private final Supplier<Iterator<T>> items;
+    
+    /** Extracts the result key from an item */
+    private final Function<T, String> keyFunction;
+    
+    /** Blocking API call for one item */
+    private final Function<T, JsonObject> call;
+    
+    /** Maximum number of calls in flight */
+    private final int maxConcurrency;
+    
+    /** Executor running the blocking calls */
+    private final Executor executor;
+    
+    /**
+     * Constructor
+     * 
+     * @param items Creates the item source for each subscription
+     * @param keyFunction Extracts the result key from an item
+     * @param call Blocking API call for one item
+     * @param maxConcurrency Maximum number of calls in flight
+     * @param executor Executor running the blocking calls
+     */
+    BulkPublisher(Supplier<Iterator<T>> items, Function<T, String> keyFunction, Function<T, JsonObject> call,
+                  int maxConcurrency, Executor executor) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.items = items;
+        this.keyFunction = keyFunction;
+        this.call = call;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BulkResult> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        Iterator<T> source;
+        try {
+            source = items.get();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(Subscriptions.EMPTY);
+            subscriber.onError(e);
+            return;
+        }
+        BulkSubscription subscription = new BulkSubscription(subscriber, source);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * One subscriber's view of the bulk operation
+     * 
+     * All signals to the subscriber, and all reads of the item source, happen in
+     * drain(), which runs on one thread at a time.
+     */
+    private final class BulkSubscription implements Flow.Subscription {
+
+        /** Downstream subscriber */
+        private final Flow.Subscriber<? super BulkResult> subscriber;
+        
+        /** Item source */
+        private final Iterator<T> source;
+        
+        /** Results waiting for delivery */
+        private final Queue<BulkResult> ready = new ConcurrentLinkedQueue<>();
+        
+        /** Total demand signalled, capped at Long.MAX_VALUE */
+        private final AtomicLong requested = new AtomicLong();
+        
+        /** Number of drain() calls still to be served */
+        private final AtomicInteger wip = new AtomicInteger();
+        
+        /** Deadline and priority of the subscribing thread */
+        private final CallerContext context = CallerContext.capture(RequestPriority.BACKGROUND);
+        
+        /** Results delivered, touched only in drain() */
+        private long emitted;
+        
+        /** Calls started and not yet delivered, touched only in drain() */
+        private int outstanding;
+        
+        /** Whether the source is exhausted, touched only in drain() */
+        private boolean exhausted;
+        
+        /** Whether a terminal signal was sent, touched only in drain() */
+        private boolean terminated;
+        
+        /** Set by a request(n) with n <= 0, reported as an error */
+        private volatile boolean invalidRequest;
+        
+        /** Set by cancel() */
+        private volatile boolean cancelled;
+        
+        BulkSubscription(Flow.Subscriber<? super BulkResult> subscriber, Iterator<T> source) {
+            this.subscriber = subscriber;
+            this.source = source;
+        }
+        
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = true;
+            } else {
+                Subscriptions.addDemand(requested, n);
+            }
+            drain();
+        }
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+        
+        /**
+         * Deliver ready results, start the calls the demand allows and detect completion
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    step();
+                }
+                if (terminated || cancelled) {
+                    ready.clear();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        /**
+         * One pass of the drain loop
+         */
+        private void step() {
+            if (cancelled) {
+                terminated = true;
+                return;
+            }
+            if (invalidRequest) {
+                terminated = true;
+                subscriber.onError(new IllegalArgumentException(Subscriptions.NON_POSITIVE_REQUEST));
+                return;
+            }
+            
+            BulkResult result;
+            while (emitted != requested.get() && (result = ready.poll()) != null) {
+                emitted++;
+                outstanding--;
+                subscriber.onNext(result);
+                if (cancelled) {
+                    terminated = true;
+                    return;
+                }
+            }
+            
+            try {
+                while (!exhausted && outstanding < maxConcurrency && requested.get() - emitted > outstanding) {
+                    if (!source.hasNext()) {
+                        exhausted = true;
+                        break;
+                    }
+                    T item = source.next();
+                    outstanding++;
+                    start(item);
+                }
+            } catch (RuntimeException e) {
+                terminated = true;
+                subscriber.onError(e);
+                return;
+            }
+            
+            if (exhausted && outstanding == 0) {
+                terminated = true;
+                subscriber.onComplete();
+            }
+        }
+        
+        /**
+         * Run the call for one item on the executor
+         * 
+         * @param item Item to process
+         */
+        private void start(T item) {
+            Runnable task = () -> {
+                CallerContext.Scope scope = context.enter();
+                try {
+                    ready.offer(invoke(item));
+                } finally {
+                    scope.close();
+                }
+                drain();
+            };
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                ready.offer(BulkResult.failure(key(item), e));
+                // Called from inside drain(), so one more pass delivers the failure
+                wip.incrementAndGet();
+            }
+        }
+        
+        /**
+         * Invoke the call for one item, turning failures into a failed result
+         * 
+         * @param item Item to process
+         * @return BulkResult for the item
+         */
+        private BulkResult invoke(T item) {
+            String key = null;
+            try {
+                key = keyFunction.apply(item);
+                if (cancelled) {
+                    return BulkResult.failure(key, new IllegalStateException("Subscription cancelled"));
+                }
+                return BulkResult.success(key, call.apply(item));
+            } catch (RuntimeException e) {
+                logger.debug("Bulk item {} failed: {}", key, e.getMessage());
+                return BulkResult.failure(key, e);
+            }
+        }
+        
+        /**
+         * Extract the key of an item without throwing
+         * 
+         * @param item Item
+         * @return key, or null if it cannot be computed
+         */
+        private String key(T item) {
+            try {
+                return keyFunction.apply(item);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
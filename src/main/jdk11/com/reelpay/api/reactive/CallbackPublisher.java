@@ -0,0 +1,108 @@
+package com.reelpay.api.reactive;
+
+import com.reelpay.api.callback.CallbackEvent;
+import com.reelpay.api.callback.CallbackHandler;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Callback handler that publishes verified callback events to one subscriber at a time
+ * 
+ * Pass it to a CallbackDispatcher as the handler. A stripe worker that has an event
+ * waits until the subscriber has requested one, so an idle or slow subscriber holds
+ * the stripes back; their rings then fill and CallbackDispatcher.dispatch() blocks,
+ * which keeps callbacks queued at ReelPay instead of in memory. Events for one order
+ * keep their dispatch order. After the subscriber cancels, a new one may subscribe
+ * and receives the events that follow.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class CallbackPublisher implements CallbackHandler, Flow.Publisher<CallbackEvent> {
+
+    /** Current subscription, or null while nobody is subscribed */
+    private EventSubscription current;
+
+    @Override
+    public synchronized void subscribe(Flow.Subscriber<? super CallbackEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        if (current != null) {
+            subscriber.onSubscribe(Subscriptions.EMPTY);
+            subscriber.onError(new IllegalStateException("Callback publisher already has a subscriber"));
+            return;
+        }
+        EventSubscription subscription = new EventSubscription(subscriber);
+        current = subscription;
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Hand one event to the subscriber, waiting for demand
+     * 
+     * @param event Verified callback event, copied before it is published
+     * @throws InterruptedException if the stripe worker is interrupted while waiting
+     */
+    @Override
+    public synchronized void onEvent(CallbackEvent event) throws InterruptedException {
+        while (current == null || current.requested == 0) {
+            wait();
+        }
+        EventSubscription subscription = current;
+        if (subscription.requested != Long.MAX_VALUE) {
+            subscription.requested--;
+        }
+        subscription.subscriber.onNext(event.copy());
+    }
+
+    /**
+     * Check whether a subscriber is attached
+     * 
+     * @return true while subscribed
+     */
+    public synchronized boolean hasSubscriber() {
+        return current != null;
+    }
+
+    /**
+     * Demand of the current subscriber
+     */
+    private final class EventSubscription implements Flow.Subscription {
+
+        /** Downstream subscriber */
+        final Flow.Subscriber<? super CallbackEvent> subscriber;
+        
+        /** Unmet demand, Long.MAX_VALUE for unbounded; guarded by the publisher */
+        long requested;
+        
+        EventSubscription(Flow.Subscriber<? super CallbackEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+        
+        @Override
+        public void request(long n) {
+            synchronized (CallbackPublisher.this) {
+                if (current != this) {
+                    return;
+                }
+                if (n <= 0) {
+                    current = null;
+                    subscriber.onError(new IllegalArgumentException(Subscriptions.NON_POSITIVE_REQUEST));
+                    return;
+                }
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                CallbackPublisher.this.notifyAll();
+            }
+        }
+        
+        @Override
+        public void cancel() {
+            synchronized (CallbackPublisher.this) {
+                if (current == this) {
+                    current = null;
+                }
+            }
+        }
+    }
+}
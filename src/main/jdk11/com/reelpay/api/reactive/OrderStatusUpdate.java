@@ -0,0 +1,94 @@
+package com.reelpay.api.reactive;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.constants.TransactionStatus;
+
+/**
+ * Status of a watched order, published when it changes
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class OrderStatusUpdate {
+
+    /** ReelPay order ID */
+    private final String tradeNo;
+    
+    /** Previous status string, null for the first update */
+    private final String previousStatus;
+    
+    /** Status string */
+    private final String status;
+    
+    /** Parsed status */
+    private final TransactionStatus transactionStatus;
+    
+    /** Order query response that reported the status */
+    private final JsonObject response;
+
+    /**
+     * Constructor
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param previousStatus Previous status string, null for the first update
+     * @param status Status string
+     * @param response Order query response
+     */
+    OrderStatusUpdate(String tradeNo, String previousStatus, String status, JsonObject response) {
+        this.tradeNo = tradeNo;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.transactionStatus = TransactionStatus.fromValue(status);
+        this.response = response;
+    }
+
+    /**
+     * Get the ReelPay order ID
+     * 
+     * @return trade_no
+     */
+    public String getTradeNo() {
+        return tradeNo;
+    }
+
+    /**
+     * Get the status before this update
+     * 
+     * @return previous status string, or null for the first update
+     */
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    /**
+     * Get the status
+     * 
+     * @return status string
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the typed status
+     * 
+     * @return status, or null if not a known status
+     */
+    public TransactionStatus getTransactionStatus() {
+        return transactionStatus;
+    }
+
+    /**
+     * Get the order query response that reported the status
+     * 
+     * @return API response
+     */
+    public JsonObject getResponse() {
+        return response;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderStatusUpdate{tradeNo=" + tradeNo + ", previousStatus=" + previousStatus + ", status=" + status + "}";
+    }
+}
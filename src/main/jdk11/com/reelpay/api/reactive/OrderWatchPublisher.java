@@ -0,0 +1,243 @@
+package com.reelpay.api.reactive;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.reelpay.api.HttpRequest.RequestPriority;
+import com.reelpay.api.constants.TransactionStatus;
+import com.reelpay.api.util.TaskExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Publishes the status of one order each time it changes, by polling
+ * 
+ * The first update carries the current status. The order is polled at most once per
+ * interval and only while the subscriber has unmet demand, so a subscriber that stops
+ * requesting stops the queries. The publisher completes after a terminal status and
+ * fails if ReelPay answers without order data; failed queries are retried at the
+ * next interval.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class OrderWatchPublisher implements Flow.Publisher<OrderStatusUpdate> {
+
+    /** Logger instance for this class */
+    private static final Logger logger = LogManager.getLogger(OrderWatchPublisher.class);
+    
+    /** ReelPay order ID */
+    private final String tradeNo;
+    
+    /** Blocking order query */
+    private final Function<String, JsonObject> query;
+    
+    /** Minimum time between two queries */
+    private final long intervalNanos;
+    
+    /** Executor running the blocking queries */
+    private final Executor executor;
+
+    /**
+     * Constructor
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param query Blocking order query
+     * @param intervalMillis Minimum time between two queries in milliseconds
+     * @param executor Executor running the blocking queries
+     */
+    OrderWatchPublisher(String tradeNo, Function<String, JsonObject> query, long intervalMillis, Executor executor) {
+        if (tradeNo == null || tradeNo.isEmpty()) {
+            throw new IllegalArgumentException("trade_no cannot be null or empty");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Poll interval must be positive");
+        }
+        this.tradeNo = tradeNo;
+        this.query = query;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super OrderStatusUpdate> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        subscriber.onSubscribe(new WatchSubscription(subscriber));
+    }
+
+    /**
+     * One subscriber's watch
+     * 
+     * At most one poll is scheduled or running at a time, and every signal to the
+     * subscriber is sent from it, so signals never overlap.
+     */
+    private final class WatchSubscription implements Flow.Subscription {
+
+        /** Downstream subscriber */
+        private final Flow.Subscriber<? super OrderStatusUpdate> subscriber;
+        
+        /** Priority for the queries */
+        private final RequestPriority priority;
+        
+        /** Total demand signalled, capped at Long.MAX_VALUE */
+        private long requested;
+        
+        /** Updates delivered */
+        private long emitted;
+        
+        /** When the next query may start, in System.nanoTime() terms */
+        private long nextPollAt = System.nanoTime();
+        
+        /** Last status delivered */
+        private String lastStatus;
+        
+        /** Whether a poll is scheduled or running */
+        private boolean busy;
+        
+        /** Whether a request(n) with n <= 0 must be reported */
+        private boolean invalidRequest;
+        
+        /** Whether the subscription has ended */
+        private boolean done;
+        
+        WatchSubscription(Flow.Subscriber<? super OrderStatusUpdate> subscriber) {
+            this.subscriber = subscriber;
+            RequestPriority callerPriority = RequestPriority.current();
+            this.priority = callerPriority != null ? callerPriority : RequestPriority.BACKGROUND;
+        }
+        
+        @Override
+        public synchronized void request(long n) {
+            if (n <= 0) {
+                invalidRequest = true;
+            } else {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            }
+            schedule();
+        }
+        
+        @Override
+        public synchronized void cancel() {
+            done = true;
+        }
+        
+        /**
+         * Schedule the next poll if one is allowed; called with the lock held
+         */
+        private void schedule() {
+            if (busy || done || (!invalidRequest && emitted == requested)) {
+                return;
+            }
+            busy = true;
+            long delay = invalidRequest ? 0 : Math.max(0, nextPollAt - System.nanoTime());
+            Scheduler.INSTANCE.schedule(() -> {
+                try {
+                    executor.execute(this::poll);
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }, delay, TimeUnit.NANOSECONDS);
+        }
+        
+        /**
+         * Query the order once and signal the subscriber
+         */
+        private void poll() {
+            try {
+                String previous;
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    if (invalidRequest) {
+                        done = true;
+                        subscriber.onError(new IllegalArgumentException(Subscriptions.NON_POSITIVE_REQUEST));
+                        return;
+                    }
+                    previous = lastStatus;
+                    nextPollAt = System.nanoTime() + intervalNanos;
+                }
+                
+                JsonObject response;
+                RequestPriority.Scope scope = priority.enter();
+                try {
+                    response = query.apply(tradeNo);
+                } catch (RuntimeException e) {
+                    logger.debug("Watch query for {} failed, retrying: {}", tradeNo, e.getMessage());
+                    return;
+                } finally {
+                    scope.close();
+                }
+                
+                JsonElement data = response.get("data");
+                JsonElement status = data != null && data.isJsonObject() ? data.getAsJsonObject().get("status") : null;
+                if (status == null || !status.isJsonPrimitive()) {
+                    fail(new IllegalStateException("No status for order " + tradeNo + ": " + response));
+                    return;
+                }
+                String current = status.getAsString();
+                if (current.equals(previous)) {
+                    return;
+                }
+                
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    lastStatus = current;
+                    emitted++;
+                }
+                subscriber.onNext(new OrderStatusUpdate(tradeNo, previous, current, response));
+                
+                TransactionStatus parsed = TransactionStatus.fromValue(current);
+                if (parsed != null && parsed.isTerminal()) {
+                    synchronized (this) {
+                        if (done) {
+                            return;
+                        }
+                        done = true;
+                    }
+                    subscriber.onComplete();
+                }
+            } finally {
+                synchronized (this) {
+                    busy = false;
+                    schedule();
+                }
+            }
+        }
+        
+        /**
+         * End the subscription with an error unless it already ended
+         * 
+         * @param error Error to signal
+         */
+        private void fail(Throwable error) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            subscriber.onError(error);
+        }
+    }
+
+    /**
+     * Lazily created timer thread shared by all watches
+     */
+    private static final class Scheduler {
+
+        /** Single daemon thread that only hands polls to the executor */
+        private static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(TaskExecutors.daemonThreadFactory("reelpay-watch"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.reelpay.api.reactive;
+
+import com.reelpay.api.Transactions;
+import com.reelpay.api.bulk.BulkResult;
+import com.reelpay.api.bulk.OrderSpec;
+import com.reelpay.api.util.TaskExecutors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * java.util.concurrent.Flow publishers over a Transactions client (Java 11+)
+ * 
+ * Every publisher turns subscriber demand into API calls: nothing is sent until
+ * items are requested, and a slow subscriber slows the calls down instead of letting
+ * results pile up in memory. Calls run on the shared blocking I/O executor under the
+ * subscribing thread's RequestPriority, BACKGROUND by default. The reactive package
+ * ships in the jdk11 classifier artifact, since Flow has no Java 8 counterpart.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class ReactiveTransactions {
+
+    /** Client used for the calls */
+    private final Transactions transactions;
+    
+    /** Executor running the blocking calls */
+    private final Executor executor;
+
+    /**
+     * Constructor using the shared blocking I/O executor
+     * 
+     * @param transactions Client used for the calls
+     */
+    public ReactiveTransactions(Transactions transactions) {
+        this(transactions, TaskExecutors.blockingIo());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param transactions Client used for the calls
+     * @param executor Executor running the blocking calls
+     */
+    public ReactiveTransactions(Transactions transactions, Executor executor) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("Transactions cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.transactions = transactions;
+        this.executor = executor;
+    }
+
+    /**
+     * Publish order lookups, one BulkResult per trade number in completion order
+     * 
+     * Each subscriber runs its own lookups.
+     * 
+     * @param tradeNos ReelPay order IDs
+     * @param maxConcurrency Maximum number of lookups in flight
+     * @return cold publisher of lookup results
+     */
+    public Flow.Publisher<BulkResult> queryOrders(Collection<String> tradeNos, int maxConcurrency) {
+        if (tradeNos == null) {
+            throw new IllegalArgumentException("Trade numbers cannot be null");
+        }
+        List<String> snapshot = new ArrayList<>(tradeNos);
+        return new BulkPublisher<>(snapshot::iterator, tradeNo -> tradeNo, transactions::queryOrderInfo,
+                maxConcurrency, executor);
+    }
+
+    /**
+     * Publish order creations, one BulkResult per order keyed by out_trade_no
+     * 
+     * The stream is pulled only as results are requested. It can be consumed once, so
+     * a second subscriber receives an IllegalStateException.
+     * 
+     * @param orders Order specifications, consumed lazily
+     * @param window Maximum number of creations in flight
+     * @return publisher of creation results
+     */
+    public Flow.Publisher<BulkResult> createOrders(Stream<OrderSpec> orders, int window) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        AtomicBoolean subscribed = new AtomicBoolean();
+        return new BulkPublisher<>(() -> {
+            if (!subscribed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Order stream can only be published to one subscriber");
+            }
+            return orders.iterator();
+        }, OrderSpec::getOutTradeNo, transactions::createOrder, window, executor);
+    }
+
+    /**
+     * Watch an order, publishing its status each time it changes
+     * 
+     * The first update carries the current status and the publisher completes after a
+     * terminal one. The order is queried at most once per interval, and only while the
+     * subscriber has requested an update it has not yet received.
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param pollIntervalMillis Minimum time between two queries in milliseconds
+     * @return publisher of status changes
+     */
+    public Flow.Publisher<OrderStatusUpdate> watchOrder(String tradeNo, long pollIntervalMillis) {
+        return new OrderWatchPublisher(tradeNo, transactions::queryOrderInfo, pollIntervalMillis, executor);
+    }
+
+    /**
+     * Create a handler that publishes callback events
+     * 
+     * Register the returned publisher as the CallbackDispatcher's handler and subscribe
+     * to it; see {@link CallbackPublisher} for how demand holds back the dispatcher.
+     * 
+     * @return new callback publisher
+     */
+    public static CallbackPublisher callbacks() {
+        return new CallbackPublisher();
+    }
+}
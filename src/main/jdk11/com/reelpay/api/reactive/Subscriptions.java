@@ -0,0 +1,55 @@
+package com.reelpay.api.reactive;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Helpers shared by the publishers
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class Subscriptions {
+
+    /** Error message for request(n) with n <= 0 */
+    static final String NON_POSITIVE_REQUEST = "Requested demand must be positive";
+    
+    /** Subscription handed out before signalling an immediate error */
+    static final Flow.Subscription EMPTY = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+        
+        @Override
+        public void cancel() {
+        }
+    };
+
+    // Private constructor to prevent instantiation
+    private Subscriptions() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Add demand, treating totals that reach Long.MAX_VALUE as unbounded
+     * 
+     * @param requested Total demand
+     * @param n Positive demand to add
+     * @return new total
+     */
+    static long addDemand(AtomicLong requested, long n) {
+        while (true) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return current;
+            }
+            long next = current + n;
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.reelpay.api.simulator;
+
+import com.reelpay.api.HttpRequest.Cover;
+import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.util.HmacSigner;
+import com.reelpay.api.util.RateLimiter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Delivers the simulator's signed callbacks over HTTP on a background thread
+ * 
+ * Callbacks are sent one at a time in the order their status changes happened,
+ * except where fault injection drops, repeats or holds one back. A held-back callback
+ * goes out right after the next one, or on its own once no other callback has
+ * followed for {@value #REORDER_WAIT_MILLIS} ms.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+final class CallbackSender implements Closeable {
+
+    /** Logger */
+    private static final Logger logger = LogManager.getLogger(CallbackSender.class);
+    
+    /** Delivery attempts per callback before it is abandoned */
+    static final int MAX_ATTEMPTS = 3;
+    
+    /** Pause before a retry, multiplied by the attempt number, in milliseconds */
+    private static final long RETRY_BACKOFF_MILLIS = 100L;
+    
+    /** Longest time a held-back callback waits for a successor, in milliseconds */
+    static final long REORDER_WAIT_MILLIS = 500L;
+    
+    /** Connect and read timeout of a delivery in milliseconds */
+    private static final int DELIVERY_TIMEOUT_MILLIS = 10_000;
+    
+    /** Application ID sent in the X-Appid header */
+    private final String appId;
+    
+    /** Signer bound to the application key */
+    private final HmacSigner signer;
+    
+    /** Fault decisions; only used by the sender thread */
+    private final Random random;
+    
+    /** Current fault profile */
+    private final Supplier<FaultProfile> faults;
+    
+    /** Counters by SimulatorCounter ordinal, shared with the simulator */
+    private final LongAdder[] counters;
+    
+    /** Callbacks waiting to be sent */
+    private final BlockingQueue<Delivery> queue = new LinkedBlockingQueue<>();
+    
+    /** Callbacks submitted but not yet sent, dropped or abandoned; guarded by this */
+    private long unfinished;
+    
+    /** Delivery rate limit, null for none */
+    private volatile RateLimiter rateLimiter;
+    
+    /** Sender thread */
+    private final Thread thread;
+
+    /**
+     * Constructor, starting the sender thread
+     * 
+     * @param appId Application ID
+     * @param signer Signer bound to the application key
+     * @param seed Seed for fault decisions
+     * @param faults Current fault profile
+     * @param counters Counters by SimulatorCounter ordinal
+     */
+    CallbackSender(String appId, HmacSigner signer, long seed, Supplier<FaultProfile> faults, LongAdder[] counters) {
+        this.appId = appId;
+        this.signer = signer;
+        this.random = new Random(seed);
+        this.faults = faults;
+        this.counters = counters;
+        this.thread = new Thread(this::run, "reelpay-simulator-callbacks");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Limit the delivery rate
+     * 
+     * @param permitsPerSecond Callbacks per second, 0 for no limit
+     */
+    void setRate(double permitsPerSecond) {
+        if (permitsPerSecond < 0) {
+            throw new IllegalArgumentException("Callback rate cannot be negative");
+        }
+        this.rateLimiter = permitsPerSecond == 0 ? null : new RateLimiter(permitsPerSecond);
+    }
+
+    /**
+     * Queue a callback
+     * 
+     * @param url Receiver URL
+     * @param body Callback JSON body
+     */
+    void submit(String url, String body) {
+        synchronized (this) {
+            unfinished++;
+        }
+        queue.add(new Delivery(url, body));
+    }
+
+    /**
+     * Wait until every queued callback has been sent, dropped or abandoned
+     * 
+     * @param timeoutMillis Maximum wait in milliseconds
+     * @return true if nothing is left to send
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (unfinished > 0) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Sender loop
+     */
+    private void run() {
+        Delivery held = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Delivery next = held == null ? queue.take() : queue.poll(REORDER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    // Nothing followed the held-back callback in time; send it on its own
+                    deliver(held);
+                    held = null;
+                    continue;
+                }
+                FaultProfile profile = faults.get();
+                if (roll(profile.getCallbackDropRate())) {
+                    counters[SimulatorCounter.CALLBACKS_DROPPED.ordinal()].increment();
+                    finished();
+                    continue;
+                }
+                if (held == null && roll(profile.getCallbackReorderRate())) {
+                    counters[SimulatorCounter.CALLBACKS_REORDERED.ordinal()].increment();
+                    held = next;
+                    continue;
+                }
+                boolean duplicate = roll(profile.getCallbackDuplicateRate());
+                deliver(next);
+                if (duplicate) {
+                    counters[SimulatorCounter.CALLBACKS_DUPLICATED.ordinal()].increment();
+                    send(next);
+                }
+                if (held != null) {
+                    deliver(held);
+                    held = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Send one callback and mark it finished
+     * 
+     * @param delivery Callback to send
+     * @throws InterruptedException if interrupted while sending
+     */
+    private void deliver(Delivery delivery) throws InterruptedException {
+        try {
+            send(delivery);
+        } finally {
+            finished();
+        }
+    }
+
+    /**
+     * Send one callback, retrying failed attempts
+     * 
+     * @param delivery Callback to send
+     * @throws InterruptedException if interrupted while waiting for a permit or a retry
+     */
+    private void send(Delivery delivery) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            RateLimiter limiter = rateLimiter;
+            if (limiter != null) {
+                limiter.acquire();
+            }
+            try {
+                int status = post(delivery);
+                if (status >= 200 && status < 300) {
+                    counters[SimulatorCounter.CALLBACKS_DELIVERED.ordinal()].increment();
+                    return;
+                }
+                logger.debug("Callback receiver {} answered {} on attempt {}", delivery.url, status, attempt);
+            } catch (IOException e) {
+                logger.debug("Callback to {} failed on attempt {}: {}", delivery.url, attempt, e.getMessage());
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            }
+        }
+        counters[SimulatorCounter.CALLBACKS_FAILED.ordinal()].increment();
+        logger.warn("Abandoned callback to {} after {} attempts", delivery.url, MAX_ATTEMPTS);
+    }
+
+    /**
+     * POST a freshly signed callback
+     * 
+     * @param delivery Callback to send
+     * @return HTTP status code
+     * @throws IOException if the receiver cannot be reached
+     */
+    private int post(Delivery delivery) throws IOException {
+        Cover cover = new Cover(signer, delivery.body);
+        cover.hmacSHA256Sign();
+        byte[] bytes = delivery.body.getBytes(StandardCharsets.UTF_8);
+        
+        HttpURLConnection connection = (HttpURLConnection) new URL(delivery.url).openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(DELIVERY_TIMEOUT_MILLIS);
+            connection.setReadTimeout(DELIVERY_TIMEOUT_MILLIS);
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(bytes.length);
+            connection.setRequestProperty(ReelPayConstants.HEADER_CONTENT_TYPE, ReelPayConstants.CONTENT_TYPE_JSON);
+            connection.setRequestProperty(ReelPayConstants.HEADER_APP_ID, appId);
+            connection.setRequestProperty(ReelPayConstants.HEADER_TIMESTAMP, String.valueOf(cover.getTimestamp()));
+            connection.setRequestProperty(ReelPayConstants.HEADER_SIGNATURE, cover.getSign());
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(bytes);
+            }
+            int status = connection.getResponseCode();
+            drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            return status;
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * Read and close a response body so the connection can be reused
+     * 
+     * @param in Response body, may be null
+     * @throws IOException if reading fails
+     */
+    private static void drain(InputStream in) throws IOException {
+        if (in == null) {
+            return;
+        }
+        try (InputStream body = in) {
+            byte[] buffer = new byte[1024];
+            while (body.read(buffer) != -1) {
+                // discard
+            }
+        }
+    }
+
+    /**
+     * Decide whether a fault happens
+     * 
+     * @param rate Probability of the fault
+     * @return true if it happens
+     */
+    private boolean roll(double rate) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    /**
+     * Mark one submitted callback as finished
+     */
+    private synchronized void finished() {
+        unfinished--;
+        if (unfinished == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stop the sender thread; queued callbacks are discarded
+     */
+    @Override
+    public void close() {
+        thread.interrupt();
+    }
+
+    /**
+     * One queued callback
+     */
+    private static final class Delivery {
+
+        /** Receiver URL */
+        final String url;
+        
+        /** Callback JSON body */
+        final String body;
+        
+        Delivery(String url, String body) {
+            this.url = url;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.reelpay.api.simulator;
+
+/**
+ * Faults injected by the ReelPay simulator
+ * 
+ * Request faults apply to API calls: added latency, 5xx answers before the request is
+ * processed, and lost responses, where the request takes effect but the caller sees a
+ * 5xx. Callback faults apply to notifications: dropped, delivered twice, or held back
+ * and delivered after the one that follows. Every rate is a probability between 0 and 1.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class FaultProfile {
+
+    /** Minimum added latency in milliseconds */
+    private long minLatencyMillis;
+    
+    /** Maximum added latency in milliseconds */
+    private long maxLatencyMillis;
+    
+    /** Probability of a 5xx answer before the request is processed */
+    private double serverErrorRate;
+    
+    /** Probability of a 5xx answer after the request took effect */
+    private double lostResponseRate;
+    
+    /** Probability that a callback is never delivered */
+    private double callbackDropRate;
+    
+    /** Probability that a callback is delivered twice */
+    private double callbackDuplicateRate;
+    
+    /** Probability that a callback is delivered after the next one */
+    private double callbackReorderRate;
+
+    /**
+     * Create a profile without faults
+     * 
+     * @return fault-free profile
+     */
+    public static FaultProfile none() {
+        return new FaultProfile();
+    }
+
+    /**
+     * Add latency to every API call, uniformly distributed within the range
+     * 
+     * A latency over the request timeout fails the call with a SocketTimeoutException
+     * once the timeout has passed, as a real server would.
+     * 
+     * @param minMillis Minimum latency in milliseconds
+     * @param maxMillis Maximum latency in milliseconds
+     * @return this profile
+     */
+    public FaultProfile setLatency(long minMillis, long maxMillis) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("Latency range must satisfy 0 <= min <= max");
+        }
+        this.minLatencyMillis = minMillis;
+        this.maxLatencyMillis = maxMillis;
+        return this;
+    }
+
+    /**
+     * Answer API calls with a 500, 502 or 503 before processing them
+     * 
+     * @param rate Probability per call
+     * @return this profile
+     */
+    public FaultProfile setServerErrorRate(double rate) {
+        this.serverErrorRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Process API calls but answer them with a 502, as if the response was lost
+     * 
+     * Retried creations then meet their own earlier attempt, which is what
+     * idempotency handling has to cope with.
+     * 
+     * @param rate Probability per call
+     * @return this profile
+     */
+    public FaultProfile setLostResponseRate(double rate) {
+        this.lostResponseRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Drop callbacks without delivering them
+     * 
+     * @param rate Probability per callback
+     * @return this profile
+     */
+    public FaultProfile setCallbackDropRate(double rate) {
+        this.callbackDropRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Deliver callbacks a second time
+     * 
+     * @param rate Probability per callback
+     * @return this profile
+     */
+    public FaultProfile setCallbackDuplicateRate(double rate) {
+        this.callbackDuplicateRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Hold callbacks back and deliver them after the next one
+     * 
+     * @param rate Probability per callback
+     * @return this profile
+     */
+    public FaultProfile setCallbackReorderRate(double rate) {
+        this.callbackReorderRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Get the minimum added latency
+     * 
+     * @return latency in milliseconds
+     */
+    public long getMinLatencyMillis() {
+        return minLatencyMillis;
+    }
+
+    /**
+     * Get the maximum added latency
+     * 
+     * @return latency in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis;
+    }
+
+    /**
+     * Get the rate of 5xx answers before processing
+     * 
+     * @return probability per call
+     */
+    public double getServerErrorRate() {
+        return serverErrorRate;
+    }
+
+    /**
+     * Get the rate of lost responses
+     * 
+     * @return probability per call
+     */
+    public double getLostResponseRate() {
+        return lostResponseRate;
+    }
+
+    /**
+     * Get the rate of dropped callbacks
+     * 
+     * @return probability per callback
+     */
+    public double getCallbackDropRate() {
+        return callbackDropRate;
+    }
+
+    /**
+     * Get the rate of duplicated callbacks
+     * 
+     * @return probability per callback
+     */
+    public double getCallbackDuplicateRate() {
+        return callbackDuplicateRate;
+    }
+
+    /**
+     * Get the rate of reordered callbacks
+     * 
+     * @return probability per callback
+     */
+    public double getCallbackReorderRate() {
+        return callbackReorderRate;
+    }
+
+    /**
+     * Validate a probability
+     * 
+     * @param rate Probability to validate
+     * @return validated probability
+     */
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1");
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,230 @@
+package com.reelpay.api.simulator;
+
+/**
+ * How simulated orders and payouts progress on the simulator's virtual clock
+ * 
+ * Each new order is paid with the configured probability at a uniformly random delay;
+ * an order that is not paid before it expires moves to TIME-OUT. A paid order is
+ * refunded with the refund probability, passing through REFUND-IN-PROGRESS before it
+ * becomes REFUNDED. Payouts settle as PAID after the payout delay, or fail with
+ * CHAIN-CONFIRMATION-FAILED at the payout failure rate.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class OrderLifecycle {
+
+    /** Probability that an order is paid */
+    private double payRate = 0.9;
+    
+    /** Minimum time from creation to payment in milliseconds */
+    private long minPayDelayMillis = 30_000L;
+    
+    /** Maximum time from creation to payment in milliseconds */
+    private long maxPayDelayMillis = 600_000L;
+    
+    /** Order lifetime when the request sets none, in seconds */
+    private long defaultTimeoutSeconds = 1800L;
+    
+    /** Probability that a paid order is refunded */
+    private double refundRate = 0.02;
+    
+    /** Time from payment to the start of a refund in milliseconds */
+    private long refundDelayMillis = 3_600_000L;
+    
+    /** Time a refund stays in progress in milliseconds */
+    private long refundDurationMillis = 600_000L;
+    
+    /** Time from creation to payout settlement in milliseconds */
+    private long payoutDelayMillis = 60_000L;
+    
+    /** Probability that a payout fails on chain */
+    private double payoutFailureRate = 0.01;
+
+    /**
+     * Set the probability that an order is paid
+     * 
+     * @param rate Probability between 0 and 1
+     * @return this lifecycle
+     */
+    public OrderLifecycle setPayRate(double rate) {
+        this.payRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Set the range of times from creation to payment
+     * 
+     * @param minMillis Minimum delay in virtual milliseconds
+     * @param maxMillis Maximum delay in virtual milliseconds
+     * @return this lifecycle
+     */
+    public OrderLifecycle setPayDelay(long minMillis, long maxMillis) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("Pay delay range must satisfy 0 <= min <= max");
+        }
+        this.minPayDelayMillis = minMillis;
+        this.maxPayDelayMillis = maxMillis;
+        return this;
+    }
+
+    /**
+     * Set the lifetime of orders created without time_out or time_expire
+     * 
+     * @param seconds Lifetime in virtual seconds
+     * @return this lifecycle
+     */
+    public OrderLifecycle setDefaultTimeout(long seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("Default timeout must be positive");
+        }
+        this.defaultTimeoutSeconds = seconds;
+        return this;
+    }
+
+    /**
+     * Set the probability that a paid order is refunded
+     * 
+     * @param rate Probability between 0 and 1
+     * @return this lifecycle
+     */
+    public OrderLifecycle setRefundRate(double rate) {
+        this.refundRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Set when refunds start and how long they stay in progress
+     * 
+     * @param delayMillis Time from payment to REFUND-IN-PROGRESS in virtual milliseconds
+     * @param durationMillis Time from REFUND-IN-PROGRESS to REFUNDED in virtual milliseconds
+     * @return this lifecycle
+     */
+    public OrderLifecycle setRefundDelay(long delayMillis, long durationMillis) {
+        if (delayMillis < 0 || durationMillis < 0) {
+            throw new IllegalArgumentException("Refund delays cannot be negative");
+        }
+        this.refundDelayMillis = delayMillis;
+        this.refundDurationMillis = durationMillis;
+        return this;
+    }
+
+    /**
+     * Set the time from payout creation to settlement
+     * 
+     * @param millis Delay in virtual milliseconds
+     * @return this lifecycle
+     */
+    public OrderLifecycle setPayoutDelay(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Payout delay cannot be negative");
+        }
+        this.payoutDelayMillis = millis;
+        return this;
+    }
+
+    /**
+     * Set the probability that a payout fails on chain
+     * 
+     * @param rate Probability between 0 and 1
+     * @return this lifecycle
+     */
+    public OrderLifecycle setPayoutFailureRate(double rate) {
+        this.payoutFailureRate = checkRate(rate);
+        return this;
+    }
+
+    /**
+     * Get the probability that an order is paid
+     * 
+     * @return probability
+     */
+    public double getPayRate() {
+        return payRate;
+    }
+
+    /**
+     * Get the minimum time from creation to payment
+     * 
+     * @return delay in virtual milliseconds
+     */
+    public long getMinPayDelayMillis() {
+        return minPayDelayMillis;
+    }
+
+    /**
+     * Get the maximum time from creation to payment
+     * 
+     * @return delay in virtual milliseconds
+     */
+    public long getMaxPayDelayMillis() {
+        return maxPayDelayMillis;
+    }
+
+    /**
+     * Get the lifetime of orders created without one
+     * 
+     * @return lifetime in virtual seconds
+     */
+    public long getDefaultTimeoutSeconds() {
+        return defaultTimeoutSeconds;
+    }
+
+    /**
+     * Get the probability that a paid order is refunded
+     * 
+     * @return probability
+     */
+    public double getRefundRate() {
+        return refundRate;
+    }
+
+    /**
+     * Get the time from payment to the start of a refund
+     * 
+     * @return delay in virtual milliseconds
+     */
+    public long getRefundDelayMillis() {
+        return refundDelayMillis;
+    }
+
+    /**
+     * Get the time a refund stays in progress
+     * 
+     * @return duration in virtual milliseconds
+     */
+    public long getRefundDurationMillis() {
+        return refundDurationMillis;
+    }
+
+    /**
+     * Get the time from payout creation to settlement
+     * 
+     * @return delay in virtual milliseconds
+     */
+    public long getPayoutDelayMillis() {
+        return payoutDelayMillis;
+    }
+
+    /**
+     * Get the probability that a payout fails on chain
+     * 
+     * @return probability
+     */
+    public double getPayoutFailureRate() {
+        return payoutFailureRate;
+    }
+
+    /**
+     * Validate a probability
+     * 
+     * @param rate Probability to validate
+     * @return validated probability
+     */
+    private static double checkRate(double rate) {
+        if (!(rate >= 0 && rate <= 1)) {
+            throw new IllegalArgumentException("Rate must be between 0 and 1");
+        }
+        return rate;
+    }
+}
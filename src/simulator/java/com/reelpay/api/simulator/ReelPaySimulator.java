@@ -0,0 +1,1036 @@
+package com.reelpay.api.simulator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.reelpay.api.HttpRequest.Cover;
+import com.reelpay.api.HttpRequest.Transport;
+import com.reelpay.api.HttpRequest.TransportRequest;
+import com.reelpay.api.HttpRequest.TransportResponse;
+import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.util.HmacSigner;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Stateful in-process ReelPay simulator for soak tests
+ * 
+ * Implements the seven API endpoints over real order and payout state and plugs into
+ * a Transactions client as its Transport, or into any HTTP client through a
+ * {@link SimulatorServer}. Requests must be signed with the simulator's application
+ * key. Orders and payouts progress on a virtual clock according to an
+ * {@link OrderLifecycle}; every status change fires a signed callback to the
+ * configured callback URL, or to the callback_url of the request. A
+ * {@link FaultProfile} injects latency, 5xx answers, lost responses and dropped,
+ * duplicated or reordered callbacks.
+ * 
+ * Orders start in {@value #STATUS_PENDING}, a status the simulator uses for orders
+ * and payouts that have not settled yet. Business errors are answered with HTTP 200
+ * and a non-200 code, as the API does. The virtual clock starts at the current time
+ * and moves only through {@link #advance(long)} or {@link #startClock(double)}; a
+ * seeded simulator driven from one thread makes the same decisions on every run.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class ReelPaySimulator implements Transport, Closeable {
+
+    /** Status of orders and payouts that have not settled */
+    public static final String STATUS_PENDING = "PENDING";
+    
+    /** Business code for invalid parameters */
+    public static final int CODE_BAD_REQUEST = 400;
+    
+    /** Business code for a missing or wrong signature */
+    public static final int CODE_UNAUTHORIZED = 401;
+    
+    /** Business code for an unknown order or payout */
+    public static final int CODE_NOT_FOUND = 404;
+    
+    /** Logger */
+    private static final Logger logger = LogManager.getLogger(ReelPaySimulator.class);
+    
+    /** Endpoints, matched against the end of the request path */
+    private static final String[] ENDPOINTS = {
+            ReelPayConstants.ENDPOINT_CREATE_ORDER,
+            ReelPayConstants.ENDPOINT_EXCHANGE_RATE,
+            ReelPayConstants.ENDPOINT_QUERY_ORDER,
+            ReelPayConstants.ENDPOINT_CURRENCIES,
+            ReelPayConstants.ENDPOINT_HOSTED_CHECKOUT,
+            ReelPayConstants.ENDPOINT_CREATE_PAYOUT,
+            ReelPayConstants.ENDPOINT_QUERY_PAYOUT
+    };
+    
+    /** Injected 5xx status codes */
+    private static final int[] SERVER_ERRORS = {500, 502, 503};
+    
+    /** Scale of crypto amounts */
+    private static final int CRYPTO_SCALE = 8;
+    
+    /** Real time between two ticks of a running clock in milliseconds */
+    private static final long CLOCK_TICK_MILLIS = 100L;
+    
+    /** Application ID requests must carry */
+    private final String appId;
+    
+    /** Signer bound to the application key */
+    private final HmacSigner signer;
+    
+    /** Lifecycle and request fault decisions */
+    private final Random random;
+    
+    /** Callback delivery */
+    private final CallbackSender callbacks;
+    
+    /** Counters by SimulatorCounter ordinal */
+    private final LongAdder[] counters = new LongAdder[SimulatorCounter.values().length];
+    
+    /** Fiat price of each supported currency; guarded by this */
+    private final Map<String, BigDecimal> rates = new LinkedHashMap<>();
+    
+    /** Orders and checkouts by trade_no; guarded by this */
+    private final Map<String, Record> orders = new HashMap<>();
+    
+    /** Orders and checkouts by out_trade_no; guarded by this */
+    private final Map<String, Record> ordersByOutTradeNo = new HashMap<>();
+    
+    /** Payouts by trade_no; guarded by this */
+    private final Map<String, Record> payouts = new HashMap<>();
+    
+    /** Scheduled status changes in time order; guarded by this */
+    private final PriorityQueue<Transition> transitions = new PriorityQueue<>();
+    
+    /** Virtual time in epoch milliseconds; guarded by this */
+    private long nowMillis = System.currentTimeMillis();
+    
+    /** Last issued trade_no and transition sequence; guarded by this */
+    private long sequence;
+    
+    /** Current fault profile */
+    private volatile FaultProfile faults = FaultProfile.none();
+    
+    /** Current lifecycle */
+    private volatile OrderLifecycle lifecycle = new OrderLifecycle();
+    
+    /** Callback URL overriding the one in requests, null to use the request's */
+    private volatile String callbackUrl;
+    
+    /** Thread advancing a running clock, null while stopped; guarded by this */
+    private ScheduledExecutorService clock;
+
+    /**
+     * Constructor with a time-based seed
+     * 
+     * @param appId Application ID requests must carry
+     * @param appKey Application key requests are signed with
+     */
+    public ReelPaySimulator(String appId, String appKey) {
+        this(appId, appKey, System.nanoTime());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param appId Application ID requests must carry
+     * @param appKey Application key requests and callbacks are signed with
+     * @param seed Seed for lifecycle and fault decisions
+     */
+    public ReelPaySimulator(String appId, String appKey, long seed) {
+        if (appId == null || appId.isEmpty()) {
+            throw new IllegalArgumentException("App ID cannot be null or empty");
+        }
+        if (appKey == null || appKey.isEmpty()) {
+            throw new IllegalArgumentException("App key cannot be null or empty");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        this.appId = appId;
+        this.signer = HmacSigner.sha256(appKey);
+        this.random = new Random(seed);
+        this.callbacks = new CallbackSender(appId, signer, seed ^ 0x5DEECE66DL, () -> faults, counters);
+        rates.put("USDT", BigDecimal.ONE);
+        rates.put("USDC", BigDecimal.ONE);
+        rates.put("BTC", new BigDecimal("65000"));
+        rates.put("ETH", new BigDecimal("3500"));
+        rates.put("TRX", new BigDecimal("0.12"));
+    }
+
+    /**
+     * Set the injected faults
+     * 
+     * @param faults Fault profile, FaultProfile.none() for none
+     * @return this simulator
+     */
+    public ReelPaySimulator setFaults(FaultProfile faults) {
+        if (faults == null) {
+            throw new IllegalArgumentException("Fault profile cannot be null");
+        }
+        this.faults = faults;
+        return this;
+    }
+
+    /**
+     * Set how orders and payouts progress; applies to those created afterwards
+     * 
+     * @param lifecycle Order lifecycle
+     * @return this simulator
+     */
+    public ReelPaySimulator setLifecycle(OrderLifecycle lifecycle) {
+        if (lifecycle == null) {
+            throw new IllegalArgumentException("Lifecycle cannot be null");
+        }
+        this.lifecycle = lifecycle;
+        return this;
+    }
+
+    /**
+     * Send every callback to one URL instead of the callback_url of the request
+     * 
+     * @param url Callback receiver URL, null to use the request's callback_url
+     * @return this simulator
+     */
+    public ReelPaySimulator setCallbackUrl(String url) {
+        this.callbackUrl = url;
+        return this;
+    }
+
+    /**
+     * Limit the rate at which callbacks are sent
+     * 
+     * @param callbacksPerSecond Callbacks per second of real time, 0 for no limit
+     * @return this simulator
+     */
+    public ReelPaySimulator setCallbackRate(double callbacksPerSecond) {
+        callbacks.setRate(callbacksPerSecond);
+        return this;
+    }
+
+    /**
+     * Add or reprice a supported currency
+     * 
+     * @param currencyId Currency ID, e.g. "BTC"
+     * @param fiatPrice Price of one unit in any fiat currency
+     * @return this simulator
+     */
+    public synchronized ReelPaySimulator setRate(String currencyId, String fiatPrice) {
+        if (currencyId == null || currencyId.isEmpty()) {
+            throw new IllegalArgumentException("Currency ID cannot be null or empty");
+        }
+        BigDecimal price = positiveDecimal(fiatPrice);
+        if (price == null) {
+            throw new IllegalArgumentException("Fiat price must be a positive number");
+        }
+        rates.put(currencyId, price);
+        return this;
+    }
+
+    /**
+     * Get the virtual time
+     * 
+     * @return virtual epoch milliseconds
+     */
+    public synchronized long currentTimeMillis() {
+        return nowMillis;
+    }
+
+    /**
+     * Move the virtual clock forward, applying every status change that falls due
+     * 
+     * Status changes are applied in time order and their callbacks queued in that order.
+     * 
+     * @param millis Virtual milliseconds to advance
+     */
+    public synchronized void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Cannot move the clock backwards");
+        }
+        long target = nowMillis + millis;
+        while (!transitions.isEmpty() && transitions.peek().atMillis <= target) {
+            Transition transition = transitions.poll();
+            nowMillis = Math.max(nowMillis, transition.atMillis);
+            apply(transition);
+        }
+        nowMillis = target;
+    }
+
+    /**
+     * Run the virtual clock on a background thread
+     * 
+     * @param speed Virtual milliseconds per real millisecond, e.g. 60 for a minute per second
+     * @return this simulator
+     */
+    public synchronized ReelPaySimulator startClock(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive");
+        }
+        stopClock();
+        long step = Math.max(1L, Math.round(CLOCK_TICK_MILLIS * speed));
+        clock = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reelpay-simulator-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        clock.scheduleAtFixedRate(() -> advance(step), CLOCK_TICK_MILLIS, CLOCK_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Stop a running clock
+     */
+    public synchronized void stopClock() {
+        if (clock != null) {
+            clock.shutdownNow();
+            clock = null;
+        }
+    }
+
+    /**
+     * Wait until every callback queued so far has been sent, dropped or abandoned
+     * 
+     * @param timeoutMillis Maximum wait in milliseconds
+     * @return true if no callback is left to send
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitCallbacks(long timeoutMillis) throws InterruptedException {
+        return callbacks.awaitIdle(timeoutMillis);
+    }
+
+    /**
+     * Get the status of an order or hosted checkout
+     * 
+     * @param tradeNo ReelPay order ID
+     * @return status, or null for an unknown order
+     */
+    public synchronized String getOrderStatus(String tradeNo) {
+        Record order = orders.get(tradeNo);
+        return order == null ? null : order.status;
+    }
+
+    /**
+     * Get the status of a payout
+     * 
+     * @param tradeNo Payout ID
+     * @return status, or null for an unknown payout
+     */
+    public synchronized String getPayoutStatus(String tradeNo) {
+        Record payout = payouts.get(tradeNo);
+        return payout == null ? null : payout.status;
+    }
+
+    /**
+     * Get the number of orders and hosted checkouts created
+     * 
+     * @return order count
+     */
+    public synchronized int getOrderCount() {
+        return orders.size();
+    }
+
+    /**
+     * Get the number of payouts created
+     * 
+     * @return payout count
+     */
+    public synchronized int getPayoutCount() {
+        return payouts.size();
+    }
+
+    /**
+     * Get how often an event happened
+     * 
+     * @param counter Counted event
+     * @return count since the simulator was created
+     */
+    public long getCount(SimulatorCounter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    @Override
+    public TransportResponse execute(TransportRequest request) throws IOException {
+        count(SimulatorCounter.REQUESTS);
+        FaultProfile profile = faults;
+        pause(profile, request.getTimeoutMillis());
+        if (TransportRequest.METHOD_HEAD.equals(request.getMethod())) {
+            return TransportResponse.of(200, new byte[0]);
+        }
+        if (roll(profile.getServerErrorRate())) {
+            count(SimulatorCounter.SERVER_ERRORS);
+            return serverError();
+        }
+        String endpoint = endpoint(request.getUrl());
+        if (endpoint == null) {
+            return TransportResponse.of(404, bytes(error(CODE_NOT_FOUND, "Unknown endpoint")));
+        }
+        
+        String body = new String(decode(request), StandardCharsets.UTF_8);
+        JsonObject answer;
+        if (!signatureValid(request.getHeaders(), body)) {
+            count(SimulatorCounter.BAD_SIGNATURES);
+            answer = error(CODE_UNAUTHORIZED, "Signature verification failed");
+        } else {
+            answer = handle(endpoint, parse(body));
+        }
+        if (roll(profile.getLostResponseRate())) {
+            count(SimulatorCounter.LOST_RESPONSES);
+            return serverError();
+        }
+        return TransportResponse.of(200, bytes(answer));
+    }
+
+    /**
+     * Dispatch a signed request to its endpoint
+     * 
+     * @param endpoint Matched endpoint
+     * @param params Request body, null if it is not a JSON object
+     * @return API response
+     */
+    private synchronized JsonObject handle(String endpoint, JsonObject params) {
+        if (params == null) {
+            return error(CODE_BAD_REQUEST, "Request body must be a JSON object");
+        }
+        switch (endpoint) {
+            case ReelPayConstants.ENDPOINT_CREATE_ORDER:
+                return createOrder(params);
+            case ReelPayConstants.ENDPOINT_EXCHANGE_RATE:
+                return exchangeRate(params);
+            case ReelPayConstants.ENDPOINT_QUERY_ORDER:
+                return query(orders, params, "Order not found");
+            case ReelPayConstants.ENDPOINT_CURRENCIES:
+                return currencies();
+            case ReelPayConstants.ENDPOINT_HOSTED_CHECKOUT:
+                return createCheckout(params);
+            case ReelPayConstants.ENDPOINT_CREATE_PAYOUT:
+                return createPayout(params);
+            default:
+                return query(payouts, params, "Payout not found");
+        }
+    }
+
+    /**
+     * Create an order
+     * 
+     * @param params Request body
+     * @return API response
+     */
+    private JsonObject createOrder(JsonObject params) {
+        String missing = missing(params, "out_trade_no", "currency_id", "fiat_name", "fiat_amount");
+        if (missing != null) {
+            return error(CODE_BAD_REQUEST, missing + " is required");
+        }
+        String outTradeNo = params.get("out_trade_no").getAsString();
+        String currencyId = params.get("currency_id").getAsString();
+        BigDecimal fiatAmount = positiveDecimal(params.get("fiat_amount").getAsString());
+        if (fiatAmount == null) {
+            return error(CODE_BAD_REQUEST, "fiat_amount must be a positive number");
+        }
+        BigDecimal rate = rates.get(currencyId);
+        if (rate == null) {
+            return error(CODE_BAD_REQUEST, "Unsupported currency_id " + currencyId);
+        }
+        if (ordersByOutTradeNo.containsKey(outTradeNo)) {
+            return error(CODE_BAD_REQUEST, "Duplicate out_trade_no " + outTradeNo);
+        }
+        long timeoutSeconds = optionalLong(params, "time_out");
+        if (timeoutSeconds <= 0) {
+            timeoutSeconds = lifecycle.getDefaultTimeoutSeconds();
+        }
+        
+        Record order = new Record(nextTradeNo("SIM"), optionalString(params, "callback_url"));
+        order.data.addProperty("out_trade_no", outTradeNo);
+        order.data.addProperty("currency_id", currencyId);
+        order.data.addProperty("fiat_name", params.get("fiat_name").getAsString());
+        order.data.addProperty("fiat_amount", fiatAmount.toPlainString());
+        order.data.addProperty("amount", cryptoAmount(fiatAmount, rate));
+        order.data.addProperty("address", "SIMADDR" + order.tradeNo);
+        order.data.addProperty("pay_url", "https://simulator.invalid/pay/" + order.tradeNo);
+        return openOrder(order, nowMillis + TimeUnit.SECONDS.toMillis(timeoutSeconds));
+    }
+
+    /**
+     * Create a hosted checkout, which settles like an order
+     * 
+     * @param params Request body
+     * @return API response
+     */
+    private JsonObject createCheckout(JsonObject params) {
+        String missing = missing(params, "out_trade_no", "symbol", "amount", "name", "image");
+        if (missing != null) {
+            return error(CODE_BAD_REQUEST, missing + " is required");
+        }
+        String outTradeNo = params.get("out_trade_no").getAsString();
+        BigDecimal amount = positiveDecimal(params.get("amount").getAsString());
+        if (amount == null) {
+            return error(CODE_BAD_REQUEST, "amount must be a positive number");
+        }
+        if (ordersByOutTradeNo.containsKey(outTradeNo)) {
+            return error(CODE_BAD_REQUEST, "Duplicate out_trade_no " + outTradeNo);
+        }
+        long expireAt = TimeUnit.SECONDS.toMillis(optionalLong(params, "time_expire"));
+        if (expireAt <= 0) {
+            expireAt = nowMillis + TimeUnit.SECONDS.toMillis(lifecycle.getDefaultTimeoutSeconds());
+        } else if (expireAt <= nowMillis) {
+            return error(CODE_BAD_REQUEST, "time_expire is in the past");
+        }
+        
+        Record checkout = new Record(nextTradeNo("SIM"), optionalString(params, "callback_url"));
+        checkout.data.addProperty("out_trade_no", outTradeNo);
+        checkout.data.addProperty("symbol", params.get("symbol").getAsString());
+        checkout.data.addProperty("amount", amount.toPlainString());
+        checkout.data.addProperty("name", params.get("name").getAsString());
+        checkout.data.addProperty("image", params.get("image").getAsString());
+        String describe = optionalString(params, "describe");
+        if (describe != null) {
+            checkout.data.addProperty("describe", describe);
+        }
+        checkout.data.addProperty("checkout_url", "https://simulator.invalid/checkout/" + checkout.tradeNo);
+        return openOrder(checkout, expireAt);
+    }
+
+    /**
+     * Register a new order and schedule how it settles
+     * 
+     * @param order New order or checkout
+     * @param expireAt Virtual time at which an unpaid order times out
+     * @return API response
+     */
+    private JsonObject openOrder(Record order, long expireAt) {
+        order.data.addProperty("create_time", TimeUnit.MILLISECONDS.toSeconds(nowMillis));
+        order.data.addProperty("expire_time", TimeUnit.MILLISECONDS.toSeconds(expireAt));
+        orders.put(order.tradeNo, order);
+        ordersByOutTradeNo.put(order.data.get("out_trade_no").getAsString(), order);
+        
+        OrderLifecycle rules = lifecycle;
+        long payAt = nowMillis + between(rules.getMinPayDelayMillis(), rules.getMaxPayDelayMillis());
+        if (roll(rules.getPayRate()) && payAt < expireAt) {
+            schedule(order, payAt, ReelPayConstants.STATUS_PAID, rules);
+        } else {
+            schedule(order, expireAt, ReelPayConstants.STATUS_TIME_OUT, rules);
+        }
+        return success(order.data.deepCopy());
+    }
+
+    /**
+     * Create a payout
+     * 
+     * @param params Request body
+     * @return API response
+     */
+    private JsonObject createPayout(JsonObject params) {
+        String missing = missing(params, "currency_id", "to_address", "amount");
+        if (missing != null) {
+            return error(CODE_BAD_REQUEST, missing + " is required");
+        }
+        String currencyId = params.get("currency_id").getAsString();
+        if (!rates.containsKey(currencyId)) {
+            return error(CODE_BAD_REQUEST, "Unsupported currency_id " + currencyId);
+        }
+        BigDecimal amount = positiveDecimal(params.get("amount").getAsString());
+        if (amount == null) {
+            return error(CODE_BAD_REQUEST, "amount must be a positive number");
+        }
+        
+        Record payout = new Record(nextTradeNo("SIMP"), optionalString(params, "callback_url"));
+        payout.data.addProperty("currency_id", currencyId);
+        payout.data.addProperty("amount", amount.toPlainString());
+        payout.data.addProperty("to_address", params.get("to_address").getAsString());
+        payout.data.addProperty("create_time", TimeUnit.MILLISECONDS.toSeconds(nowMillis));
+        payouts.put(payout.tradeNo, payout);
+        
+        OrderLifecycle rules = lifecycle;
+        String outcome = roll(rules.getPayoutFailureRate())
+                ? ReelPayConstants.STATUS_CHAIN_CONFIRMATION_FAILED : ReelPayConstants.STATUS_PAID;
+        schedule(payout, nowMillis + rules.getPayoutDelayMillis(), outcome, rules);
+        return success(payout.data.deepCopy());
+    }
+
+    /**
+     * Quote a fiat amount in a currency
+     * 
+     * @param params Request body
+     * @return API response
+     */
+    private JsonObject exchangeRate(JsonObject params) {
+        String missing = missing(params, "currency_id", "fiat_name", "fiat_amount");
+        if (missing != null) {
+            return error(CODE_BAD_REQUEST, missing + " is required");
+        }
+        String currencyId = params.get("currency_id").getAsString();
+        BigDecimal rate = rates.get(currencyId);
+        if (rate == null) {
+            return error(CODE_BAD_REQUEST, "Unsupported currency_id " + currencyId);
+        }
+        BigDecimal fiatAmount = positiveDecimal(params.get("fiat_amount").getAsString());
+        if (fiatAmount == null) {
+            return error(CODE_BAD_REQUEST, "fiat_amount must be a positive number");
+        }
+        JsonObject data = new JsonObject();
+        data.addProperty("currency_id", currencyId);
+        data.addProperty("fiat_name", params.get("fiat_name").getAsString());
+        data.addProperty("fiat_amount", fiatAmount.toPlainString());
+        data.addProperty("rate", rate.toPlainString());
+        data.addProperty("amount", cryptoAmount(fiatAmount, rate));
+        return success(data);
+    }
+
+    /**
+     * List the supported currencies
+     * 
+     * @return API response
+     */
+    private JsonObject currencies() {
+        JsonArray list = new JsonArray();
+        for (Map.Entry<String, BigDecimal> entry : rates.entrySet()) {
+            JsonObject currency = new JsonObject();
+            currency.addProperty("currency_id", entry.getKey());
+            currency.addProperty("rate", entry.getValue().toPlainString());
+            list.add(currency);
+        }
+        JsonObject response = success(null);
+        response.add("data", list);
+        return response;
+    }
+
+    /**
+     * Look up an order or payout by trade_no
+     * 
+     * @param records Orders or payouts
+     * @param params Request body
+     * @param notFound Message when the trade_no is unknown
+     * @return API response
+     */
+    private static JsonObject query(Map<String, Record> records, JsonObject params, String notFound) {
+        String tradeNo = optionalString(params, "trade_no");
+        if (tradeNo == null) {
+            return error(CODE_BAD_REQUEST, "trade_no is required");
+        }
+        Record record = records.get(tradeNo);
+        return record == null ? error(CODE_NOT_FOUND, notFound) : success(record.data.deepCopy());
+    }
+
+    /**
+     * Schedule a status change
+     * 
+     * @param record Order or payout
+     * @param atMillis Virtual time of the change
+     * @param status New status
+     * @param rules Lifecycle the record was created under
+     */
+    private void schedule(Record record, long atMillis, String status, OrderLifecycle rules) {
+        transitions.add(new Transition(atMillis, ++sequence, record, status, rules));
+    }
+
+    /**
+     * Apply a due status change, queue its callback and schedule what follows it
+     * 
+     * @param transition Due status change
+     */
+    private void apply(Transition transition) {
+        Record record = transition.record;
+        record.status = transition.status;
+        record.data.addProperty("status", transition.status);
+        record.data.addProperty("update_time", TimeUnit.MILLISECONDS.toSeconds(nowMillis));
+        count(SimulatorCounter.STATUS_CHANGES);
+        
+        String url = callbackUrl != null ? callbackUrl : record.callbackUrl;
+        if (url != null) {
+            callbacks.submit(url, record.data.toString());
+        } else {
+            logger.debug("No callback URL for {}; status {} not sent", record.tradeNo, transition.status);
+        }
+        
+        // Only orders go on to be refunded; payouts end at their first change
+        if (!orders.containsKey(record.tradeNo)) {
+            return;
+        }
+        OrderLifecycle rules = transition.rules;
+        if (ReelPayConstants.STATUS_PAID.equals(transition.status) && roll(rules.getRefundRate())) {
+            schedule(record, nowMillis + rules.getRefundDelayMillis(), ReelPayConstants.STATUS_REFUND_IN_PROGRESS, rules);
+        } else if (ReelPayConstants.STATUS_REFUND_IN_PROGRESS.equals(transition.status)) {
+            schedule(record, nowMillis + rules.getRefundDurationMillis(), ReelPayConstants.STATUS_REFUNDED, rules);
+        }
+    }
+
+    /**
+     * Issue the next trade_no
+     * 
+     * @param prefix Order or payout prefix
+     * @return unique trade_no
+     */
+    private String nextTradeNo(String prefix) {
+        StringBuilder tradeNo = new StringBuilder(prefix);
+        String digits = Long.toString(++sequence);
+        for (int i = digits.length(); i < 16; i++) {
+            tradeNo.append('0');
+        }
+        return tradeNo.append(digits).toString();
+    }
+
+    /**
+     * Check the request signature against the simulator's key
+     * 
+     * @param headers Request headers
+     * @param body Uncompressed request body
+     * @return true if the app ID matches and the signature is valid
+     */
+    private boolean signatureValid(Map<String, String> headers, String body) {
+        String requestAppId = header(headers, ReelPayConstants.HEADER_APP_ID);
+        String timestamp = header(headers, ReelPayConstants.HEADER_TIMESTAMP);
+        String signature = header(headers, ReelPayConstants.HEADER_SIGNATURE);
+        if (!appId.equals(requestAppId) || timestamp == null || signature == null) {
+            return false;
+        }
+        try {
+            return new Cover(signer, body, Long.valueOf(timestamp)).validateSign(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait out the injected latency, failing like a real call if it exceeds the timeout
+     * 
+     * @param profile Fault profile
+     * @param timeoutMillis Request timeout in milliseconds, 0 for none
+     * @throws IOException if the latency exceeds the timeout or the wait is interrupted
+     */
+    private void pause(FaultProfile profile, long timeoutMillis) throws IOException {
+        long latency = between(profile.getMinLatencyMillis(), profile.getMaxLatencyMillis());
+        if (latency == 0) {
+            return;
+        }
+        boolean timedOut = timeoutMillis > 0 && latency > timeoutMillis;
+        try {
+            Thread.sleep(timedOut ? timeoutMillis : latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while simulating latency");
+        }
+        if (timedOut) {
+            throw new SocketTimeoutException("Simulated latency of " + latency + " ms is over the " + timeoutMillis + " ms timeout");
+        }
+    }
+
+    /**
+     * Build an injected 5xx response
+     * 
+     * @return 500, 502 or 503 response
+     */
+    private TransportResponse serverError() {
+        int status = SERVER_ERRORS[random.nextInt(SERVER_ERRORS.length)];
+        return TransportResponse.of(status, bytes(error(status, "Simulated server error")));
+    }
+
+    /**
+     * Decide whether something happens
+     * 
+     * @param rate Probability
+     * @return true if it happens
+     */
+    private boolean roll(double rate) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    /**
+     * Draw a uniformly distributed duration
+     * 
+     * @param min Minimum value
+     * @param max Maximum value
+     * @return value between min and max inclusive
+     */
+    private long between(long min, long max) {
+        return max <= min ? min : min + (long) (random.nextDouble() * (max - min + 1));
+    }
+
+    /**
+     * Add one to a counter
+     * 
+     * @param counter Counted event
+     */
+    private void count(SimulatorCounter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    /**
+     * Find the endpoint a URL addresses
+     * 
+     * @param url Request URL
+     * @return matched endpoint, or null if none matches
+     */
+    private static String endpoint(String url) {
+        String path = URI.create(url).getPath();
+        if (path == null) {
+            return null;
+        }
+        for (String endpoint : ENDPOINTS) {
+            if (path.endsWith(endpoint)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the uncompressed request body
+     * 
+     * @param request Transport request
+     * @return body bytes
+     * @throws IOException if a gzip body cannot be decompressed
+     */
+    private static byte[] decode(TransportRequest request) throws IOException {
+        byte[] body = request.getBody();
+        if (!ReelPayConstants.ENCODING_GZIP.equalsIgnoreCase(header(request.getHeaders(), ReelPayConstants.HEADER_CONTENT_ENCODING))) {
+            return body;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 4);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Look up a header ignoring case
+     * 
+     * @param headers Request headers
+     * @param name Header name
+     * @return header value, or null if absent
+     */
+    private static String header(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a request body
+     * 
+     * @param body Request body
+     * @return JSON object, or null if the body is not one
+     */
+    private static JsonObject parse(String body) {
+        try {
+            JsonElement element = JsonParser.parseString(body);
+            return element.isJsonObject() ? element.getAsJsonObject() : null;
+        } catch (JsonSyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Find the first missing required field
+     * 
+     * @param params Request body
+     * @param fields Required fields
+     * @return name of the first missing or empty field, or null if all are present
+     */
+    private static String missing(JsonObject params, String... fields) {
+        for (String field : fields) {
+            if (optionalString(params, field) == null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read an optional string field
+     * 
+     * @param params Request body
+     * @param field Field name
+     * @return non-empty value, or null
+     */
+    private static String optionalString(JsonObject params, String field) {
+        JsonElement value = params.get(field);
+        if (value == null || !value.isJsonPrimitive()) {
+            return null;
+        }
+        String text = value.getAsString();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * Read an optional numeric field
+     * 
+     * @param params Request body
+     * @param field Field name
+     * @return value, or 0 if absent or not a number
+     */
+    private static long optionalLong(JsonObject params, String field) {
+        String text = optionalString(params, field);
+        if (text == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Parse a positive decimal
+     * 
+     * @param text Decimal text
+     * @return value, or null if it is not a positive number
+     */
+    private static BigDecimal positiveDecimal(String text) {
+        try {
+            BigDecimal value = new BigDecimal(text);
+            return value.signum() > 0 ? value : null;
+        } catch (NumberFormatException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Convert a fiat amount to a crypto amount
+     * 
+     * @param fiatAmount Fiat amount
+     * @param rate Fiat price of one unit
+     * @return crypto amount with at most 8 decimal places
+     */
+    private static String cryptoAmount(BigDecimal fiatAmount, BigDecimal rate) {
+        return fiatAmount.divide(rate, CRYPTO_SCALE, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Build a successful response
+     * 
+     * @param data Response data, may be null
+     * @return API response
+     */
+    private static JsonObject success(JsonObject data) {
+        JsonObject response = new JsonObject();
+        response.addProperty("code", 200);
+        response.addProperty("message", "success");
+        if (data != null) {
+            response.add("data", data);
+        }
+        return response;
+    }
+
+    /**
+     * Build an error response
+     * 
+     * @param code Business or HTTP code
+     * @param message Error message
+     * @return API response
+     */
+    private static JsonObject error(int code, String message) {
+        JsonObject response = new JsonObject();
+        response.addProperty("code", code);
+        response.addProperty("message", message);
+        return response;
+    }
+
+    /**
+     * Encode a response
+     * 
+     * @param response API response
+     * @return UTF-8 JSON bytes
+     */
+    private static byte[] bytes(JsonObject response) {
+        return response.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stop the clock and the callback sender; queued callbacks are discarded
+     */
+    @Override
+    public void close() {
+        stopClock();
+        callbacks.close();
+    }
+
+    /**
+     * Simulated order, checkout or payout; guarded by the simulator
+     */
+    private static final class Record {
+
+        /** ReelPay ID */
+        final String tradeNo;
+        
+        /** callback_url of the creating request, may be null */
+        final String callbackUrl;
+        
+        /** Fields returned by queries and sent in callbacks */
+        final JsonObject data = new JsonObject();
+        
+        /** Current status */
+        String status = STATUS_PENDING;
+        
+        Record(String tradeNo, String callbackUrl) {
+            this.tradeNo = tradeNo;
+            this.callbackUrl = callbackUrl;
+            data.addProperty("trade_no", tradeNo);
+            data.addProperty("status", STATUS_PENDING);
+        }
+    }
+
+    /**
+     * Status change scheduled on the virtual clock
+     */
+    private static final class Transition implements Comparable<Transition> {
+
+        /** Virtual time of the change */
+        final long atMillis;
+        
+        /** Scheduling order, breaking ties in time */
+        final long sequence;
+        
+        /** Order or payout that changes */
+        final Record record;
+        
+        /** New status */
+        final String status;
+        
+        /** Lifecycle the record was created under */
+        final OrderLifecycle rules;
+        
+        Transition(long atMillis, long sequence, Record record, String status, OrderLifecycle rules) {
+            this.atMillis = atMillis;
+            this.sequence = sequence;
+            this.record = record;
+            this.status = status;
+            this.rules = rules;
+        }
+        
+        @Override
+        public int compareTo(Transition other) {
+            int byTime = Long.compare(atMillis, other.atMillis);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
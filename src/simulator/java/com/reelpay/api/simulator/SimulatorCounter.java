@@ -0,0 +1,40 @@
+package com.reelpay.api.simulator;
+
+/**
+ * Events counted by the ReelPay simulator
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public enum SimulatorCounter {
+
+    /** API calls received, including health probes */
+    REQUESTS,
+
+    /** API calls answered with an injected 5xx before processing */
+    SERVER_ERRORS,
+
+    /** API calls processed but answered with an injected 5xx */
+    LOST_RESPONSES,
+
+    /** API calls rejected for a missing or wrong signature */
+    BAD_SIGNATURES,
+
+    /** Order and payout status changes */
+    STATUS_CHANGES,
+
+    /** Callbacks the receiver accepted with a 2xx, duplicates included */
+    CALLBACKS_DELIVERED,
+
+    /** Callbacks dropped by fault injection */
+    CALLBACKS_DROPPED,
+
+    /** Callbacks delivered a second time by fault injection */
+    CALLBACKS_DUPLICATED,
+
+    /** Callbacks held back behind the next one by fault injection */
+    CALLBACKS_REORDERED,
+
+    /** Callbacks abandoned after every delivery attempt failed */
+    CALLBACKS_FAILED
+}
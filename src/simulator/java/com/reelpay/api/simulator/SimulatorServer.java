@@ -0,0 +1,158 @@
+package com.reelpay.api.simulator;
+
+import com.reelpay.api.HttpRequest.TransportRequest;
+import com.reelpay.api.HttpRequest.TransportResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP front end for a ReelPaySimulator
+ * 
+ * Serves the simulator on a loopback port with the JDK's own HTTP server, so a soak
+ * test can also exercise the real transport, connection pool and failover of the
+ * code under test. Injected timeouts are not applied here because the server does not
+ * know the client's timeout; the client's own timeout fires instead.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class SimulatorServer implements Closeable {
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every
+        // keep-alive exchange waits out a delayed ACK, about 40 ms on Linux loopback
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /** Simulator answering the requests */
+    private final ReelPaySimulator simulator;
+    
+    /** Underlying JDK server */
+    private final HttpServer server;
+    
+    /** Handler threads */
+    private final ExecutorService executor;
+
+    /**
+     * Serve a simulator on an ephemeral loopback port
+     * 
+     * @param simulator Simulator answering the requests
+     * @param threads Number of handler threads
+     * @throws IOException if the server cannot bind
+     */
+    public SimulatorServer(ReelPaySimulator simulator, int threads) throws IOException {
+        this(simulator, 0, threads);
+    }
+
+    /**
+     * Serve a simulator on a loopback port
+     * 
+     * @param simulator Simulator answering the requests
+     * @param port Port to bind, 0 for an ephemeral port
+     * @param threads Number of handler threads
+     * @throws IOException if the server cannot bind
+     */
+    public SimulatorServer(ReelPaySimulator simulator, int port, int threads) throws IOException {
+        if (simulator == null) {
+            throw new IllegalArgumentException("Simulator cannot be null");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.simulator = simulator;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "reelpay-simulator-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Get the base URL to pass to the SDK
+     * 
+     * @return base URL such as http://127.0.0.1:54321
+     */
+    public String getUrl() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Hand one exchange to the simulator
+     * 
+     * @param exchange HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = readAll(in);
+        }
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : exchange.getRequestHeaders().entrySet()) {
+            if (!header.getValue().isEmpty()) {
+                headers.put(header.getKey(), header.getValue().get(0));
+            }
+        }
+        
+        TransportRequest request = new TransportRequest(exchange.getRequestMethod(),
+                exchange.getRequestURI().toString(), headers, body);
+        try (TransportResponse response = simulator.execute(request)) {
+            byte[] answer = readAll(response.getBody());
+            if (TransportRequest.METHOD_HEAD.equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(response.getStatusCode(), -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.getStatusCode(), answer.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(answer);
+            }
+        }
+    }
+
+    /**
+     * Read a request or response body
+     * 
+     * @param in Body stream
+     * @return body bytes
+     * @throws IOException if reading fails
+     */
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int read;
+        while ((read = in.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Stop the server immediately; the simulator stays open
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,116 @@
+package com.reelpay.api.HttpRequest;
+
+import com.reelpay.api.Transactions;
+import com.reelpay.api.constants.ReelPayConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Hedging and failover tests for idempotent reads
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class ClientHedgeTest {
+
+    /** Response of an order query */
+    private static final String ORDER = "{\"code\":200,\"message\":\"success\",\"data\":{\"trade_no\":\"RP-1\"}}";
+    
+    /** Number of reads sent to the transport, probes excluded */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void fastServerErrorFromTheHedgeDoesNotBeatAHealthyPrimary() {
+        Transactions transactions = transactions(50, Arrays.asList(
+                request -> {
+                    sleep(500);
+                    return ok();
+                },
+                request -> TransportResponse.of(502, new byte[0])));
+        
+        assertEquals("RP-1", transactions.queryOrderInfo("RP-1").getAsJsonObject("data").get("trade_no").getAsString());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void serverErrorBeforeTheHedgeDelayFailsOver() {
+        Transactions transactions = transactions(500, Arrays.asList(
+                request -> TransportResponse.of(502, new byte[0]),
+                request -> ok()));
+        
+        assertEquals("RP-1", transactions.queryOrderInfo("RP-1").getAsJsonObject("data").get("trade_no").getAsString());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void connectionFailureBeforeTheHedgeDelayFailsOver() {
+        Transactions transactions = transactions(500, Arrays.asList(
+                request -> {
+                    throw new IOException("connection refused");
+                },
+                request -> ok()));
+        
+        assertEquals("RP-1", transactions.queryOrderInfo("RP-1").getAsJsonObject("data").get("trade_no").getAsString());
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * Build a client over two base URLs whose reads follow a script
+     * 
+     * @param latencyMillis Latency recorded for order queries, which sets the hedge delay
+     * @param script Transport behaviour for each read, in call order
+     * @return Transactions instance
+     */
+    private Transactions transactions(long latencyMillis, List<Transport> script) {
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(10, 10_000, 0.99, 0.95);
+        for (int i = 0; i < 100; i++) {
+            timeouts.record(ReelPayConstants.ENDPOINT_QUERY_ORDER, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+        Transactions transactions = new Transactions("test-app-id", "test-app-key",
+                Arrays.asList("http://127.0.0.1:9", "http://127.0.0.2:9"));
+        transactions.setAdaptiveTimeouts(timeouts);
+        transactions.setTransport(request -> {
+            if ("HEAD".equals(request.getMethod())) {
+                return TransportResponse.of(200, new byte[0]);
+            }
+            int call = calls.getAndIncrement();
+            if (call >= script.size()) {
+                throw new IOException("Unexpected call " + call + " to " + request.getUrl());
+            }
+            return script.get(call).execute(request);
+        });
+        return transactions;
+    }
+
+    /**
+     * Build a successful order query response
+     * 
+     * @return TransportResponse instance
+     */
+    private static TransportResponse ok() {
+        return TransportResponse.of(200, ORDER.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sleep, turning an interrupt into the IOException a cancelled call would raise
+     * 
+     * @param millis Time to sleep
+     * @throws IOException if interrupted
+     */
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.reelpay.api.bench;
+
+import com.reelpay.api.HttpRequest.Cover;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.checkout.CheckoutTemplate;
+import com.reelpay.api.constants.ReelPayConstants;
+import com.reelpay.api.util.HmacSigner;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the request and callback hot paths
+ * 
+ * Runs each operation until it is warmed up, then measures the bytes it allocates on
+ * the calling thread with the per-thread allocation counter of
+ * com.sun.management.ThreadMXBean. Each operation is measured several times and the
+ * lowest figure is kept, so a stray JIT or GC event does not count against it. The
+ * test fails when an operation allocates more than its budget.
+ * 
+ * Budgets depend on the JDK, so they are kept per Java specification version in
+ * allocation-budgets/&lt;version&gt;.properties on the test class path. The test is
+ * skipped with a warning when there is no budget file for the running JDK. With
+ * -Dallocation.record=true the budget file for the running JDK is rewritten from the
+ * measurements plus {@value #HEADROOM_PERCENT}% headroom instead.
+ * 
+ * HTTP operations run against a {@link StandInServer}; its threads allocate on their
+ * own account, so only the client side is measured.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class AllocationBudgetTest {
+
+    /** System property that switches to recording budgets */
+    static final String RECORD_PROPERTY = "allocation.record";
+    
+    /** System property naming the budget source directory to record into */
+    static final String BUDGETS_DIR_PROPERTY = "allocation.budgets.dir";
+    
+    /** Class path directory of the budget files */
+    static final String BUDGETS_RESOURCE = "/allocation-budgets/";
+    
+    /** Headroom added to measurements when recording budgets */
+    static final int HEADROOM_PERCENT = 10;
+    
+    /** Measured rounds per operation */
+    private static final int ROUNDS = 5;
+    
+    /** Application ID used against the stand-in */
+    private static final String APP_ID = "bench-app-id";
+    
+    /** Application key used against the stand-in */
+    private static final String APP_KEY = "bench-app-key";
+    
+    /** Representative order request body */
+    private static final String ORDER_BODY = "{\"out_trade_no\":\"BENCH-1\",\"currency_id\":\"currency_id\","
+            + "\"fiat_name\":\"USD\",\"fiat_amount\":\"10.00\"}";
+
+    /** Representative callback body */
+    private static final String CALLBACK_BODY = "{\"trade_no\":\"RP-BENCH-1\",\"out_trade_no\":\"BENCH-1\","
+            + "\"status\":\"PAID\",\"fiat_name\":\"USD\",\"fiat_amount\":\"10.00\"}";
+
+    @Test
+    void hotPathsStayWithinBudget() throws Exception {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        assumeTrue(threads != null, "Per-thread allocation counters are not available on this JVM");
+        
+        String jdk = System.getProperty("java.specification.version");
+        boolean record = Boolean.getBoolean(RECORD_PROPERTY);
+        Properties budgets = record ? null : readBudgets(jdk);
+        if (!record && budgets == null) {
+            String warning = "No allocation budgets for Java " + jdk + "; record them with -D" + RECORD_PROPERTY + "=true";
+            System.err.println("WARNING: " + warning);
+            assumeTrue(false, warning);
+        }
+        
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Map<String, Long> measured = new LinkedHashMap<>();
+        try (StandInServer standIn = new StandInServer(1)) {
+            for (Map.Entry<String, Operation> operation : operations(standIn.getUrl()).entrySet()) {
+                measured.put(operation.getKey(), measure(threads, operation.getValue()));
+            }
+        }
+        
+        if (record) {
+            Path file = writeBudgets(jdk, measured);
+            for (Map.Entry<String, Long> entry : measured.entrySet()) {
+                System.out.printf("%-24s %8d B/op  recorded%n", entry.getKey(), entry.getValue());
+            }
+            System.out.println("Budgets written to " + file);
+            return;
+        }
+        
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            String budgetValue = budgets.getProperty(entry.getKey());
+            if (budgetValue == null) {
+                failures.add(entry.getKey() + ": " + entry.getValue() + " B/op, no budget");
+                continue;
+            }
+            long budget = Long.parseLong(budgetValue.trim());
+            System.out.printf("%-24s %8d B/op  budget %8d%n", entry.getKey(), entry.getValue(), budget);
+            if (entry.getValue() > budget) {
+                failures.add(entry.getKey() + ": " + entry.getValue() + " B/op, budget " + budget);
+            }
+        }
+        assertTrue(failures.isEmpty(), "Over the allocation budget for Java " + jdk + " " + failures
+                + "; if the increase is intended, re-record with -D" + RECORD_PROPERTY + "=true");
+    }
+
+    @Test
+    void headroomRoundsUpToEightBytes() {
+        assertEquals(1104, withHeadroom(1000));
+        assertEquals(16, withHeadroom(8));
+        assertEquals(0, withHeadroom(0));
+    }
+
+    /**
+     * Build the measured operations
+     * 
+     * @param apiUrl Stand-in server URL
+     * @return operations by budget name, in measuring order
+     */
+    private static Map<String, Operation> operations(String apiUrl) {
+        Transactions transactions = new Transactions(APP_ID, APP_KEY, apiUrl);
+        HmacSigner signer = HmacSigner.sha256(APP_KEY);
+        
+        Cover callbackCover = new Cover(signer, CALLBACK_BODY);
+        callbackCover.hmacSHA256Sign();
+        HashMap<String, String> callbackHeaders = new HashMap<>();
+        callbackHeaders.put(ReelPayConstants.HEADER_APP_ID, APP_ID);
+        callbackHeaders.put(ReelPayConstants.HEADER_TIMESTAMP, String.valueOf(callbackCover.getTimestamp()));
+        callbackHeaders.put(ReelPayConstants.HEADER_SIGNATURE, callbackCover.getSign());
+        
+        CheckoutTemplate checkout = new CheckoutTemplate("USD", "Bench product", "https://example.com/bench.png",
+                "Bench product description", "https://example.com/callback");
+        
+        Map<String, Operation> operations = new LinkedHashMap<>();
+        operations.put("cover.sign", new Operation(20_000, 2_000, () -> new Cover(signer, ORDER_BODY).hmacSHA256Sign()));
+        operations.put("checkout.template", new Operation(20_000, 2_000,
+                () -> Cover.signEncoded(signer, checkout.encode("BENCH-1", "10.00", 1_700_000_000L), 1_700_000_000L)));
+        operations.put("callback.verify", new Operation(20_000, 2_000, () -> {
+            if (!transactions.verifyCallbackSignature(CALLBACK_BODY, callbackHeaders)) {
+                throw new IllegalStateException("Callback verification failed");
+            }
+        }));
+        operations.put("client.createOrder", new Operation(3_000, 300,
+                () -> transactions.createOrder("BENCH-1", "currency_id", ReelPayConstants.FIAT_USD, "10.00")));
+        operations.put("client.queryOrderInfo", new Operation(3_000, 300, () -> transactions.queryOrderInfo("RP-BENCH-1")));
+        return operations;
+    }
+
+    /**
+     * Measure the bytes one operation allocates on this thread
+     * 
+     * @param threads Thread MXBean with allocation counters
+     * @param operation Operation to measure
+     * @return lowest bytes per call over the measured rounds
+     */
+    private static long measure(com.sun.management.ThreadMXBean threads, Operation operation) {
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < operation.warmUp; i++) {
+            operation.body.run();
+        }
+        
+        long[] rounds = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < operation.iterations; i++) {
+                operation.body.run();
+            }
+            rounds[round] = (threads.getThreadAllocatedBytes(threadId) - before) / operation.iterations;
+        }
+        Arrays.sort(rounds);
+        return rounds[0];
+    }
+
+    /**
+     * Get the thread MXBean if it exposes allocation counters
+     * 
+     * @return HotSpot thread MXBean, or null if counters are unsupported
+     */
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        return threads.isThreadAllocatedMemorySupported() ? threads : null;
+    }
+
+    /**
+     * Read the budgets for a Java version from the test class path
+     * 
+     * @param jdk Java specification version
+     * @return budgets by operation name, or null if there are none for this version
+     * @throws IOException if the budgets cannot be read
+     */
+    private static Properties readBudgets(String jdk) throws IOException {
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGETS_RESOURCE + jdk + ".properties")) {
+            if (in == null) {
+                return null;
+            }
+            Properties budgets = new Properties();
+            budgets.load(in);
+            return budgets;
+        }
+    }
+
+    /**
+     * Write measurements plus headroom as the new budgets for a Java version
+     * 
+     * @param jdk Java specification version
+     * @param measured Bytes per call by operation name
+     * @return budget file written
+     * @throws IOException if the file cannot be written
+     */
+    private static Path writeBudgets(String jdk, Map<String, Long> measured) throws IOException {
+        String directory = System.getProperty(BUDGETS_DIR_PROPERTY);
+        if (directory == null) {
+            throw new IllegalStateException("Set " + BUDGETS_DIR_PROPERTY + " to the budget source directory to record budgets");
+        }
+        Path file = Paths.get(directory, jdk + ".properties");
+        StringBuilder out = new StringBuilder()
+                .append("# Bytes allocated per call on the calling thread, checked by AllocationBudgetTest.\n")
+                .append("# Re-record after an intended change: mvn test -Dtest=AllocationBudgetTest -D")
+                .append(RECORD_PROPERTY).append("=true\n")
+                .append("# Recorded on ").append(System.getProperty("java.vm.name")).append(' ')
+                .append(System.getProperty("java.version")).append(" with ")
+                .append(HEADROOM_PERCENT).append("% headroom\n");
+        for (Map.Entry<String, Long> entry : new TreeMap<>(measured).entrySet()) {
+            out.append(entry.getKey()).append('=').append(withHeadroom(entry.getValue())).append('\n');
+        }
+        Files.createDirectories(file.getParent());
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            stream.write(out.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+        return file;
+    }
+
+    /**
+     * Add headroom to a measurement, rounded up to a multiple of 8 bytes
+     * 
+     * @param bytes Measured bytes per call
+     * @return budget
+     */
+    static long withHeadroom(long bytes) {
+        long budget = bytes + (bytes * HEADROOM_PERCENT + 99) / 100;
+        return (budget + 7) & ~7L;
+    }
+
+    /**
+     * One measured operation
+     */
+    private static final class Operation {
+
+        /** Calls before measuring */
+        final int warmUp;
+        
+        /** Calls per measured round */
+        final int iterations;
+        
+        /** Operation body */
+        final Runnable body;
+        
+        Operation(int warmUp, int iterations, Runnable body) {
+            this.warmUp = warmUp;
+            this.iterations = iterations;
+            this.body = body;
+        }
+    }
+}
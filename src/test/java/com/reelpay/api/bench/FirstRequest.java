@@ -0,0 +1,88 @@
+package com.reelpay.api.bench;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.HttpRequest.Cover;
+import com.reelpay.api.HttpRequest.Transport;
+import com.reelpay.api.Transactions;
+import com.reelpay.api.constants.ReelPayConstants;
+
+import java.util.HashMap;
+
+/**
+ * Representative first request of a short-lived SDK consumer
+ * 
+ * Creates a client, makes a signed order creation and an order query against the
+ * given base URL, parses both responses and verifies a signed callback, then prints
+ * a result line and exits. This is the training run for the AppCDS archive built by
+ * the appcds profile and the workload timed by {@link StartupBenchmark}.
+ * 
+ * Usage: FirstRequest [apiUrl]. Without a URL a {@link StandInServer} is started in
+ * this JVM, which is what the training run does. -Dbench.transport=jdk switches from
+ * the default OkHttp transport to JdkHttpTransport, which needs the jdk11 classifier
+ * JAR on the class path.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class FirstRequest {
+
+    /** Line printed once the first request has completed */
+    static final String RESULT_PREFIX = "first-request-done ";
+    
+    /** System property selecting the transport: okhttp (default) or jdk */
+    static final String TRANSPORT_PROPERTY = "bench.transport";
+    
+    /** JDK HttpClient transport, loaded by name since it ships in the jdk11 classifier */
+    private static final String JDK_TRANSPORT = "com.reelpay.api.HttpRequest.JdkHttpTransport";
+    
+    /** Application ID used against the stand-in */
+    private static final String APP_ID = "bench-app-id";
+    
+    /** Application key used against the stand-in */
+    private static final String APP_KEY = "bench-app-key";
+
+    // Private constructor to prevent instantiation
+    private FirstRequest() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Run the workload and exit
+     * 
+     * @param args Optional API base URL
+     * @throws Exception if the workload fails
+     */
+    public static void main(String[] args) throws Exception {
+        StandInServer standIn = args.length == 0 ? new StandInServer(1) : null;
+        String apiUrl = standIn != null ? standIn.getUrl() : args[0];
+        try {
+            Transactions transactions = new Transactions(APP_ID, APP_KEY, apiUrl);
+            if ("jdk".equals(System.getProperty(TRANSPORT_PROPERTY))) {
+                transactions.setTransport((Transport) Class.forName(JDK_TRANSPORT).getDeclaredConstructor().newInstance());
+            }
+            
+            JsonObject order = transactions.createOrder("BENCH-1", "currency_id", ReelPayConstants.FIAT_USD, "10.00");
+            JsonObject orderInfo = transactions.queryOrderInfo(order.getAsJsonObject("data").get("trade_no").getAsString());
+            
+            String callbackBody = orderInfo.toString();
+            Cover cover = new Cover(APP_KEY, callbackBody);
+            cover.hmacSHA256Sign();
+            HashMap<String, String> headers = new HashMap<>();
+            headers.put(ReelPayConstants.HEADER_APP_ID, APP_ID);
+            headers.put(ReelPayConstants.HEADER_TIMESTAMP, String.valueOf(cover.getTimestamp()));
+            headers.put(ReelPayConstants.HEADER_SIGNATURE, cover.getSign());
+            if (!transactions.verifyCallbackSignature(callbackBody, headers)) {
+                throw new IllegalStateException("Callback verification failed");
+            }
+            
+            System.out.println(RESULT_PREFIX + transactions.getTransactionStatus(orderInfo));
+            System.out.flush();
+        } finally {
+            if (standIn != null) {
+                standIn.close();
+            }
+        }
+        // The archive is written at exit; do not wait for idle pool threads
+        System.exit(0);
+    }
+}
@@ -0,0 +1,159 @@
+package com.reelpay.api.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time and loaded-class count per transport
+ * 
+ * Launches fresh JVMs running {@link FirstRequest} against a local
+ * {@link StandInServer}, once per run for each transport: the default OkHttp
+ * transport and JdkHttpTransport. Each child logs class loading to a file, so the
+ * benchmark reports time-to-first-request, total classes loaded and the classes
+ * loaded from the OkHttp stack (okhttp3, okio, kotlin). JSON decoding always uses
+ * Gson, the only codec the API supports. Children use this JVM's java executable and
+ * class path, which must include the jdk11 classifier JAR.
+ * 
+ * Usage: FootprintBenchmark [runs]
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class FootprintBenchmark {
+
+    /** Default number of runs per transport */
+    private static final int DEFAULT_RUNS = 10;
+    
+    /** Transports measured, as values of {@link FirstRequest#TRANSPORT_PROPERTY} */
+    private static final String[] TRANSPORTS = {"okhttp", "jdk"};
+    
+    /** Class name prefixes of the OkHttp stack */
+    private static final String[] OKHTTP_PACKAGES = {"okhttp3.", "okio.", "kotlin."};
+
+    // Private constructor to prevent instantiation
+    private FootprintBenchmark() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Run the benchmark and print a summary
+     * 
+     * @param args Optional number of runs per transport
+     * @throws Exception if a child JVM fails
+     */
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        if (runs <= 0) {
+            throw new IllegalArgumentException("Runs must be positive");
+        }
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+        
+        long[][] times = new long[TRANSPORTS.length][runs];
+        long[][] classes = new long[TRANSPORTS.length][runs];
+        long[][] okHttpClasses = new long[TRANSPORTS.length][runs];
+        Path classLog = Files.createTempFile("reelpay-footprint", ".log");
+        try (StandInServer standIn = new StandInServer(2)) {
+            for (String transport : TRANSPORTS) {
+                // Untimed warm-up of the OS file cache
+                launch(java, classPath, transport, classLog, standIn.getUrl());
+            }
+            for (int i = 0; i < runs; i++) {
+                for (int t = 0; t < TRANSPORTS.length; t++) {
+                    times[t][i] = launch(java, classPath, TRANSPORTS[t], classLog, standIn.getUrl());
+                    long[] counts = countClasses(classLog);
+                    classes[t][i] = counts[0];
+                    okHttpClasses[t][i] = counts[1];
+                }
+            }
+        } finally {
+            Files.deleteIfExists(classLog);
+        }
+        
+        System.out.println("Java " + System.getProperty("java.version") + ", " + runs + " runs per transport, Gson codec");
+        System.out.printf("%-10s %28s %14s %14s%n", "", "time to first request (ms)", "classes", "OkHttp stack");
+        System.out.printf("%-10s %9s %9s %9s %14s %14s%n", "transport", "min", "median", "p90", "median", "median");
+        for (int t = 0; t < TRANSPORTS.length; t++) {
+            System.out.printf("%-10s %9d %9d %9d %14d %14d%n", TRANSPORTS[t],
+                    StartupBenchmark.percentile(times[t], 0.0), StartupBenchmark.percentile(times[t], 0.5),
+                    StartupBenchmark.percentile(times[t], 0.9), StartupBenchmark.percentile(classes[t], 0.5),
+                    StartupBenchmark.percentile(okHttpClasses[t], 0.5));
+        }
+    }
+
+    /**
+     * Launch one child JVM and time it
+     * 
+     * @param java Java executable
+     * @param classPath Child class path
+     * @param transport Transport name
+     * @param classLog File the child logs loaded classes to
+     * @param url Stand-in base URL
+     * @return time to first request in milliseconds
+     * @throws IOException if the child cannot be started or fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static long launch(String java, String classPath, String transport, Path classLog, String url)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(Arrays.asList(java,
+                "-D" + FirstRequest.TRANSPORT_PROPERTY + "=" + transport,
+                "-Xlog:class+load=info:file=" + classLog,
+                "-cp", classPath, FirstRequest.class.getName(), url));
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        
+        long start = System.nanoTime();
+        Process process = builder.start();
+        long firstRequest = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (firstRequest < 0 && line.startsWith(FirstRequest.RESULT_PREFIX)) {
+                    firstRequest = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                } else {
+                    System.err.println("child: " + line);
+                }
+            }
+        }
+        int exit = process.waitFor();
+        if (exit != 0 || firstRequest < 0) {
+            throw new IOException("Child JVM (" + transport + ") failed with exit code " + exit);
+        }
+        return firstRequest;
+    }
+
+    /**
+     * Count the classes a child logged as loaded
+     * 
+     * @param classLog Class loading log
+     * @return total classes and classes of the OkHttp stack
+     * @throws IOException if the log cannot be read
+     */
+    private static long[] countClasses(Path classLog) throws IOException {
+        long total = 0;
+        long okHttp = 0;
+        for (String line : Files.readAllLines(classLog, StandardCharsets.UTF_8)) {
+            // [0.012s][info][class,load] okhttp3.OkHttpClient source: file:/...
+            int name = line.indexOf("] ");
+            if (!line.contains("[class,load]") || name < 0) {
+                continue;
+            }
+            total++;
+            for (String prefix : OKHTTP_PACKAGES) {
+                if (line.startsWith(prefix, name + 2)) {
+                    okHttp++;
+                    break;
+                }
+            }
+        }
+        return new long[] {total, okHttp};
+    }
+}
@@ -0,0 +1,111 @@
+package com.reelpay.api.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for the ReelPay API used by the benchmarks
+ * 
+ * Built on the JDK's own HTTP server so benchmarks need nothing beyond the SDK's
+ * dependencies. Every POST is answered with the same successful order response and
+ * HEAD requests (endpoint health probes) with an empty 200.
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class StandInServer implements Closeable {
+
+    /** Canned response body for API calls */
+    private static final byte[] RESPONSE = ("{\"code\":200,\"message\":\"success\",\"data\":{"
+            + "\"trade_no\":\"BENCH0000000001\",\"out_trade_no\":\"BENCH-1\",\"status\":\"PAID\","
+            + "\"currency\":\"USDT\",\"amount\":\"10.00\",\"fiat_currency\":\"USD\",\"fiat_amount\":\"10.00\"}}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every
+        // keep-alive exchange waits out a delayed ACK, about 40 ms on Linux loopback
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /** Underlying JDK server */
+    private final HttpServer server;
+    
+    /** Handler threads */
+    private final ExecutorService executor;
+
+    /**
+     * Start a stand-in on an ephemeral loopback port
+     * 
+     * @param threads Number of handler threads
+     * @throws IOException if the server cannot bind
+     */
+    public StandInServer(int threads) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "reelpay-stand-in");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", StandInServer::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Get the base URL to pass to the SDK
+     * 
+     * @return base URL such as http://127.0.0.1:54321
+     */
+    public String getUrl() {
+        return "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Answer one request
+     * 
+     * @param exchange HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            while (in.read(buffer) != -1) {
+                // drain the request body so the connection can be reused
+            }
+        }
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESPONSE.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(RESPONSE);
+        }
+    }
+
+    /**
+     * Stop the server immediately
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
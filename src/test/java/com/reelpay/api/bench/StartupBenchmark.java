@@ -0,0 +1,155 @@
+package com.reelpay.api.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark for short-lived SDK consumers
+ * 
+ * Launches fresh JVMs running {@link FirstRequest} against a local
+ * {@link StandInServer}, alternating runs without and with the AppCDS archive, and
+ * reports time-to-first-request (until the result line is printed) and total process
+ * time. Children use this JVM's java executable and class path; an archive only
+ * applies when the class path matches the one it was dumped with and consists of JAR
+ * files.
+ * 
+ * Usage: StartupBenchmark archive.jsa [runs]
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+public final class StartupBenchmark {
+
+    /** Default number of runs per configuration */
+    private static final int DEFAULT_RUNS = 10;
+
+    // Private constructor to prevent instantiation
+    private StartupBenchmark() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Run the benchmark and print a summary
+     * 
+     * @param args Archive path and optional number of runs per configuration
+     * @throws Exception if a child JVM fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: StartupBenchmark archive.jsa [runs]");
+            System.exit(2);
+        }
+        File archive = new File(args[0]);
+        if (!archive.isFile()) {
+            throw new IllegalArgumentException("Archive not found: " + archive + " (build it with mvn package -Pappcds)");
+        }
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        if (runs <= 0) {
+            throw new IllegalArgumentException("Runs must be positive");
+        }
+        
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classPath = System.getProperty("java.class.path");
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (new File(entry).isDirectory()) {
+                System.err.println("warning: class path entry " + entry + " is a directory; the archive will not be used");
+            }
+        }
+        
+        List<String> baseline = Arrays.asList(java, "-cp", classPath, FirstRequest.class.getName());
+        List<String> withArchive = Arrays.asList(java, "-XX:SharedArchiveFile=" + archive.getPath(),
+                "-cp", classPath, FirstRequest.class.getName());
+        
+        long[][] baselineTimes = new long[2][runs];
+        long[][] archiveTimes = new long[2][runs];
+        try (StandInServer standIn = new StandInServer(2)) {
+            // Untimed warm-up of the OS file cache for both configurations
+            launch(baseline, standIn.getUrl());
+            launch(withArchive, standIn.getUrl());
+            for (int i = 0; i < runs; i++) {
+                long[] first = launch(baseline, standIn.getUrl());
+                baselineTimes[0][i] = first[0];
+                baselineTimes[1][i] = first[1];
+                long[] second = launch(withArchive, standIn.getUrl());
+                archiveTimes[0][i] = second[0];
+                archiveTimes[1][i] = second[1];
+            }
+        }
+        
+        System.out.println("Java " + System.getProperty("java.version") + ", " + runs + " runs per configuration");
+        System.out.printf("%-16s %28s %28s%n", "", "time to first request (ms)", "process time (ms)");
+        System.out.printf("%-16s %9s %9s %9s %9s %9s %9s%n", "", "min", "median", "p90", "min", "median", "p90");
+        print("default CDS", baselineTimes);
+        print("SDK archive", archiveTimes);
+        System.out.printf("%nMedian time to first request: %.0f%% of the default%n",
+                100.0 * percentile(archiveTimes[0], 0.5) / percentile(baselineTimes[0], 0.5));
+    }
+
+    /**
+     * Launch one child JVM and time it
+     * 
+     * @param command Command line without the URL argument
+     * @param url Stand-in base URL
+     * @return time to first request and total process time, in milliseconds
+     * @throws IOException if the child cannot be started or fails
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static long[] launch(List<String> command, String url) throws IOException, InterruptedException {
+        List<String> args = new ArrayList<>(command);
+        args.add(url);
+        ProcessBuilder builder = new ProcessBuilder(args).redirectErrorStream(true);
+        
+        long start = System.nanoTime();
+        Process process = builder.start();
+        long firstRequest = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (firstRequest < 0 && line.startsWith(FirstRequest.RESULT_PREFIX)) {
+                    firstRequest = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                } else {
+                    System.err.println("child: " + line);
+                }
+            }
+        }
+        int exit = process.waitFor();
+        long total = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (exit != 0 || firstRequest < 0) {
+            throw new IOException("Child JVM failed with exit code " + exit);
+        }
+        return new long[] {firstRequest, total};
+    }
+
+    /**
+     * Print one configuration's row
+     * 
+     * @param label Configuration name
+     * @param times Time to first request and process times
+     */
+    private static void print(String label, long[][] times) {
+        System.out.printf("%-16s %9d %9d %9d %9d %9d %9d%n", label,
+                percentile(times[0], 0.0), percentile(times[0], 0.5), percentile(times[0], 0.9),
+                percentile(times[1], 0.0), percentile(times[1], 0.5), percentile(times[1], 0.9));
+    }
+
+    /**
+     * Nearest-rank percentile of a sample
+     * 
+     * @param sample Values
+     * @param p Percentile between 0 and 1
+     * @return value at the percentile
+     */
+    static long percentile(long[] sample, double p) {
+        long[] sorted = sample.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
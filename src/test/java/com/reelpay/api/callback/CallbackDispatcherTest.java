@@ -0,0 +1,95 @@
+package com.reelpay.api.callback;
+
+import com.google.gson.JsonObject;
+import com.reelpay.api.Transactions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for CallbackDispatcher worker failure handling
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class CallbackDispatcherTest {
+
+    @Test
+    void handlerErrorsAreCountedAndTheStripeKeepsGoing() {
+        List<String> handled = new CopyOnWriteArrayList<>();
+        CallbackDispatcher dispatcher = new CallbackDispatcher(transactions(), event -> {
+            if ("FAIL".equals(event.getStatus())) {
+                throw new AssertionError("handler bug");
+            }
+            if ("THROW".equals(event.getStatus())) {
+                throw new IllegalStateException("handler failure");
+            }
+            handled.add(event.getStatus());
+        }, 1, 2, WaitStrategy.PARKING);
+        
+        // More events than slots: a dead worker would leave publish() blocked
+        for (String status : new String[] {"PAID", "FAIL", "THROW", "FAIL", "REFUNDED", "CLOSE"}) {
+            dispatcher.publish(body("RP-1", status));
+        }
+        dispatcher.close();
+        
+        assertEquals(6, dispatcher.getProcessedCount());
+        assertEquals(3, dispatcher.getFailedCount());
+        assertEquals(Arrays.asList("PAID", "REFUNDED", "CLOSE"), handled);
+    }
+
+    @Test
+    void interruptedHandlerStopsItsStripeWithoutDroppingTheEvent() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CallbackDispatcher dispatcher = new CallbackDispatcher(transactions(), event -> {
+            worker.set(Thread.currentThread());
+            waiting.countDown();
+            // Stands in for a handler waiting for demand, as CallbackPublisher does
+            new CountDownLatch(1).await();
+        }, 1, 2, WaitStrategy.PARKING);
+        dispatcher.publish(body("RP-1", "PAID"));
+        assertTrue(waiting.await(10, TimeUnit.SECONDS));
+
+        worker.get().interrupt();
+        worker.get().join(10_000);
+        
+        assertEquals(0, dispatcher.getProcessedCount());
+        assertEquals(0, dispatcher.getFailedCount());
+        assertEquals(1, dispatcher.getQueueDepth());
+        assertThrows(IllegalStateException.class, () -> dispatcher.publish(body("RP-1", "REFUNDED")));
+        dispatcher.close();
+    }
+
+    /**
+     * Build a client; publish() does not verify signatures
+     * 
+     * @return Transactions instance
+     */
+    private static Transactions transactions() {
+        return new Transactions("test-app-id", "test-app-key", "http://127.0.0.1:9");
+    }
+
+    /**
+     * Build a callback body
+     * 
+     * @param tradeNo ReelPay order ID
+     * @param status Transaction status
+     * @return JsonObject body
+     */
+    private static JsonObject body(String tradeNo, String status) {
+        JsonObject body = new JsonObject();
+        body.addProperty("trade_no", tradeNo);
+        body.addProperty("status", status);
+        return body;
+    }
+}
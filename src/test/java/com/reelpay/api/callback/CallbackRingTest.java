@@ -0,0 +1,132 @@
+package com.reelpay.api.callback;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the callback ring buffer
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class CallbackRingTest {
+
+    @Test
+    void deliversEventsInOrderAcrossWrapAround() {
+        CallbackRing ring = new CallbackRing(4, WaitStrategy.BUSY_SPIN);
+        long sequence = ring.consumedSequence();
+        for (int i = 0; i < 10; i++) {
+            JsonObject body = new JsonObject();
+            ring.publish("RP-" + i, "PAID", body);
+            assertEquals(1, ring.depth());
+            
+            CallbackEvent event = ring.peek(sequence);
+            assertEquals("RP-" + i, event.getTradeNo());
+            assertEquals("PAID", event.getStatus());
+            assertSame(body, event.getBody());
+            ring.release(sequence++);
+            assertEquals(0, ring.depth());
+            assertNull(event.getBody());
+        }
+        assertNull(ring.peek(sequence));
+    }
+
+    @Test
+    void fullRingBlocksTheProducerUntilASlotIsReleased() throws Exception {
+        CallbackRing ring = new CallbackRing(2, WaitStrategy.PARKING);
+        ring.publish("RP-0", "PAID", null);
+        ring.publish("RP-1", "PAID", null);
+        
+        AtomicBoolean published = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            ring.publish("RP-2", "PAID", null);
+            published.set(true);
+        });
+        producer.start();
+        producer.join(100);
+        assertFalse(published.get());
+        assertEquals(3, ring.depth());
+        
+        ring.release(0);
+        producer.join(10_000);
+        assertTrue(published.get());
+        assertEquals("RP-2", ring.peek(2).getTradeNo());
+    }
+
+    @Test
+    void stoppedRingFailsWaitingAndNewProducers() throws Exception {
+        CallbackRing ring = new CallbackRing(1, WaitStrategy.PARKING);
+        ring.publish("RP-0", "PAID", null);
+        
+        CountDownLatch failed = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                ring.publish("RP-1", "PAID", null);
+            } catch (IllegalStateException e) {
+                failed.countDown();
+            }
+        });
+        producer.start();
+        ring.stop();
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> ring.publish("RP-2", "PAID", null));
+    }
+
+    @Test
+    void concurrentProducersKeepPerProducerOrder() throws Exception {
+        CallbackRing ring = new CallbackRing(8, WaitStrategy.YIELDING);
+        int producers = 4;
+        int perProducer = 5_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            String prefix = "P" + p + "-";
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.publish(prefix + i, "PAID", null);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        
+        Map<String, Integer> next = new HashMap<>();
+        long sequence = ring.consumedSequence();
+        int counter = 0;
+        while (sequence < (long) producers * perProducer) {
+            CallbackEvent event = ring.peek(sequence);
+            if (event == null) {
+                counter = WaitStrategy.YIELDING.idle(counter);
+                continue;
+            }
+            String tradeNo = event.getTradeNo();
+            String producer = tradeNo.substring(0, tradeNo.indexOf('-'));
+            int index = Integer.parseInt(tradeNo.substring(tradeNo.indexOf('-') + 1));
+            assertEquals(next.getOrDefault(producer, 0).intValue(), index, "out of order for " + producer);
+            next.put(producer, index + 1);
+            ring.release(sequence++);
+        }
+        for (Thread thread : threads) {
+            thread.join(10_000);
+        }
+        assertEquals(producers, next.size());
+        for (int count : next.values()) {
+            assertEquals(perProducer, count);
+        }
+        assertEquals(0, ring.depth());
+    }
+}
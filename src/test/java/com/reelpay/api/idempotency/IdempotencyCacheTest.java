@@ -0,0 +1,151 @@
+package com.reelpay.api.idempotency;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for IdempotencyCache
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class IdempotencyCacheTest {
+
+    /** Response of a created order */
+    private static final String CREATED = "{\"code\":200,\"message\":\"success\",\"data\":{\"trade_no\":\"RP-1\"}}";
+    
+    /** Business error, returned with HTTP 200 */
+    private static final String RATE_LIMITED = "{\"code\":429,\"message\":\"Too many requests\"}";
+    
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesCreatedOrdersAndAnswersRepeatsWithCopies() {
+        IdempotencyCache cache = new IdempotencyCache(10);
+        AtomicInteger calls = new AtomicInteger();
+        
+        JsonObject first = cache.execute("ORDER-1", () -> respond(calls, CREATED));
+        JsonObject second = cache.execute("ORDER-1", () -> respond(calls, CREATED));
+        
+        assertEquals(1, calls.get());
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertTrue(cache.contains("ORDER-1"));
+    }
+
+    @Test
+    void forgetsBusinessErrorsSoRetriesReachTheApi() {
+        IdempotencyCache cache = new IdempotencyCache(10);
+        AtomicInteger calls = new AtomicInteger();
+        
+        assertEquals(429, cache.execute("ORDER-1", () -> respond(calls, RATE_LIMITED)).get("code").getAsInt());
+        assertFalse(cache.contains("ORDER-1"));
+        
+        assertEquals("RP-1", cache.execute("ORDER-1", () -> respond(calls, CREATED))
+                .getAsJsonObject("data").get("trade_no").getAsString());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void joinedCallersGetTheErrorOfTheCallTheyJoined() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch answer = new CountDownLatch(1);
+        
+        CompletableFuture<JsonObject> first = CompletableFuture.supplyAsync(() -> cache.execute("ORDER-1", () -> {
+            started.countDown();
+            await(answer);
+            return JsonParser.parseString(RATE_LIMITED).getAsJsonObject();
+        }));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<JsonObject> joined = CompletableFuture.supplyAsync(
+                () -> cache.execute("ORDER-1", () -> JsonParser.parseString(CREATED).getAsJsonObject()));
+        // Give the second caller time to join the running call
+        while (cache.getHits() == 0 && !joined.isDone()) {
+            Thread.sleep(1);
+        }
+        answer.countDown();
+        
+        assertEquals(429, first.get(10, TimeUnit.SECONDS).get("code").getAsInt());
+        assertEquals(429, joined.get(10, TimeUnit.SECONDS).get("code").getAsInt());
+        assertFalse(cache.contains("ORDER-1"));
+    }
+
+    @Test
+    void persistsOnlyCreatedOrders() throws IOException {
+        Path file = directory.resolve("idempotency.jsonl");
+        AtomicInteger calls = new AtomicInteger();
+        try (IdempotencyCache cache = new IdempotencyCache(10, file)) {
+            cache.execute("ORDER-1", () -> respond(calls, CREATED));
+            cache.execute("ORDER-2", () -> respond(calls, RATE_LIMITED));
+        }
+        assertEquals(1, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+        
+        try (IdempotencyCache cache = new IdempotencyCache(10, file)) {
+            assertTrue(cache.contains("ORDER-1"));
+            assertFalse(cache.contains("ORDER-2"));
+            cache.execute("ORDER-1", () -> respond(calls, CREATED));
+        }
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void dropsErrorResponsesLeftInTheFileOnLoad() throws IOException {
+        Path file = directory.resolve("idempotency.jsonl");
+        Files.write(file, Arrays.asList(
+                "{\"key\":\"ORDER-1\",\"response\":" + RATE_LIMITED + "}",
+                "{\"key\":\"ORDER-2\",\"response\":" + CREATED + "}",
+                "{\"key\":\"ORDER-2\",\"response\":{\"code\":500,\"message\":\"Duplicate out_trade_no\"}}",
+                "{\"key\":\"ORDER-3\",\"resp"), StandardCharsets.UTF_8);
+        
+        try (IdempotencyCache cache = new IdempotencyCache(10, file)) {
+            assertEquals(0, cache.size());
+        }
+        assertTrue(Files.readAllLines(file, StandardCharsets.UTF_8).isEmpty());
+    }
+
+    /**
+     * Count a call and parse its response
+     * 
+     * @param calls Call counter
+     * @param json Response body
+     * @return parsed response
+     */
+    private static JsonObject respond(AtomicInteger calls, String json) {
+        calls.incrementAndGet();
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+
+    /**
+     * Wait for a latch without checked exceptions
+     * 
+     * @param latch Latch to wait for
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reelpay.api.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Parsing, formatting and rounding tests for Money at the edges of its range
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class MoneyTest {
+
+    @Test
+    void parsesMinorUnitsAtTheLimitsOfLong() {
+        assertEquals(Long.MIN_VALUE, Money.parseMinorUnits("-9223372036854775808", 0));
+        assertEquals(Long.MAX_VALUE, Money.parseMinorUnits("9223372036854775807", 0));
+        assertEquals(Long.MIN_VALUE, Money.parseMinorUnits("-92233720368547758.08", 2));
+        assertEquals(Long.MAX_VALUE, Money.parseMinorUnits("+92233720368547758.070", 2));
+        assertEquals(Long.MIN_VALUE, Money.parseMinorUnits("-9.223372036854775808", 18));
+        
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits("9223372036854775808", 0));
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits("-9223372036854775809", 0));
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits("-92233720368547758.09", 2));
+        // Fits before the missing fraction digit is padded, overflows after
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits("-922337203685477580.8", 2));
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits("10", 18));
+    }
+
+    @Test
+    void parsesBareFractionsAndTrailingPointsLikeBigDecimal() {
+        assertEquals(100, Money.parseMinorUnits("1.", 2));
+        assertEquals(50, Money.parseMinorUnits(".5", 2));
+        assertEquals(-50, Money.parseMinorUnits("-.5", 2));
+        assertEquals(0, Money.parseMinorUnits("-0.00", 2));
+        
+        assertEquals(Money.of(new BigDecimal("1.")), Money.parse("1."));
+        assertEquals(0, Money.parse("1.").getScale());
+        assertEquals(Money.of(new BigDecimal(".5")), Money.parse(".5"));
+        assertEquals("0.5", Money.parse(".5").toString());
+    }
+
+    @Test
+    void rejectsMalformedAmounts() {
+        for (String text : new String[] {"", ".", "-", "+", "-.", "1..0", "1.0.0", "1e3", " 1", "1,000", "--1", "0x10"}) {
+            assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits(text, 2), text);
+        }
+        assertThrows(NumberFormatException.class, () -> Money.parseMinorUnits(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> Money.parseMinorUnits("1", -1));
+        assertThrows(IllegalArgumentException.class, () -> Money.parseMinorUnits("1", Money.MAX_SCALE + 1));
+    }
+
+    @Test
+    void acceptsOnlyZerosBeyondTheScale() {
+        assertEquals(1250, Money.parseMinorUnits("12.5000", 2));
+        assertThrows(ArithmeticException.class, () -> Money.parseMinorUnits("12.501", 2));
+        assertThrows(ArithmeticException.class, () -> Money.parseMinorUnits("0.5", 0));
+    }
+
+    @Test
+    void formatsTheLimitsOfLong() {
+        assertEquals("-92233720368547758.08", Money.ofMinor(Long.MIN_VALUE, 2).toString());
+        assertEquals("92233720368547758.07", Money.ofMinor(Long.MAX_VALUE, 2).toString());
+        assertEquals("-9223372036854775808", Money.ofMinor(Long.MIN_VALUE, 0).toString());
+        assertEquals("-9.223372036854775808", Money.ofMinor(Long.MIN_VALUE, 18).toString());
+        assertEquals("0.000000000000000001", Money.ofMinor(1, 18).toString());
+        assertEquals("-0.05", Money.ofMinor(-5, 2).toString());
+        assertEquals("0", Money.ofMinor(0, 0).toString());
+        
+        StringBuilder builder = new StringBuilder("amount=");
+        assertEquals("amount=-92233720368547758.08", Money.ofMinor(Long.MIN_VALUE, 2).appendTo(builder).toString());
+    }
+
+    @Test
+    void formatRoundTripsThroughParse() {
+        long[] values = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1000, -1, 0, 1, 999, Long.MAX_VALUE};
+        for (int scale = 0; scale <= Money.MAX_SCALE; scale++) {
+            for (long value : values) {
+                Money money = Money.ofMinor(value, scale);
+                assertEquals(money, Money.parse(money.toString()));
+                assertEquals(BigDecimal.valueOf(value, scale).toPlainString(), money.toString());
+            }
+        }
+    }
+
+    @Test
+    void roundsHalfEvenTiesOnBothSides() {
+        assertEquals("-2", Money.parse("-2.5").rescale(0, RoundingMode.HALF_EVEN).toString());
+        assertEquals("-4", Money.parse("-3.5").rescale(0, RoundingMode.HALF_EVEN).toString());
+        assertEquals("2", Money.parse("2.5").rescale(0, RoundingMode.HALF_EVEN).toString());
+        assertEquals("4", Money.parse("3.5").rescale(0, RoundingMode.HALF_EVEN).toString());
+        assertEquals("-0.12", Money.parse("-0.125").rescale(2, RoundingMode.HALF_EVEN).toString());
+        assertEquals("-0.13", Money.parse("-0.1251").rescale(2, RoundingMode.HALF_EVEN).toString());
+    }
+
+    @Test
+    void rescaleMatchesBigDecimalForEveryRoundingMode() {
+        String[] amounts = {"-2.5", "-2.51", "-2.49", "-0.5", "-0.05", "0.05", "0.5", "2.5", "2.49", "2.51", "-1.5", "1.5"};
+        for (RoundingMode rounding : RoundingMode.values()) {
+            if (rounding == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for (String amount : amounts) {
+                BigDecimal expected = new BigDecimal(amount).setScale(0, rounding);
+                assertEquals(Money.of(expected), Money.parse(amount).rescale(0, rounding), amount + " " + rounding);
+            }
+        }
+        Money smallest = Money.ofMinor(Long.MIN_VALUE, 2);
+        assertEquals(Money.of(smallest.toBigDecimal().setScale(0, RoundingMode.HALF_EVEN)),
+                smallest.rescale(0, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    void rescaleRefusesToDropDigitsOrOverflow() {
+        assertEquals("12.50", Money.parse("12.5").rescale(2).toString());
+        assertEquals("12.5", Money.parse("12.50").rescale(1).toString());
+        assertThrows(ArithmeticException.class, () -> Money.parse("12.55").rescale(1));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MIN_VALUE, 0).rescale(1));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE / 10 + 1, 0).rescale(1));
+    }
+}
@@ -0,0 +1,130 @@
+package com.reelpay.api.payout;
+
+import com.reelpay.api.HttpRequest.Transport;
+import com.reelpay.api.HttpRequest.TransportResponse;
+import com.reelpay.api.Transactions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Journaling and settlement tests for PayoutDispatcher
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class PayoutDispatcherTest {
+
+    /** Response of an accepted payout */
+    private static final String ACCEPTED = "{\"code\":200,\"message\":\"success\",\"data\":{\"trade_no\":\"RP-2\"}}";
+    
+    @TempDir
+    Path directory;
+    
+    /** Transport behaviour for the next calls */
+    private final AtomicReference<Transport> behaviour = new AtomicReference<>(request -> {
+        throw new IOException("connection reset");
+    });
+    
+    /** Number of calls that reached the transport */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void resolveAndAbandonWaitForAnInFlightRetry() throws Exception {
+        try (PayoutDispatcher dispatcher = new PayoutDispatcher(transactions(), directory.resolve("payouts.journal"), 2)) {
+            PayoutOutcome first = dispatcher.submit(intent("intent-1")).get(10, TimeUnit.SECONDS);
+            assertEquals(PayoutState.IN_DOUBT, first.getState());
+            
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch answer = new CountDownLatch(1);
+            behaviour.set(request -> {
+                entered.countDown();
+                try {
+                    answer.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("interrupted", e);
+                }
+                return TransportResponse.of(200, ACCEPTED.getBytes(StandardCharsets.UTF_8));
+            });
+            CompletableFuture<PayoutOutcome> retry = dispatcher.retry("intent-1", "123456");
+            assertTrue(entered.await(10, TimeUnit.SECONDS));
+            int callsBefore = calls.get();
+            
+            assertThrows(IllegalStateException.class, () -> dispatcher.resolve("intent-1", "RP-1"));
+            assertThrows(IllegalStateException.class, () -> dispatcher.abandon("intent-1", "not created"));
+            assertThrows(IllegalStateException.class, () -> dispatcher.retry("intent-1", "123456"));
+            assertEquals(callsBefore, calls.get());
+            
+            answer.countDown();
+            PayoutOutcome outcome = retry.get(10, TimeUnit.SECONDS);
+            assertEquals(PayoutState.ACCEPTED, outcome.getState());
+            assertEquals("RP-2", outcome.getTradeNo());
+            assertTrue(dispatcher.getInDoubt().isEmpty());
+        }
+    }
+
+    @Test
+    void inDoubtPayoutSurvivesRestartUntilAbandoned() throws Exception {
+        Path journal = directory.resolve("payouts.journal");
+        try (PayoutDispatcher dispatcher = new PayoutDispatcher(transactions(), journal, 1)) {
+            assertEquals(PayoutState.IN_DOUBT, dispatcher.submit(intent("intent-1")).get(10, TimeUnit.SECONDS).getState());
+        }
+        
+        try (PayoutDispatcher dispatcher = new PayoutDispatcher(transactions(), journal, 1)) {
+            assertEquals(1, dispatcher.getInDoubt().size());
+            PayoutIntent recovered = dispatcher.getInDoubt().get(0);
+            assertEquals("intent-1", recovered.getIntentId());
+            assertEquals("10.00", recovered.getAmount());
+            assertNull(recovered.getGoogleCode());
+            assertNull(recovered.getCallbackUrl());
+            assertTrue(dispatcher.getPending().isEmpty());
+            
+            assertEquals(PayoutState.REJECTED, dispatcher.abandon("intent-1", "not created").getState());
+            // The entry is gone, so a second settlement is refused
+            assertThrows(IllegalArgumentException.class, () -> dispatcher.abandon("intent-1", "again"));
+        }
+        
+        try (PayoutDispatcher dispatcher = new PayoutDispatcher(transactions(), journal, 1)) {
+            assertTrue(dispatcher.getInDoubt().isEmpty());
+            assertTrue(dispatcher.getPending().isEmpty());
+        }
+    }
+
+    /**
+     * Build a client whose transport follows {@link #behaviour}
+     * 
+     * @return Transactions instance
+     */
+    private Transactions transactions() {
+        Transactions transactions = new Transactions("test-app-id", "test-app-key", "http://127.0.0.1:9");
+        transactions.setTransport(request -> {
+            calls.incrementAndGet();
+            return behaviour.get().execute(request);
+        });
+        return transactions;
+    }
+
+    /**
+     * Build a payout intent without a callback URL
+     * 
+     * @param intentId Local intent ID
+     * @return PayoutIntent instance
+     */
+    private static PayoutIntent intent(String intentId) {
+        return new PayoutIntent(intentId, "usdt", "10.00", "T-address", "123456", null);
+    }
+}
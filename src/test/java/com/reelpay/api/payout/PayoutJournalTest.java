@@ -0,0 +1,160 @@
+package com.reelpay.api.payout;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replay tests for the memory-mapped payout journal
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class PayoutJournalTest {
+
+    /** Smallest chunk size the journal accepts */
+    private static final int CHUNK_SIZE = 4096;
+    
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsInOrderWithNullFields() throws IOException {
+        Path file = directory.resolve("payouts.journal");
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            journal.append(true, (byte) 1, "intent-1", "usdt", "10.00", "T-address", null);
+            journal.append(false, (byte) 2, "intent-1");
+            journal.append(true, (byte) 3, "intent-1", "", "é€");
+        }
+        
+        List<String> replayed = replay(file);
+        assertEquals(Arrays.asList(
+                "1 [intent-1, usdt, 10.00, T-address, null]",
+                "2 [intent-1]",
+                "3 [intent-1, , é€]"), replayed);
+    }
+
+    @Test
+    void replaysRecordsAcrossChunks() throws IOException {
+        Path file = directory.resolve("payouts.journal");
+        char[] padding = new char[300];
+        Arrays.fill(padding, 'x');
+        List<String> expected = new ArrayList<>();
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            for (int i = 0; i < 50; i++) {
+                String intentId = "intent-" + i + "-" + new String(padding);
+                journal.append(i % 10 == 9, (byte) 1, intentId);
+                expected.add("1 [" + intentId + "]");
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertTrue(channel.size() > 3L * CHUNK_SIZE, "records should span several chunks");
+        }
+        
+        assertEquals(expected, replay(file));
+        // Appending after a multi-chunk replay continues after the last record
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            journal.append(true, (byte) 4, "last");
+        }
+        expected.add("4 [last]");
+        assertEquals(expected, replay(file));
+    }
+
+    @Test
+    void discardsCorruptTailAndResumesWritingThere() throws IOException {
+        Path file = directory.resolve("payouts.journal");
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            journal.append(true, (byte) 1, "intent-1");
+            journal.append(true, (byte) 1, "intent-2");
+            journal.append(true, (byte) 1, "intent-3");
+        }
+        // A crash in the middle of the third record leaves a payload that fails its checksum
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long third = recordOffset(channel, 2);
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0x7F}), third + 8 + 3);
+        }
+        
+        assertEquals(Arrays.asList("1 [intent-1]", "1 [intent-2]"), replay(file));
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            journal.append(true, (byte) 1, "intent-4");
+        }
+        assertEquals(Arrays.asList("1 [intent-1]", "1 [intent-2]", "1 [intent-4]"), replay(file));
+    }
+
+    @Test
+    void discardsRecordWhoseLengthRunsPastTheChunk() throws IOException {
+        Path file = directory.resolve("payouts.journal");
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE, (type, fields) -> { })) {
+            journal.append(true, (byte) 1, "intent-1");
+            journal.append(true, (byte) 1, "intent-2");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write((ByteBuffer) ByteBuffer.allocate(4).putInt(0, CHUNK_SIZE).rewind(), recordOffset(channel, 1));
+        }
+        
+        assertEquals(Arrays.asList("1 [intent-1]"), replay(file));
+    }
+
+    @Test
+    void rejectsFieldsTooLongToEncode() throws IOException {
+        Path file = directory.resolve("payouts.journal");
+        char[] field = new char[0xFFFF];
+        Arrays.fill(field, 'a');
+        try (PayoutJournal journal = new PayoutJournal(file, 1 << 20, (type, fields) -> { })) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(true, (byte) 1, new String(field)));
+            journal.append(true, (byte) 1, new String(field, 0, 0xFFFE));
+        }
+        List<String[]> fields = new ArrayList<>();
+        try (PayoutJournal journal = new PayoutJournal(file, 1 << 20, (type, record) -> fields.add(record))) {
+            assertEquals(1, fields.size());
+            assertArrayEquals(new String[] {new String(field, 0, 0xFFFE)}, fields.get(0));
+        }
+    }
+
+    /**
+     * Reopen a journal and collect its records as "type [fields]"
+     * 
+     * @param file Journal file
+     * @return replayed records in order
+     * @throws IOException if the journal cannot be opened
+     */
+    private static List<String> replay(Path file) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (PayoutJournal journal = new PayoutJournal(file, CHUNK_SIZE,
+                (type, fields) -> records.add(type + " " + Arrays.toString(fields)))) {
+            return records;
+        }
+    }
+
+    /**
+     * Find the file offset of a record in the first chunk
+     * 
+     * @param channel Journal file
+     * @param index Record index
+     * @return offset of the record header
+     * @throws IOException if the file cannot be read
+     */
+    private static long recordOffset(FileChannel channel, int index) throws IOException {
+        long offset = 0;
+        ByteBuffer length = ByteBuffer.allocate(4);
+        for (int i = 0; i < index; i++) {
+            length.clear();
+            channel.read(length, offset);
+            offset += 8 + length.getInt(0);
+        }
+        return offset;
+    }
+}
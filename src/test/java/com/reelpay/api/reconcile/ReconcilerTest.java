@@ -0,0 +1,150 @@
+package com.reelpay.api.reconcile;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.reelpay.api.HttpRequest.TransportResponse;
+import com.reelpay.api.Transactions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checkpoint, resume and retry tests for Reconciler
+ * 
+ * @author ReelPay SDK Team
+ * @version 1.0.1
+ */
+class ReconcilerTest {
+
+    /** Ledger entries in each test */
+    private static final int ENTRIES = 60;
+    
+    @TempDir
+    Path directory;
+    
+    /** Trade numbers whose lookup fails */
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    
+    /** Lookups per trade number */
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+    
+    /** Trade number whose lookup interrupts the reconciling thread, or null */
+    private volatile String crashAt;
+    
+    /** Thread running the reconciliation */
+    private volatile Thread runner;
+
+    @Test
+    void resumesAfterTheLastCheckpointDespiteAnEarlierFailedLookup() throws IOException {
+        Path ledger = ledger();
+        Path report = directory.resolve("diff.csv");
+        Path checkpoint = directory.resolve("ledger.checkpoint");
+        failing.add("RP-3");
+        crashAt = "RP-50";
+        
+        runner = Thread.currentThread();
+        try {
+            assertThrows(RuntimeException.class, () -> reconciler().run(ledger, report, checkpoint));
+        } finally {
+            Thread.interrupted();
+        }
+        assertTrue(Files.exists(checkpoint));
+        long saved = JsonParser.parseString(new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8))
+                .getAsJsonObject().get("sequence").getAsLong();
+        assertTrue(saved >= 40, "checkpoint stuck at entry " + saved);
+        
+        crashAt = null;
+        ReconciliationSummary summary = reconciler().run(ledger, report, checkpoint);
+        assertEquals(saved, summary.getResumedFrom());
+        assertEquals(ENTRIES, summary.getEntries());
+        assertEquals(1, summary.getCount(ReconciliationOutcome.QUERY_FAILED));
+        assertEquals(ENTRIES - 1, summary.getCount(ReconciliationOutcome.MATCHED));
+        assertFalse(Files.exists(checkpoint));
+        // Entries before the checkpoint, including the failed one, are not looked up again
+        assertEquals(1, lookups.get("RP-3").get());
+        assertEquals(1, lookups.get("RP-1").get());
+        
+        List<String> rows = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertEquals(Reconciler.REPORT_HEADER, rows.get(0));
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(1).startsWith("3,RP-3,QUERY_FAILED,PAID,,10.00,,"), rows.get(1));
+    }
+
+    @Test
+    void retriesOnlyTheFailedLookups() throws IOException {
+        Path ledger = ledger();
+        Path report = directory.resolve("diff.csv");
+        failing.add("RP-3");
+        failing.add("RP-17");
+        ReconciliationSummary first = reconciler().run(ledger, report, directory.resolve("ledger.checkpoint"));
+        assertEquals(2, first.getCount(ReconciliationOutcome.QUERY_FAILED));
+        
+        failing.clear();
+        lookups.clear();
+        Path retryReport = directory.resolve("retry.csv");
+        ReconciliationSummary retry = reconciler().retryFailed(report, retryReport, directory.resolve("retry.checkpoint"));
+        
+        assertEquals(2, retry.getEntries());
+        assertEquals(2, retry.getCount(ReconciliationOutcome.MATCHED));
+        assertEquals(2, lookups.size());
+        assertEquals(1, lookups.get("RP-3").get());
+        assertEquals(1, lookups.get("RP-17").get());
+        assertEquals(1, Files.readAllLines(retryReport, StandardCharsets.UTF_8).size());
+        assertFalse(Files.exists(directory.resolve("retry.checkpoint")));
+        assertFalse(Files.exists(directory.resolve("retry.csv.ledger.csv")));
+    }
+
+    /**
+     * Write a CSV ledger of paid 10.00 orders RP-1 to RP-{@value #ENTRIES}
+     * 
+     * @return ledger file
+     * @throws IOException if the file cannot be written
+     */
+    private Path ledger() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("trade_no,status,amount");
+        for (int i = 1; i <= ENTRIES; i++) {
+            lines.add("RP-" + i + ",PAID,10.00");
+        }
+        return Files.write(directory.resolve("ledger.csv"), lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Build a reconciler that looks orders up one at a time, checkpointing every 5 entries
+     * 
+     * @return Reconciler instance
+     */
+    private Reconciler reconciler() {
+        Transactions transactions = new Transactions("test-app-id", "test-app-key", "http://127.0.0.1:9");
+        transactions.setTransport(request -> {
+            JsonObject body = JsonParser.parseString(new String(request.getBody(), StandardCharsets.UTF_8)).getAsJsonObject();
+            String tradeNo = body.get("trade_no").getAsString();
+            lookups.computeIfAbsent(tradeNo, key -> new AtomicInteger()).incrementAndGet();
+            if (tradeNo.equals(crashAt)) {
+                runner.interrupt();
+            }
+            if (failing.contains(tradeNo)) {
+                throw new IOException("connection reset");
+            }
+            String order = "{\"code\":200,\"message\":\"success\",\"data\":{\"trade_no\":\"" + tradeNo
+                    + "\",\"status\":\"PAID\",\"fiat_amount\":\"10.0\"}}";
+            return TransportResponse.of(200, order.getBytes(StandardCharsets.UTF_8));
+        });
+        return new Reconciler(transactions).setConcurrency(1).setCheckpointInterval(5);
+    }
+}